@@ -4,24 +4,43 @@ import co.parcial.corte3.modelo.Automovil;
 import co.parcial.corte3.modelo.Camion;
 import co.parcial.corte3.modelo.Motocicleta;
 import co.parcial.corte3.modelo.Vehiculo;
+import co.parcial.corte3.servicios.Bitacora;
+import co.parcial.corte3.servicios.EventoCambio;
 import co.parcial.corte3.servicios.ImplementacionCRUD;
+import co.parcial.corte3.servicios.InstantaneaFlota;
+import co.parcial.corte3.servicios.LectorVehiculos;
+import co.parcial.corte3.servicios.OyenteCambios;
+import co.parcial.corte3.servicios.Pagina;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
+import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 
+import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
 
+import javafx.application.Platform;
 import javafx.fxml.Initializable;
+import javafx.geometry.Side;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 
@@ -62,6 +81,21 @@ import javafx.scene.control.Alert.AlertType;
  */
 public class ControladorFormulario implements Initializable {
 
+	/** Cantidad de vehículos que se muestran por página en el modo paginado. */
+	private static final int TAMANO_PAGINA = 100;
+
+	/** Cantidad máxima de placas sugeridas mientras se escribe en el buscador. */
+	private static final int MAX_SUGERENCIAS = 8;
+
+	/** Cantidad de vehículos que se entregan juntos al CRUD durante una carga. */
+	private static final int TAMANO_LOTE_CARGA = 2000;
+
+	/**
+	 * Cantidad máxima de lotes leídos que esperan a ser aplicados. Limita la
+	 * memoria de la carga cuando la lectura es más rápida que la interfaz.
+	 */
+	private static final int LOTES_EN_VUELO = 4;
+
 	/**
 	 * Botón para eliminar un vehículo seleccionado.
 	 */
@@ -213,6 +247,45 @@ public class ControladorFormulario implements Initializable {
 	@FXML
 	private TextField txtPlaca;
 
+	/** Casilla que activa el modo paginado de la tabla. */
+	@FXML
+	private CheckBox chkPaginado;
+
+	/** Botón para ir a la página anterior en el modo paginado. */
+	@FXML
+	private Button bttAnterior;
+
+	/** Botón para ir a la página siguiente en el modo paginado. */
+	@FXML
+	private Button bttSiguiente;
+
+	/** Etiqueta que muestra el número de la página actual. */
+	@FXML
+	private Label lblPagina;
+
+	/** Casilla que activa las sugerencias de placas en el buscador. */
+	@FXML
+	private CheckBox chkSugerencias;
+
+	/** Menú emergente con las placas sugeridas bajo el buscador. */
+	private ContextMenu sugerencias;
+
+	/**
+	 * Cursores de las páginas visitadas en el modo paginado. El último elemento
+	 * es el cursor de la página actual; los anteriores permiten retroceder.
+	 */
+	private final List<Integer> cursoresPagina = new ArrayList<>();
+
+	/** Cursor de la página siguiente a la actual, o {@link Pagina#FIN}. */
+	private int siguienteCursor = Pagina.FIN;
+
+	/**
+	 * Posición de cada vehículo dentro de {@code vehiculos} fuera del modo
+	 * paginado, indexada por identidad. Permite aplicar los eventos del CRUD sin
+	 * buscar el vehículo en la lista.
+	 */
+	private final Map<Vehiculo, Integer> posicionesTabla = new IdentityHashMap<>();
+
 	/**
 	 * Lista observable de vehículos que se muestra en la tabla. Permite mantener
 	 * sincronizada la vista con los datos almacenados en el sistema.
@@ -227,6 +300,24 @@ public class ControladorFormulario implements Initializable {
 	 */
 	ImplementacionCRUD ic;
 
+	/**
+	 * Oyente que mantiene la tabla al día con los eventos de {@code ic}. Se
+	 * conserva para poder pasarlo al almacenamiento nuevo tras una carga.
+	 */
+	private final OyenteCambios oyenteTabla = this::onCambio;
+
+	/**
+	 * Bitácora que hace durable cada operación del CRUD sobre la última
+	 * instantánea de {@code "binaryfile.bin"}, o {@code null} si no pudo abrirse.
+	 */
+	private Bitacora bitacora;
+
+	/**
+	 * Indica si ya hay un refresco de la página actual programado, para que los
+	 * eventos de una misma operación en lote la lean una sola vez.
+	 */
+	private boolean refrescoPendiente;
+
 	/**
 	 * Inicializa la interfaz gráfica del formulario una vez que todos los elementos
 	 * han sido cargados por JavaFX. Este método se ejecuta automáticamente al
@@ -241,6 +332,8 @@ public class ControladorFormulario implements Initializable {
 	 * inicial.</li>
 	 * <li>Cargar todos los vehículos existentes desde el CRUD y mostrarlos en la
 	 * tabla.</li>
+	 * <li>Restaurar la última instantánea guardada y las operaciones registradas
+	 * en la bitácora después de ella.</li>
 	 * <li>Inicializar los elementos {@code ComboBox} con los tipos de vehículo
 	 * disponibles.</li>
 	 * <li>Configurar las columnas de la tabla para mostrar propiedades dinámicas
@@ -260,9 +353,24 @@ public class ControladorFormulario implements Initializable {
 		ic = new ImplementacionCRUD(10);
 
 		// Cargar vehículos desde el CRUD al iniciar
-		vehiculos = FXCollections.observableArrayList(ic.readAll());
+		vehiculos = FXCollections.observableArrayList();
+		refrescarTabla();
 		tblView.setItems(vehiculos);
 
+		// La tabla se mantiene al día con los eventos del CRUD
+		ic.suscribir(oyenteTabla);
+
+		// Restaura la última instantánea y las operaciones registradas después de ella
+		bitacora = new Bitacora(ic, "", "binaryfile.bin", Bitacora.Sincronizacion.POR_OPERACION);
+		try {
+			bitacora.recuperar();
+		} catch (IOException e) {
+			bitacora = null;
+			Alert alert = new Alert(AlertType.WARNING);
+			alert.setContentText("No se pudo recuperar la bitácora: " + e.getMessage());
+			alert.show();
+		}
+
 		comboVehiculo.getItems().addAll("Automóvil", "Motocicleta", "Camión");
 		comboTipoVehiculoView.getItems().addAll("Todos", "Automóvil", "Motocicleta", "Camión");
 
@@ -282,6 +390,14 @@ public class ControladorFormulario implements Initializable {
 				return new SimpleStringProperty("N/A");
 			}
 		});
+
+		sugerencias = new ContextMenu();
+		txtBuscador.textProperty().addListener((obs, anterior, texto) -> mostrarSugerencias(texto));
+		txtBuscador.focusedProperty().addListener((obs, anterior, enfocado) -> {
+			if (!enfocado) {
+				sugerencias.hide();
+			}
+		});
 	}
 
 	/**
@@ -370,30 +486,32 @@ public class ControladorFormulario implements Initializable {
 	@FXML
 	void onBuscar(ActionEvent event) {
 		String tipoSeleccionado = comboTipoVehiculoView.getValue();
-		Vehiculo[] resultados;
 
 		if (tipoSeleccionado == null || tipoSeleccionado.equalsIgnoreCase("Todos")) {
-			resultados = ic.readAll();
-		} else {
-			Class<?> tipo;
+			refrescarTabla();
+			tblView.setItems(vehiculos);
+			tblView.setVisible(true);
+			return;
+		}
 
-			switch (tipoSeleccionado) {
-			case "Automóvil":
-				tipo = Automovil.class;
-				break;
-			case "Motocicleta":
-				tipo = Motocicleta.class;
-				break;
-			case "Camión":
-				tipo = Camion.class;
-				break;
-			default:
-				tipo = Vehiculo.class;
-			}
+		Class<?> tipo;
 
-			resultados = ic.readByTipo(tipo);
+		switch (tipoSeleccionado) {
+		case "Automóvil":
+			tipo = Automovil.class;
+			break;
+		case "Motocicleta":
+			tipo = Motocicleta.class;
+			break;
+		case "Camión":
+			tipo = Camion.class;
+			break;
+		default:
+			tipo = Vehiculo.class;
 		}
 
+		Vehiculo[] resultados = ic.readByTipo(tipo);
+
 		tblView.setItems(FXCollections.observableArrayList(resultados));
 		tblView.setVisible(true);
 	}
@@ -461,9 +579,8 @@ public class ControladorFormulario implements Initializable {
 				return;
 			}
 
-			// Validar duplicado de placa con lista sincronizada
-			boolean placaExiste = vehiculos.stream().anyMatch(v -> v.getPlaca().equalsIgnoreCase(placa));
-			if (placaExiste) {
+			// Validar duplicado de placa con el índice del CRUD
+			if (ic.read(placa) != null) {
 				alert.setAlertType(AlertType.WARNING);
 				alert.setContentText("Ya existe un vehículo con esta placa.");
 				alert.show();
@@ -541,12 +658,9 @@ public class ControladorFormulario implements Initializable {
 				break;
 			}
 
-			// Persistir
+			// Persistir (la tabla se actualiza con el evento del CRUD)
 			String mensaje = ic.create(nuevoVehiculo);
 
-			// Sincronizar lista
-			vehiculos.setAll(ic.readAll());
-
 			alert.setAlertType(AlertType.INFORMATION);
 			alert.setContentText("Vehículo creado exitosamente.\n" + mensaje);
 			alert.show();
@@ -810,8 +924,6 @@ public class ControladorFormulario implements Initializable {
 			// correctamente
 			String mensaje = ic.update(seleccionado, vehiculoActualizado);
 
-			vehiculos.setAll(ic.readAll());
-
 			alert.setAlertType(AlertType.INFORMATION);
 			alert.setContentText("Vehículo actualizado exitosamente.\n" + mensaje);
 			alert.show();
@@ -867,11 +979,9 @@ public class ControladorFormulario implements Initializable {
 
 		Optional<javafx.scene.control.ButtonType> resultado = confirmacion.showAndWait();
 		if (resultado.isPresent() && resultado.get() == javafx.scene.control.ButtonType.OK) {
+			// La lista observable se actualiza con el evento del CRUD
 			String mensaje = ic.delete(seleccionado.getPlaca());
 
-			// Refrescar la lista observable y la vista
-			vehiculos.setAll(ic.readAll());
-
 			Alert alert = new Alert(Alert.AlertType.INFORMATION);
 			alert.setContentText(mensaje);
 			alert.show();
@@ -887,9 +997,20 @@ public class ControladorFormulario implements Initializable {
 	 * binario.
 	 * 
 	 * <p>
-	 * Este método obtiene todos los vehículos actualmente gestionados por el CRUD,
-	 * y los serializa en un archivo llamado {@code "binaryfile.bin"} usando el
-	 * método {@code serializar} de la implementación CRUD.
+	 * Este método toma el estado de los vehículos actualmente gestionados por el
+	 * CRUD y lo guarda en segundo plano junto al archivo
+	 * {@code "binaryfile.bin"}. Mientras tanto, la interfaz sigue respondiendo y
+	 * los cambios que se hagan no alteran lo guardado: se guarda exactamente el
+	 * estado del momento en que se pulsó el botón.
+	 * </p>
+	 * 
+	 * <p>
+	 * Como cada operación ya queda en la bitácora, guardar no es necesario para
+	 * no perder cambios: es un guardado incremental que escribe solo los
+	 * vehículos modificados desde el guardado anterior y reduce la bitácora a las
+	 * operaciones posteriores. Cuando los cambios acumulados crecen, se fusionan
+	 * con {@code "binaryfile.bin"} en la misma tarea. Si la bitácora no pudo
+	 * abrirse, se usa el método {@code serializar} de la implementación CRUD.
 	 * </p>
 	 * 
 	 * <p>
@@ -903,30 +1024,64 @@ public class ControladorFormulario implements Initializable {
 	 */
 	@FXML
 	void serializar(ActionEvent event) {
-		Alert alert = new Alert(AlertType.INFORMATION);
-		alert.setTitle("Serialización");
+		Callable<String> guardado;
+		if (bitacora != null) {
+			guardado = bitacora.prepararGuardadoIncremental();
+		} else {
+			InstantaneaFlota instantanea = ic.instantanea();
+			guardado = () -> ic.serializar(instantanea.toArray(), "", "binaryfile.bin");
+		}
 
-		// Serializa todos los vehículos actuales en la estructura del CRUD
-		String resultado = ic.serializar(ic.readAll(), "", "binaryfile.bin");
+		Task<String> tarea = new Task<String>() {
+			@Override
+			protected String call() throws Exception {
+				return guardado.call();
+			}
+		};
 
-		alert.setContentText(resultado);
-		alert.show();
+		tarea.setOnSucceeded(e -> {
+			bttSerializar.setDisable(false);
+			Alert alert = new Alert(AlertType.INFORMATION);
+			alert.setTitle("Serialización");
+			alert.setContentText(tarea.getValue());
+			alert.show();
+		});
+		tarea.setOnFailed(e -> {
+			bttSerializar.setDisable(false);
+			Alert alert = new Alert(AlertType.ERROR);
+			alert.setTitle("Serialización");
+			alert.setContentText("Error al guardar: " + tarea.getException().getMessage());
+			alert.show();
+		});
+
+		bttSerializar.setDisable(true);
+		new Thread(tarea, "serializacion").start();
 	}
 
 	/**
-	 * Deserializa la lista de vehículos desde un archivo binario y actualiza la
-	 * vista.
+	 * Deserializa la lista de vehículos desde un archivo binario y reemplaza con
+	 * ella la flota actual, mostrando los vehículos a medida que se leen.
 	 * 
 	 * <p>
-	 * Este método intenta cargar un arreglo de vehículos desde el archivo
-	 * {@code "binaryfile.bin"} mediante el método {@code deserializar} del CRUD.
-	 * Posteriormente, actualiza la lista observable y refresca la tabla con los
-	 * datos deserializados.
+	 * El archivo {@code "binaryfile.bin"} se recorre registro por registro con un
+	 * {@link LectorVehiculos} en un hilo aparte, y los vehículos se agregan en
+	 * lotes de {@value #TAMANO_LOTE_CARGA}, desde el hilo de la interfaz, a un
+	 * almacenamiento de carga separado de {@code ic}. Mientras dura la lectura,
+	 * la tabla muestra ese almacenamiento, de modo que las primeras filas
+	 * aparecen de inmediato, y la memoria de la lectura se limita a
+	 * {@value #LOTES_EN_VUELO} lotes. Antes de leer, la bitácora fusiona los
+	 * cambios incrementales con la base para que el archivo refleje el último
+	 * guardado.
 	 * </p>
 	 * 
 	 * <p>
-	 * En caso de error durante la lectura o deserialización del archivo, se muestra
-	 * una alerta con el mensaje de error.
+	 * La flota actual no se toca hasta que el archivo se leyó completo: solo
+	 * entonces, en un único paso del hilo de la interfaz, el almacenamiento de
+	 * carga pasa a ser {@code ic}, con la suscripción de la tabla y la bitácora,
+	 * que hace durable la flota cargada con un punto de control en segundo
+	 * plano. Si la lectura falla, o la bitácora no puede registrar la carga, se
+	 * muestra una alerta con el mensaje de error, la carga se descarta y la
+	 * tabla vuelve a mostrar la flota, que quedó como estaba.
 	 * </p>
 	 * 
 	 * @param event el evento de acción que dispara la deserialización, típicamente
@@ -936,28 +1091,316 @@ public class ControladorFormulario implements Initializable {
 	 */
 	@FXML
 	void deserializar(ActionEvent event) {
-		Alert alert = new Alert(Alert.AlertType.WARNING);
-		try {
-			// Asumiendo que ic.deserializar(...) devuelve un arreglo de Vehiculo[]
-			ic.setVehiculos(ic.deserializar("", "binaryfile.bin")); // Este método debe existir en tu CRUD
-			vehiculos.clear();
-
-			for (Vehiculo v : ic.readAll()) {
-				if (v != null)
-					vehiculos.add(v);
+		ImplementacionCRUD carga = new ImplementacionCRUD(TAMANO_LOTE_CARGA);
+		ObservableList<Vehiculo> filasCarga = FXCollections.observableArrayList();
+		boolean paginado = chkPaginado.isSelected();
+		tblView.setItems(filasCarga);
+
+		Semaphore enVuelo = new Semaphore(LOTES_EN_VUELO);
+		Task<Integer> tarea = new Task<Integer>() {
+			@Override
+			protected Integer call() throws Exception {
+				if (bitacora != null) {
+					bitacora.fusionar();
+				}
+				try (LectorVehiculos lector = LectorVehiculos.abrir("", "binaryfile.bin")) {
+					List<Vehiculo> lote = new ArrayList<>(TAMANO_LOTE_CARGA);
+					while (lector.hasNext()) {
+						lote.add(lector.next());
+						if (lote.size() == TAMANO_LOTE_CARGA || !lector.hasNext()) {
+							enVuelo.acquire();
+							List<Vehiculo> listo = lote;
+							Platform.runLater(() -> {
+								try {
+									// El almacenamiento de carga no tiene lápidas: los
+									// vehículos nuevos ocupan las posiciones siguientes
+									int antes = carga.size();
+									carga.createAll(listo);
+									if (!paginado || filasCarga.size() < TAMANO_PAGINA) {
+										int hasta = paginado ? Math.min(carga.size(), TAMANO_PAGINA) : carga.size();
+										filasCarga.addAll(carga.readPageDesde(antes, hasta - antes).getVehiculos());
+									}
+								} finally {
+									enVuelo.release();
+								}
+							});
+							lote = new ArrayList<>(TAMANO_LOTE_CARGA);
+						}
+					}
+					return lector.getCantidad();
+				}
 			}
+		};
 
+		// Los lotes se aplican antes que estos manejadores, en el orden en que se
+		// entregaron al hilo de la interfaz
+		tarea.setOnSucceeded(e -> {
+			habilitarEdicion(true);
+			if (bitacora != null) {
+				try {
+					bitacora.trasladar(carga);
+				} catch (IOException ex) {
+					loadTable(); // Vuelve a mostrar la flota actual
+					Alert alert = new Alert(Alert.AlertType.WARNING);
+					alert.setContentText("No se pudo registrar la carga en la bitácora; la flota queda como estaba: "
+							+ ex.getMessage());
+					alert.show();
+					return;
+				}
+			}
+			ic.desuscribir(oyenteTabla);
+			ic = carga;
+			ic.suscribir(oyenteTabla);
+			cursoresPagina.clear();
+			cursoresPagina.add(0);
+			refrescarTabla();
 			loadTable(); // Actualiza las columnas y la tabla
 
-			// Mensaje de éxito
 			Alert success = new Alert(Alert.AlertType.INFORMATION);
-			success.setContentText("Vehículos deserializados correctamente.");
+			success.setContentText(
+					ic.size() + " vehículos deserializados correctamente.\n" + ic.reporteMemoria());
 			success.show();
-
-		} catch (Exception e) {
-			alert.setContentText("Error al abrir el archivo: " + e.getMessage());
+		});
+		tarea.setOnFailed(e -> {
+			habilitarEdicion(true);
+			loadTable(); // Vuelve a mostrar la flota actual
+			Alert alert = new Alert(Alert.AlertType.WARNING);
+			alert.setContentText("Error al abrir el archivo: " + tarea.getException().getMessage());
 			alert.show();
+		});
+
+		habilitarEdicion(false);
+		new Thread(tarea, "deserializacion").start();
+	}
+
+	/**
+	 * Habilita o deshabilita los controles que modifican la flota o cambian lo
+	 * que muestra la tabla. Durante una carga la tabla muestra los vehículos
+	 * leídos, que todavía no pertenecen a {@code ic}.
+	 * 
+	 * @param habilitados si los controles deben quedar habilitados.
+	 */
+	private void habilitarEdicion(boolean habilitados) {
+		bttDeserealizar.setDisable(!habilitados);
+		bttSerializar.setDisable(!habilitados);
+		bttCreate.setDisable(!habilitados);
+		bttUpdate.setDisable(!habilitados);
+		btDelete.setDisable(!habilitados);
+		chkPaginado.setDisable(!habilitados);
+	}
+
+	// SUGERENCIAS:
+
+	/**
+	 * Muestra bajo el buscador las placas que empiezan por el texto escrito.
+	 * 
+	 * <p>
+	 * Las sugerencias se obtienen con {@code searchByPrefix}, que usa un índice
+	 * ordenado de placas, de modo que pueden calcularse en cada pulsación de tecla
+	 * aun con flotas muy grandes. Al elegir una sugerencia se completa la placa y
+	 * se ejecuta la búsqueda.
+	 * </p>
+	 * 
+	 * @param texto el texto actual del buscador.
+	 */
+	private void mostrarSugerencias(String texto) {
+		if (!chkSugerencias.isSelected() || texto == null || texto.trim().isEmpty()) {
+			sugerencias.hide();
+			return;
+		}
+
+		Vehiculo[] encontrados = ic.searchByPrefix(texto.trim(), MAX_SUGERENCIAS);
+		if (encontrados.length == 0) {
+			sugerencias.hide();
+			return;
+		}
+
+		List<MenuItem> items = new ArrayList<>(encontrados.length);
+		for (Vehiculo v : encontrados) {
+			MenuItem item = new MenuItem(v.getPlaca() + " - " + v.getMarca() + " " + v.getModelo());
+			item.setOnAction(e -> {
+				txtBuscador.setText(v.getPlaca());
+				sugerencias.hide();
+				read(e);
+			});
+			items.add(item);
+		}
+		sugerencias.getItems().setAll(items);
+		if (!sugerencias.isShowing()) {
+			sugerencias.show(txtBuscador, Side.BOTTOM, 0, 0);
+		}
+	}
+
+	// PAGINACIÓN:
+
+	/**
+	 * Activa o desactiva el modo paginado de la tabla.
+	 * 
+	 * <p>
+	 * En el modo paginado la tabla solo contiene {@value #TAMANO_PAGINA}
+	 * vehículos a la vez, leídos con {@code readPageDesde}, de modo que recorrer
+	 * una flota muy grande cuesta memoria y tiempo proporcionales a una página.
+	 * </p>
+	 * 
+	 * @param event el evento de acción generado por la casilla
+	 *              {@code chkPaginado}.
+	 */
+	@FXML
+	void onPaginado(ActionEvent event) {
+		boolean paginado = chkPaginado.isSelected();
+		bttAnterior.setVisible(paginado);
+		bttSiguiente.setVisible(paginado);
+		lblPagina.setVisible(paginado);
+
+		cursoresPagina.clear();
+		cursoresPagina.add(0);
+		refrescarTabla();
+		tblView.setItems(vehiculos);
+	}
+
+	/**
+	 * Muestra la página siguiente en el modo paginado.
+	 * 
+	 * @param event el evento de acción generado por el botón
+	 *              {@code bttSiguiente}.
+	 */
+	@FXML
+	void paginaSiguiente(ActionEvent event) {
+		if (siguienteCursor != Pagina.FIN) {
+			cursoresPagina.add(siguienteCursor);
+			refrescarTabla();
+		}
+	}
+
+	/**
+	 * Muestra la página anterior en el modo paginado.
+	 * 
+	 * @param event el evento de acción generado por el botón
+	 *              {@code bttAnterior}.
+	 */
+	@FXML
+	void paginaAnterior(ActionEvent event) {
+		if (cursoresPagina.size() > 1) {
+			cursoresPagina.remove(cursoresPagina.size() - 1);
+			refrescarTabla();
+		}
+	}
+
+	/**
+	 * Aplica a la tabla un cambio publicado por el CRUD.
+	 * 
+	 * <p>
+	 * Fuera del modo paginado, crear, actualizar o eliminar un vehículo modifica
+	 * una sola fila de {@code vehiculos}, sin volver a leer la flota: las
+	 * creaciones se agregan al final, las actualizaciones reemplazan la fila del
+	 * vehículo anterior y las eliminaciones mueven la última fila al hueco que
+	 * deja el vehículo eliminado. En el modo paginado se vuelve a leer la página
+	 * actual, cuyo costo es el de una página, una sola vez por cada tanda de
+	 * eventos del hilo de la interfaz. Un evento {@code RECARGADO} vuelve a
+	 * cargar la tabla completa desde la primera página; un {@code COMPACTADO}
+	 * solo invalida los cursores del modo paginado.
+	 * </p>
+	 * 
+	 * @param evento el cambio publicado por el CRUD.
+	 */
+	private void onCambio(EventoCambio evento) {
+		if (!Platform.isFxApplicationThread()) {
+			Platform.runLater(() -> onCambio(evento));
+			return;
+		}
+
+		if (evento.getTipo() == EventoCambio.Tipo.RECARGADO) {
+			cursoresPagina.clear();
+			cursoresPagina.add(0);
+			refrescarTabla();
+			return;
+		}
+		if (evento.getTipo() == EventoCambio.Tipo.COMPACTADO) {
+			// Fuera del modo paginado las filas no dependen de las posiciones
+			if (chkPaginado.isSelected()) {
+				cursoresPagina.clear();
+				cursoresPagina.add(0);
+				refrescarTabla();
+			}
+			return;
+		}
+		if (chkPaginado.isSelected()) {
+			if (!refrescoPendiente) {
+				refrescoPendiente = true;
+				Platform.runLater(() -> {
+					refrescoPendiente = false;
+					if (chkPaginado.isSelected()) {
+						refrescarTabla();
+					}
+				});
+			}
+			return;
+		}
+
+		switch (evento.getTipo()) {
+		case CREADO:
+			posicionesTabla.put(evento.getNuevo(), vehiculos.size());
+			vehiculos.add(evento.getNuevo());
+			break;
+		case ACTUALIZADO: {
+			Integer fila = posicionesTabla.remove(evento.getAnterior());
+			if (fila != null) {
+				posicionesTabla.put(evento.getNuevo(), fila);
+				vehiculos.set(fila, evento.getNuevo());
+			}
+			break;
+		}
+		case ELIMINADO: {
+			Integer fila = posicionesTabla.remove(evento.getAnterior());
+			if (fila != null) {
+				int ultima = vehiculos.size() - 1;
+				if (fila != ultima) {
+					Vehiculo movido = vehiculos.get(ultima);
+					posicionesTabla.put(movido, fila);
+					vehiculos.set(fila, movido);
+				}
+				vehiculos.remove(ultima);
+			}
+			break;
+		}
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Vuelve a cargar la lista observable {@code vehiculos} desde el CRUD.
+	 * 
+	 * <p>
+	 * En el modo paginado solo se lee la página actual; si quedó vacía (por
+	 * ejemplo, tras eliminar sus últimos vehículos) se retrocede a la anterior.
+	 * Fuera de ese modo se cargan todos los vehículos.
+	 * </p>
+	 */
+	private void refrescarTabla() {
+		if (!chkPaginado.isSelected()) {
+			// Recorre el CRUD sin copiarlo y notifica a la tabla una sola vez
+			List<Vehiculo> todos = new ArrayList<>(ic.size());
+			posicionesTabla.clear();
+			ic.forEach(v -> {
+				posicionesTabla.put(v, todos.size());
+				todos.add(v);
+			});
+			vehiculos.setAll(todos);
+			return;
 		}
+
+		Pagina pagina = ic.readPageDesde(cursoresPagina.get(cursoresPagina.size() - 1), TAMANO_PAGINA);
+		while (pagina.getVehiculos().length == 0 && cursoresPagina.size() > 1) {
+			cursoresPagina.remove(cursoresPagina.size() - 1);
+			pagina = ic.readPageDesde(cursoresPagina.get(cursoresPagina.size() - 1), TAMANO_PAGINA);
+		}
+		siguienteCursor = pagina.getSiguienteCursor();
+		vehiculos.setAll(pagina.getVehiculos());
+
+		lblPagina.setText("Página " + cursoresPagina.size());
+		bttAnterior.setDisable(cursoresPagina.size() == 1);
+		bttSiguiente.setDisable(!pagina.hayMas());
 	}
 
 	/**
@@ -0,0 +1,138 @@
+package co.parcial.corte3.servicios;
+
+/**
+ * La clase {@code AcumuladorResumen} acumula valores numéricos para producir un
+ * {@link ResumenAgregado}.
+ *
+ * <p>
+ * Un acumulador reversible admite además {@link #quitar(double)}. Solo guarda
+ * la cantidad, la suma y los extremos, igual que uno no reversible: al quitar
+ * un valor que coincide con el mínimo o el máximo, los extremos dejan de estar
+ * vigentes y quien use el acumulador debe recalcularlos a partir de los
+ * vehículos y fijarlos con {@link #fijarExtremos(double, double)} antes de
+ * pedir el resumen.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class AcumuladorResumen {
+
+	// Atributos
+	private final boolean reversible;
+	private long conteo;
+	private double suma;
+	private double minimo = Double.POSITIVE_INFINITY;
+	private double maximo = Double.NEGATIVE_INFINITY;
+	private boolean extremosVigentes = true;
+
+	/**
+	 * Constructor que crea un acumulador vacío.
+	 *
+	 * @param reversible {@code true} si el acumulador debe admitir
+	 *                   {@link #quitar(double)}.
+	 */
+	AcumuladorResumen(boolean reversible) {
+		this.reversible = reversible;
+	}
+
+	/**
+	 * Agrega un valor. Los valores {@code NaN} se ignoran.
+	 *
+	 * @param valor El valor a agregar.
+	 */
+	void agregar(double valor) {
+		if (Double.isNaN(valor)) {
+			return;
+		}
+		conteo++;
+		suma += valor;
+		minimo = Math.min(minimo, valor);
+		maximo = Math.max(maximo, valor);
+	}
+
+	/**
+	 * Quita un valor agregado previamente. Solo puede usarse en acumuladores
+	 * reversibles.
+	 *
+	 * @param valor El valor a quitar.
+	 */
+	void quitar(double valor) {
+		if (!reversible) {
+			throw new UnsupportedOperationException("El acumulador no es reversible.");
+		}
+		if (Double.isNaN(valor) || conteo == 0) {
+			return;
+		}
+		conteo--;
+		if (conteo == 0) {
+			// Al vaciarse se descarta el error de redondeo acumulado
+			suma = 0;
+			fijarExtremos(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+			return;
+		}
+		suma -= valor;
+		if (valor <= minimo || valor >= maximo) {
+			extremosVigentes = false;
+		}
+	}
+
+	/**
+	 * Indica si el acumulador no tiene valores.
+	 *
+	 * @return {@code true} si no se ha agregado ningún valor vigente.
+	 */
+	boolean isEmpty() {
+		return conteo == 0;
+	}
+
+	/**
+	 * Indica si el mínimo y el máximo siguen siendo los de los valores vigentes.
+	 *
+	 * @return {@code false} si se quitó un valor extremo y aún no se fijaron los
+	 *         nuevos extremos.
+	 */
+	boolean extremosVigentes() {
+		return extremosVigentes;
+	}
+
+	/**
+	 * Fija los extremos recalculados a partir de los valores vigentes.
+	 *
+	 * @param minimo El mínimo de los valores vigentes.
+	 * @param maximo El máximo de los valores vigentes.
+	 */
+	void fijarExtremos(double minimo, double maximo) {
+		this.minimo = minimo;
+		this.maximo = maximo;
+		extremosVigentes = true;
+	}
+
+	/**
+	 * Produce el resumen de los valores acumulados.
+	 *
+	 * @return El resumen, o {@link ResumenAgregado#VACIO} si no hay valores.
+	 * @throws IllegalStateException si los extremos no están vigentes.
+	 */
+	ResumenAgregado resumen() {
+		if (conteo == 0) {
+			return ResumenAgregado.VACIO;
+		}
+		if (!extremosVigentes) {
+			throw new IllegalStateException("Los extremos deben recalcularse antes de resumir.");
+		}
+		return new ResumenAgregado(conteo, suma, minimo, maximo);
+	}
+
+	/**
+	 * Produce el resumen de los valores acumulados con extremos obtenidos de otra
+	 * fuente, como un {@link IndiceRango} sobre los mismos valores.
+	 *
+	 * @param minimo El mínimo de los valores vigentes.
+	 * @param maximo El máximo de los valores vigentes.
+	 * @return El resumen, o {@link ResumenAgregado#VACIO} si no hay valores.
+	 */
+	ResumenAgregado resumen(double minimo, double maximo) {
+		return conteo == 0 ? ResumenAgregado.VACIO : new ResumenAgregado(conteo, suma, minimo, maximo);
+	}
+}
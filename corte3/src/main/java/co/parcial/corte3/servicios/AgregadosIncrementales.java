@@ -0,0 +1,181 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * La clase {@code AgregadosIncrementales} mantiene, para cada {@link Metrica},
+ * el resumen global y el resumen de cada grupo de cada {@link Agrupacion}. Se
+ * actualiza al agregar y quitar vehículos, de modo que consultar un total o un
+ * grupo no recorre los vehículos almacenados.
+ *
+ * <p>
+ * Los acumuladores solo guardan la cantidad, la suma y los extremos. El mínimo
+ * y el máximo globales se leen de los {@link IndiceRango} del almacenamiento,
+ * que ya mantienen los valores ordenados; los de un grupo se recalculan a
+ * partir de sus vehículos solo cuando se consulta el grupo después de quitarle
+ * un valor extremo.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class AgregadosIncrementales {
+
+	// Atributos
+	private final Map<Metrica, AcumuladorResumen> totales = new EnumMap<>(Metrica.class);
+	private final Map<Agrupacion, Map<Metrica, Map<String, AcumuladorResumen>>> grupos = new EnumMap<>(
+			Agrupacion.class);
+	private final Function<Metrica, IndiceRango> rangos;
+	private final BiFunction<Agrupacion, String, Vehiculo[]> miembros;
+
+	/**
+	 * Constructor que crea los acumuladores vacíos.
+	 *
+	 * @param rangos   Devuelve el índice de rango que contiene los valores de
+	 *                 una métrica.
+	 * @param miembros Devuelve los vehículos vigentes de un grupo, dada su clave
+	 *                 normalizada.
+	 */
+	AgregadosIncrementales(Function<Metrica, IndiceRango> rangos,
+			BiFunction<Agrupacion, String, Vehiculo[]> miembros) {
+		this.rangos = rangos;
+		this.miembros = miembros;
+		limpiar();
+	}
+
+	/**
+	 * Suma un vehículo a los resúmenes.
+	 *
+	 * @param v El vehículo a agregar.
+	 */
+	void agregar(Vehiculo v) {
+		for (Metrica m : Metrica.values()) {
+			double valor = m.valor(v);
+			if (Double.isNaN(valor)) {
+				continue;
+			}
+			totales.get(m).agregar(valor);
+			for (Agrupacion a : Agrupacion.values()) {
+				String clave = a.clave(v);
+				if (clave != null) {
+					grupos.get(a).get(m).computeIfAbsent(clave, k -> new AcumuladorResumen(true)).agregar(valor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Resta un vehículo de los resúmenes. Los grupos que quedan vacíos se
+	 * eliminan.
+	 *
+	 * @param v El vehículo a quitar.
+	 */
+	void quitar(Vehiculo v) {
+		for (Metrica m : Metrica.values()) {
+			double valor = m.valor(v);
+			if (Double.isNaN(valor)) {
+				continue;
+			}
+			totales.get(m).quitar(valor);
+			for (Agrupacion a : Agrupacion.values()) {
+				String clave = a.clave(v);
+				if (clave == null) {
+					continue;
+				}
+				Map<String, AcumuladorResumen> porClave = grupos.get(a).get(m);
+				AcumuladorResumen acumulador = porClave.get(clave);
+				if (acumulador != null) {
+					acumulador.quitar(valor);
+					if (acumulador.isEmpty()) {
+						porClave.remove(clave);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Descarta todos los valores acumulados.
+	 */
+	void limpiar() {
+		for (Metrica m : Metrica.values()) {
+			totales.put(m, new AcumuladorResumen(true));
+		}
+		for (Agrupacion a : Agrupacion.values()) {
+			Map<Metrica, Map<String, AcumuladorResumen>> porMetrica = new EnumMap<>(Metrica.class);
+			for (Metrica m : Metrica.values()) {
+				porMetrica.put(m, new HashMap<>());
+			}
+			grupos.put(a, porMetrica);
+		}
+	}
+
+	/**
+	 * Devuelve el resumen global de una métrica.
+	 *
+	 * @param metrica La métrica.
+	 * @return El resumen de todos los vehículos a los que se aplica la métrica.
+	 */
+	ResumenAgregado total(Metrica metrica) {
+		IndiceRango rango = rangos.apply(metrica);
+		return totales.get(metrica).resumen(rango.minimo(), rango.maximo());
+	}
+
+	/**
+	 * Devuelve el resumen de un grupo.
+	 *
+	 * @param agrupacion El criterio de agrupación.
+	 * @param metrica    La métrica.
+	 * @param clave      La clave normalizada del grupo.
+	 * @return El resumen del grupo, o {@link ResumenAgregado#VACIO} si no existe.
+	 */
+	ResumenAgregado grupo(Agrupacion agrupacion, Metrica metrica, String clave) {
+		AcumuladorResumen acumulador = grupos.get(agrupacion).get(metrica).get(clave);
+		return acumulador == null ? ResumenAgregado.VACIO : resumen(agrupacion, metrica, clave, acumulador);
+	}
+
+	/**
+	 * Devuelve el resumen de todos los grupos de un criterio.
+	 *
+	 * @param agrupacion El criterio de agrupación.
+	 * @param metrica    La métrica.
+	 * @return Un mapa de solo lectura, ordenado por clave, con el resumen de cada
+	 *         grupo.
+	 */
+	Map<String, ResumenAgregado> porGrupo(Agrupacion agrupacion, Metrica metrica) {
+		Map<String, ResumenAgregado> resultado = new TreeMap<>();
+		for (Map.Entry<String, AcumuladorResumen> e : grupos.get(agrupacion).get(metrica).entrySet()) {
+			resultado.put(e.getKey(), resumen(agrupacion, metrica, e.getKey(), e.getValue()));
+		}
+		return Collections.unmodifiableMap(resultado);
+	}
+
+	/**
+	 * Produce el resumen de un grupo, recalculando antes sus extremos si se le
+	 * quitó un valor extremo.
+	 */
+	private ResumenAgregado resumen(Agrupacion agrupacion, Metrica metrica, String clave,
+			AcumuladorResumen acumulador) {
+		if (!acumulador.extremosVigentes()) {
+			double minimo = Double.POSITIVE_INFINITY;
+			double maximo = Double.NEGATIVE_INFINITY;
+			for (Vehiculo v : miembros.apply(agrupacion, clave)) {
+				double valor = metrica.valor(v);
+				if (!Double.isNaN(valor)) {
+					minimo = Math.min(minimo, valor);
+					maximo = Math.max(maximo, valor);
+				}
+			}
+			acumulador.fijarExtremos(minimo, maximo);
+		}
+		return acumulador.resumen();
+	}
+}
@@ -0,0 +1,61 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+/**
+ * La enumeración {@code Agrupacion} define los criterios por los que pueden
+ * agruparse los vehículos al calcular agregaciones.
+ *
+ * <p>
+ * Las claves de grupo son cadenas: el nombre simple de la clase para
+ * {@link #TIPO} (por ejemplo, {@code "Camion"}) y la marca o el modelo
+ * normalizados (sin espacios en los extremos y en mayúsculas) para
+ * {@link #MARCA} y {@link #MODELO}, igual que en los índices secundarios.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public enum Agrupacion {
+
+	/** Agrupa por tipo de vehículo. */
+	TIPO,
+
+	/** Agrupa por marca. */
+	MARCA,
+
+	/** Agrupa por modelo. */
+	MODELO;
+
+	/**
+	 * Obtiene la clave del grupo al que pertenece un vehículo.
+	 *
+	 * @param v El vehículo.
+	 * @return La clave del grupo, o {@code null} si el vehículo no tiene valor
+	 *         para este criterio.
+	 */
+	public String clave(Vehiculo v) {
+		switch (this) {
+		case TIPO:
+			return v.getClass().getSimpleName();
+		case MARCA:
+			return normalizar(v.getMarca());
+		case MODELO:
+			return normalizar(v.getModelo());
+		default:
+			throw new AssertionError(this);
+		}
+	}
+
+	/**
+	 * Normaliza una marca o un modelo de la misma forma que los índices
+	 * secundarios.
+	 *
+	 * @param texto El texto a normalizar.
+	 * @return El texto normalizado, o {@code null} si {@code texto} es
+	 *         {@code null}.
+	 */
+	public static String normalizar(String texto) {
+		return texto == null ? null : IndicePlaca.normalizar(texto.trim());
+	}
+}
@@ -0,0 +1,380 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * La clase {@code ArchivoBinarioVehiculos} implementa {@code OperacionArchivo}
+ * con un formato binario propio, compacto y versionado, en lugar de la
+ * serialización de Java.
+ *
+ * <p>
+ * El archivo comienza con un encabezado (la marca {@code VEHI}, la versión y la
+ * cantidad de registros) seguido de un registro por vehículo:
+ * </p>
+ * <ul>
+ * <li>la etiqueta de tipo (un byte, como en {@link FormatoRegistro});</li>
+ * <li>la placa, como texto directo;</li>
+ * <li>la marca y el modelo, como texto de diccionario;</li>
+ * <li>el peso ({@code double});</li>
+ * <li>el estilo (texto de diccionario), el cilindraje o la capacidad de carga
+ * ({@code double}), según el tipo.</li>
+ * </ul>
+ *
+ * <p>
+ * Un texto directo es un entero variable con la longitud más uno ({@code 0}
+ * para {@code null}) seguido de los bytes en UTF-8. Un texto de diccionario es
+ * un entero variable con el código del valor más uno: los valores se numeran en
+ * el orden en que aparecen, y la primera aparición va seguida del texto
+ * directo. Así, las marcas, modelos y estilos repetidos ocupan uno o dos bytes
+ * por registro, y la lectura comparte una sola instancia por valor.
+ * </p>
+ *
+ * <p>
+ * {@link #deserializar(String, String)} reconoce también los archivos escritos
+ * con la serialización de Java por versiones anteriores y los lee con
+ * {@link ObjectInputStream}.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class ArchivoBinarioVehiculos implements OperacionArchivo {
+
+	/** Marca de inicio del formato: los bytes {@code "VEHI"}. */
+	static final int MARCA = 0x56454849;
+
+	/** Versión del formato que escribe esta clase. */
+	static final int VERSION = 1;
+
+	/** Primeros dos bytes de un flujo de serialización de Java. */
+	private static final int MARCA_SERIALIZACION = 0xACED;
+
+	/** Posición, dentro del encabezado, de la cantidad de registros. */
+	static final int POSICION_CANTIDAD = 6;
+
+	private static final int TAMANO_BUFFER = 1 << 16;
+
+	/**
+	 * Capacidad máxima que se reserva a partir de la cantidad del encabezado;
+	 * más allá, el arreglo crece a medida que se leen registros válidos.
+	 */
+	private static final int RESERVA_MAXIMA = 1 << 16;
+
+	/**
+	 * Serializa un arreglo de vehículos en el formato binario y lo guarda en un
+	 * archivo. Las posiciones nulas del arreglo se omiten.
+	 *
+	 * @param vehiculos El arreglo de vehículos a serializar.
+	 * @param path      La ruta donde se guardará el archivo.
+	 * @param name      El nombre del archivo.
+	 * @return Un mensaje indicando el resultado de la operación.
+	 */
+	@Override
+	public String serializar(Vehiculo[] vehiculos, String path, String name) {
+		try (OutputStream archivo = new FileOutputStream(path + name)) {
+			escribir(vehiculos, archivo);
+			return "Archivo guardado exitosamente.";
+		} catch (IOException ioe) {
+			return "Error al guardar archivo: " + ioe.getMessage();
+		}
+	}
+
+	/**
+	 * Escribe un arreglo de vehículos en el formato binario.
+	 *
+	 * @param vehiculos El arreglo de vehículos; las posiciones nulas se omiten.
+	 * @param destino   El flujo de destino. No se cierra.
+	 * @throws IOException si ocurre un error de escritura o algún vehículo no es
+	 *                     de un tipo conocido.
+	 */
+	public void escribir(Vehiculo[] vehiculos, OutputStream destino) throws IOException {
+		int cantidad = 0;
+		for (Vehiculo v : vehiculos) {
+			if (v != null) {
+				cantidad++;
+			}
+		}
+
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(destino, TAMANO_BUFFER));
+		escribirEncabezado(out, cantidad);
+
+		Map<String, Integer> diccionario = new HashMap<>();
+		for (Vehiculo v : vehiculos) {
+			if (v != null) {
+				escribirVehiculo(out, diccionario, v);
+			}
+		}
+		out.flush();
+	}
+
+	/**
+	 * Escribe el encabezado del formato binario.
+	 *
+	 * @param out      El flujo de destino, posicionado al inicio.
+	 * @param cantidad La cantidad de registros que seguirán. Puede corregirse
+	 *                 después escribiendo en {@link #POSICION_CANTIDAD}.
+	 * @throws IOException si ocurre un error de escritura.
+	 */
+	static void escribirEncabezado(DataOutputStream out, int cantidad) throws IOException {
+		out.writeInt(MARCA);
+		out.writeShort(VERSION);
+		out.writeInt(cantidad);
+	}
+
+	/**
+	 * Escribe un registro del formato binario.
+	 *
+	 * @param out         El flujo de destino.
+	 * @param diccionario Los textos repetidos escritos hasta ahora, con su
+	 *                    código; se amplía con los nuevos.
+	 * @param v           El vehículo a escribir.
+	 * @throws IOException si ocurre un error de escritura o el vehículo no es de
+	 *                     un tipo conocido.
+	 */
+	static void escribirVehiculo(DataOutputStream out, Map<String, Integer> diccionario, Vehiculo v)
+			throws IOException {
+		byte tipo = FormatoRegistro.etiqueta(v.getClass());
+		if (tipo < 0) {
+			throw new IOException("Tipo de vehículo no soportado: " + v.getClass().getName());
+		}
+		out.writeByte(tipo);
+		escribirTexto(out, v.getPlaca());
+		escribirTextoRepetido(out, diccionario, v.getMarca());
+		escribirTextoRepetido(out, diccionario, v.getModelo());
+		out.writeDouble(v.getPeso());
+		switch (tipo) {
+		case FormatoRegistro.TIPO_AUTOMOVIL:
+			escribirTextoRepetido(out, diccionario, ((Automovil) v).getEstilo());
+			break;
+		case FormatoRegistro.TIPO_MOTOCICLETA:
+			out.writeDouble(((Motocicleta) v).getCilindrajeMotor());
+			break;
+		case FormatoRegistro.TIPO_CAMION:
+			out.writeDouble(((Camion) v).getCapacidadCarga());
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Deserializa un archivo y devuelve el arreglo de vehículos almacenado en
+	 * él. Acepta el formato binario y el de serialización de Java.
+	 *
+	 * @param path La ruta del archivo a deserializar.
+	 * @param name El nombre del archivo a deserializar.
+	 * @return El arreglo de vehículos.
+	 * @throws UncheckedIOException si el archivo no pudo leerse; su mensaje
+	 *                              describe el error, como el que devuelve
+	 *                              {@link #serializar}.
+	 */
+	@Override
+	public Vehiculo[] deserializar(String path, String name) {
+		try (InputStream archivo = new FileInputStream(path + name)) {
+			return leer(archivo);
+		} catch (IOException ioe) {
+			throw new UncheckedIOException("Error al leer archivo: " + ioe.getMessage(), ioe);
+		} catch (ClassNotFoundException cnfe) {
+			throw new UncheckedIOException("Error al leer archivo: " + cnfe.getMessage(), new IOException(cnfe));
+		}
+	}
+
+	/**
+	 * Lee un arreglo de vehículos en el formato binario o en el de serialización
+	 * de Java.
+	 *
+	 * @param origen El flujo de origen. No se cierra.
+	 * @return El arreglo de vehículos leído.
+	 * @throws IOException            si el contenido está dañado, la versión no
+	 *                                es compatible o falla la lectura.
+	 * @throws ClassNotFoundException si un archivo de serialización de Java
+	 *                                contiene clases desconocidas.
+	 */
+	public Vehiculo[] leer(InputStream origen) throws IOException, ClassNotFoundException {
+		BufferedInputStream buffer = new BufferedInputStream(origen, TAMANO_BUFFER);
+		if (esSerializacionJava(buffer)) {
+			return (Vehiculo[]) new ObjectInputStream(buffer).readObject();
+		}
+
+		DataInputStream in = new DataInputStream(buffer);
+		int cantidad = leerEncabezado(in);
+		// La cantidad del encabezado no se usa para reservar memoria sin
+		// límite: un archivo dañado termina con EOFException al leer
+		List<Vehiculo> vehiculos = new ArrayList<>(Math.min(cantidad, RESERVA_MAXIMA));
+		List<String> diccionario = new ArrayList<>();
+		for (int i = 0; i < cantidad; i++) {
+			vehiculos.add(leerVehiculo(in, diccionario));
+		}
+		return vehiculos.toArray(new Vehiculo[0]);
+	}
+
+	/**
+	 * Indica si un flujo comienza con la marca de la serialización de Java, sin
+	 * consumir bytes.
+	 */
+	static boolean esSerializacionJava(BufferedInputStream in) throws IOException {
+		in.mark(2);
+		int marca = (in.read() << 8) | in.read();
+		in.reset();
+		return marca == MARCA_SERIALIZACION;
+	}
+
+	/**
+	 * Lee y valida el encabezado del formato binario.
+	 *
+	 * @param in El flujo, posicionado al inicio.
+	 * @return La cantidad de registros del archivo.
+	 * @throws IOException si la marca o la versión no son válidas.
+	 */
+	static int leerEncabezado(DataInputStream in) throws IOException {
+		if (in.readInt() != MARCA) {
+			throw new IOException("El archivo no tiene el formato de vehículos.");
+		}
+		int version = in.readUnsignedShort();
+		if (version > VERSION) {
+			throw new IOException("Versión de archivo no soportada: " + version + ".");
+		}
+		int cantidad = in.readInt();
+		if (cantidad < 0) {
+			throw new IOException("Cantidad de registros inválida: " + cantidad + ".");
+		}
+		return cantidad;
+	}
+
+	/**
+	 * Lee un registro del formato binario.
+	 *
+	 * @param in          El flujo, posicionado al inicio de un registro.
+	 * @param diccionario Los textos repetidos leídos hasta ahora; se amplía con
+	 *                    los nuevos.
+	 * @return El vehículo leído.
+	 * @throws IOException si el registro está dañado o falla la lectura.
+	 */
+	static Vehiculo leerVehiculo(DataInputStream in, List<String> diccionario) throws IOException {
+		byte tipo = in.readByte();
+		String placa = leerTexto(in);
+		String marca = leerTextoRepetido(in, diccionario);
+		String modelo = leerTextoRepetido(in, diccionario);
+		double peso = in.readDouble();
+		switch (tipo) {
+		case FormatoRegistro.TIPO_AUTOMOVIL:
+			return new Automovil(placa, marca, modelo, peso, leerTextoRepetido(in, diccionario));
+		case FormatoRegistro.TIPO_MOTOCICLETA:
+			return new Motocicleta(placa, marca, modelo, peso, in.readDouble());
+		case FormatoRegistro.TIPO_CAMION:
+			return new Camion(placa, marca, modelo, peso, in.readDouble());
+		case FormatoRegistro.TIPO_VEHICULO:
+			return new Vehiculo(placa, marca, modelo, peso);
+		default:
+			throw new IOException("Etiqueta de tipo desconocida: " + tipo + ".");
+		}
+	}
+
+	/**
+	 * Escribe un texto directo: su longitud en UTF-8 más uno ({@code 0} para
+	 * {@code null}) seguida de sus bytes.
+	 */
+	static void escribirTexto(DataOutputStream out, String valor) throws IOException {
+		if (valor == null) {
+			escribirEntero(out, 0);
+			return;
+		}
+		byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+		escribirEntero(out, bytes.length + 1);
+		out.write(bytes);
+	}
+
+	private static void escribirTextoRepetido(DataOutputStream out, Map<String, Integer> diccionario, String valor)
+			throws IOException {
+		if (valor == null) {
+			escribirEntero(out, 0);
+			return;
+		}
+		Integer codigo = diccionario.get(valor);
+		if (codigo != null) {
+			escribirEntero(out, codigo + 1);
+			return;
+		}
+		codigo = diccionario.size();
+		diccionario.put(valor, codigo);
+		escribirEntero(out, codigo + 1);
+		escribirTexto(out, valor);
+	}
+
+	/**
+	 * Lee un texto directo escrito con {@link #escribirTexto}.
+	 */
+	static String leerTexto(DataInputStream in) throws IOException {
+		int longitud = leerEntero(in);
+		if (longitud == 0) {
+			return null;
+		}
+		byte[] bytes = new byte[longitud - 1];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static String leerTextoRepetido(DataInputStream in, List<String> diccionario) throws IOException {
+		int codigo = leerEntero(in);
+		if (codigo == 0) {
+			return null;
+		}
+		if (codigo <= diccionario.size()) {
+			return diccionario.get(codigo - 1);
+		}
+		if (codigo != diccionario.size() + 1) {
+			throw new IOException("Código de diccionario inválido: " + codigo + ".");
+		}
+		String valor = leerTexto(in);
+		diccionario.add(valor);
+		return valor;
+	}
+
+	/**
+	 * Escribe un entero no negativo con 7 bits por byte; el bit alto indica que
+	 * siguen más bytes.
+	 */
+	private static void escribirEntero(DataOutputStream out, int valor) throws IOException {
+		while ((valor & ~0x7F) != 0) {
+			out.writeByte((valor & 0x7F) | 0x80);
+			valor >>>= 7;
+		}
+		out.writeByte(valor);
+	}
+
+	private static int leerEntero(DataInputStream in) throws IOException {
+		int valor = 0;
+		for (int desplazamiento = 0; desplazamiento < 32; desplazamiento += 7) {
+			int b = in.read();
+			if (b < 0) {
+				throw new EOFException();
+			}
+			valor |= (b & 0x7F) << desplazamiento;
+			if ((b & 0x80) == 0) {
+				return valor;
+			}
+		}
+		throw new IOException("Entero variable demasiado largo.");
+	}
+}
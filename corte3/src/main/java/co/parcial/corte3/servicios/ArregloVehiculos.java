@@ -0,0 +1,157 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.Arrays;
+
+/**
+ * La clase {@code ArregloVehiculos} es un arreglo segmentado de vehículos: los
+ * elementos se guardan en bloques de tamaño fijo ({@value #TAMANO_SEGMENTO}
+ * posiciones), de modo que crecer solo requiere reservar un bloque nuevo.
+ *
+ * <p>
+ * A diferencia de duplicar un arreglo contiguo, el crecimiento nunca copia los
+ * vehículos existentes ni necesita una única reserva de memoria gigante; lo
+ * único que se copia es el arreglo de referencias a los bloques, que es
+ * {@value #TAMANO_SEGMENTO} veces más pequeño.
+ * </p>
+ *
+ * <p>
+ * Los segmentos también permiten instantáneas baratas con copia en escritura:
+ * {@link #congelar()} comparte todos los segmentos con la instantánea y avanza
+ * la época del arreglo; la primera escritura posterior sobre un segmento
+ * compartido lo copia antes de modificarlo, de modo que la instantánea nunca ve
+ * cambios y ninguno de los dos lados necesita candados.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class ArregloVehiculos {
+
+	/** Cantidad de bits usados para el desplazamiento dentro de un segmento. */
+	private static final int BITS_SEGMENTO = 10;
+
+	/** Cantidad de posiciones de cada segmento. */
+	static final int TAMANO_SEGMENTO = 1 << BITS_SEGMENTO;
+
+	private static final int MASCARA = TAMANO_SEGMENTO - 1;
+
+	// Atributos
+	private Vehiculo[][] segmentos;
+	private int cantidadSegmentos;
+	private long[] epocas;
+	private long epoca;
+
+	/**
+	 * Constructor que reserva los segmentos necesarios para una capacidad
+	 * inicial.
+	 *
+	 * @param capacidadInicial La cantidad de posiciones que se reservan al inicio.
+	 */
+	ArregloVehiculos(int capacidadInicial) {
+		segmentos = new Vehiculo[4][];
+		epocas = new long[4];
+		cantidadSegmentos = 0;
+		epoca = 0;
+		asegurarCapacidad(Math.max(1, capacidadInicial));
+	}
+
+	/**
+	 * Constructor que copia el contenido de un arreglo contiguo en segmentos.
+	 *
+	 * @param origen El arreglo a copiar.
+	 */
+	ArregloVehiculos(Vehiculo[] origen) {
+		this(origen.length);
+		for (int inicio = 0; inicio < origen.length; inicio += TAMANO_SEGMENTO) {
+			System.arraycopy(origen, inicio, segmentos[inicio >>> BITS_SEGMENTO], 0,
+					Math.min(TAMANO_SEGMENTO, origen.length - inicio));
+		}
+	}
+
+	/**
+	 * Constructor de las instantáneas: comparte los segmentos dados y los marca
+	 * como ajenos, de modo que cualquier escritura los copie.
+	 */
+	private ArregloVehiculos(Vehiculo[][] segmentos, int cantidadSegmentos) {
+		this.segmentos = segmentos;
+		this.cantidadSegmentos = cantidadSegmentos;
+		this.epocas = new long[segmentos.length];
+		this.epoca = 1;
+	}
+
+	/**
+	 * Devuelve la cantidad de posiciones disponibles.
+	 *
+	 * @return La capacidad actual.
+	 */
+	int capacidad() {
+		return cantidadSegmentos << BITS_SEGMENTO;
+	}
+
+	/**
+	 * Agrega segmentos hasta alcanzar al menos la capacidad indicada.
+	 *
+	 * @param capacidad La capacidad mínima requerida.
+	 * @return {@code true} si fue necesario agregar segmentos.
+	 */
+	boolean asegurarCapacidad(int capacidad) {
+		boolean expandido = false;
+		while (capacidad() < capacidad) {
+			if (cantidadSegmentos == segmentos.length) {
+				segmentos = Arrays.copyOf(segmentos, segmentos.length * 2);
+				epocas = Arrays.copyOf(epocas, segmentos.length);
+			}
+			epocas[cantidadSegmentos] = epoca;
+			segmentos[cantidadSegmentos++] = new Vehiculo[TAMANO_SEGMENTO];
+			expandido = true;
+		}
+		return expandido;
+	}
+
+	/**
+	 * Devuelve el vehículo de una posición.
+	 *
+	 * @param posicion La posición a leer.
+	 * @return El vehículo almacenado, o {@code null} si la posición está libre.
+	 */
+	Vehiculo get(int posicion) {
+		return segmentos[posicion >>> BITS_SEGMENTO][posicion & MASCARA];
+	}
+
+	/**
+	 * Guarda un vehículo en una posición. Si el segmento está compartido con una
+	 * instantánea, primero se copia.
+	 *
+	 * @param posicion La posición a escribir.
+	 * @param v        El vehículo a guardar, o {@code null} para liberarla.
+	 */
+	void set(int posicion, Vehiculo v) {
+		int segmento = posicion >>> BITS_SEGMENTO;
+		if (epocas[segmento] != epoca) {
+			segmentos[segmento] = segmentos[segmento].clone();
+			epocas[segmento] = epoca;
+		}
+		segmentos[segmento][posicion & MASCARA] = v;
+	}
+
+	/**
+	 * Crea una instantánea del contenido actual que comparte los segmentos con
+	 * este arreglo. Las escrituras posteriores sobre este arreglo copian el
+	 * segmento afectado, por lo que la instantánea no cambia.
+	 *
+	 * <p>
+	 * El costo es proporcional a la cantidad de segmentos, no a la de vehículos.
+	 * La instantánea es de solo lectura para quien la usa: sus escrituras también
+	 * copiarían los segmentos, pero no deben hacerse.
+	 * </p>
+	 *
+	 * @return Un arreglo con el contenido actual.
+	 */
+	ArregloVehiculos congelar() {
+		ArregloVehiculos copia = new ArregloVehiculos(segmentos.clone(), cantidadSegmentos);
+		epoca++;
+		return copia;
+	}
+}
@@ -0,0 +1,1070 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * La clase {@code Bitacora} hace durables las modificaciones de un
+ * {@link ImplementacionCRUD} anexando cada creación, actualización y
+ * eliminación a un registro de escritura anticipada, de modo que el costo de
+ * persistir un cambio es proporcional al cambio y no al tamaño de la flota.
+ *
+ * <p>
+ * El estado durable se compone de tres archivos:
+ * </p>
+ * <ul>
+ * <li>la instantánea base ({@code name}, en el formato de
+ * {@link ArchivoBinarioVehiculos});</li>
+ * <li>los cambios incrementales ({@code name}{@value #EXTENSION_DELTA}): lotes
+ * con el último estado de cada placa modificada, o una lápida si fue
+ * eliminada;</li>
+ * <li>la bitácora ({@code name}{@value #EXTENSION}), con las operaciones
+ * posteriores al último lote. Cada registro tiene la forma
+ * {@code [longitud][crc32][operación]}.</li>
+ * </ul>
+ *
+ * <p>
+ * El encabezado de la bitácora identifica la instantánea base por su longitud
+ * y su CRC32, e indica cuántos bytes del archivo de cambios son válidos. Así,
+ * una bitácora que no corresponde a la base actual nunca se reproduce, y un
+ * lote escrito a medias se descarta.
+ * </p>
+ *
+ * <p>
+ * {@link #recuperar()} carga la base, aplica los cambios incrementales,
+ * reproduce la bitácora encima (descartando un último registro incompleto o
+ * dañado) y suscribe la bitácora al almacenamiento. Hay dos formas de guardar:
+ * </p>
+ * <ul>
+ * <li>un punto de control ({@link #prepararPuntoControl()}) escribe una base
+ * nueva en un archivo temporal, la renombra de forma atómica y vacía los
+ * cambios incrementales;</li>
+ * <li>un guardado incremental ({@link #prepararGuardadoIncremental()}) anexa un
+ * lote con las placas modificadas desde el guardado anterior. Cuando los
+ * cambios superan una fracción de la base, se fusionan con ella recorriéndola
+ * como flujo, en el mismo hilo del guardado.</li>
+ * </ul>
+ * <p>
+ * En ambos casos la bitácora queda solo con las operaciones posteriores. Las
+ * cargas completas ({@link EventoCambio.Tipo#RECARGADO}) hacen un punto de
+ * control en segundo plano; las compactaciones no cambian el contenido y no se
+ * registran. Una carga preparada en otro almacenamiento se adopta con
+ * {@link #trasladar(ImplementacionCRUD)}, que también cuenta como recarga.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class Bitacora implements OyenteCambios, Closeable {
+
+	/**
+	 * Cuándo se fuerzan al disco los registros anexados.
+	 */
+	public enum Sincronizacion {
+		/**
+		 * Después de cada operación: ningún cambio confirmado se pierde, salvo los
+		 * posteriores a una recarga en bloque mientras no termina su punto de
+		 * control en segundo plano.
+		 */
+		POR_OPERACION,
+		/**
+		 * Una vez por cada grupo de operaciones: ante una caída del sistema se
+		 * pierden, como máximo, las operaciones del último grupo.
+		 */
+		GRUPO,
+		/**
+		 * Periódicamente, desde un hilo aparte: ante una caída del sistema se
+		 * pierden, como máximo, las operaciones del último intervalo.
+		 */
+		PERIODICA
+	}
+
+	/** Extensión del archivo de la bitácora. */
+	public static final String EXTENSION = ".wal";
+
+	/** Extensión del archivo de cambios incrementales. */
+	public static final String EXTENSION_DELTA = ".delta";
+
+	/** Tamaño de grupo por defecto de {@link Sincronizacion#GRUPO}. */
+	public static final int TAMANO_GRUPO_POR_DEFECTO = 32;
+
+	/** Intervalo por defecto de {@link Sincronizacion#PERIODICA}, en milisegundos. */
+	public static final long INTERVALO_POR_DEFECTO_MS = 1000;
+
+	/**
+	 * Los cambios incrementales se fusionan con la base cuando superan esta
+	 * fracción de su tamaño ({@code 1/FRACCION_FUSION}).
+	 */
+	public static final int FRACCION_FUSION = 4;
+
+	/** Marca de inicio de la bitácora: los bytes {@code "VWAL"}. */
+	static final int MARCA = 0x5657414C;
+
+	/** Versión del formato de la bitácora. La versión 1 no tenía cambios incrementales. */
+	static final int VERSION = 2;
+
+	/** Marca, versión, longitud y CRC32 de la base, y bytes válidos de cambios. */
+	static final int TAMANO_ENCABEZADO = 4 + 2 + 8 + 4 + 8;
+
+	/** Tamaño del encabezado de la versión 1, sin los bytes de cambios. */
+	private static final int TAMANO_ENCABEZADO_V1 = 4 + 2 + 8 + 4;
+
+	/** Longitud y CRC32 de cada registro o lote. */
+	private static final int TAMANO_MARCO = 8;
+
+	/** Longitud máxima aceptada de un registro, para descartar marcos dañados. */
+	private static final int MAX_REGISTRO = 1 << 16;
+
+	private static final int TAMANO_BUFFER = 1 << 16;
+
+	// Operaciones
+	private static final byte OP_CREADO = 1;
+	private static final byte OP_ACTUALIZADO = 2;
+	private static final byte OP_ELIMINADO = 3;
+	/**
+	 * Barrera de una recarga en bloque: las operaciones siguientes no se aplican
+	 * sobre la base hasta que un punto de control la reemplace.
+	 */
+	private static final byte OP_RECARGADO = 4;
+
+	// Entradas de los lotes incrementales
+	private static final byte LAPIDA = 0;
+	private static final byte VIGENTE = 1;
+
+	private static final ArchivoBinarioVehiculos FORMATO = new ArchivoBinarioVehiculos();
+
+	// Atributos
+	private ImplementacionCRUD crud;
+	private final Path instantanea;
+	private final Path instantaneaTemporal;
+	private final Path cambios;
+	private final Path bitacora;
+	private final Path bitacoraTemporal;
+	private final Sincronizacion politica;
+	private final int tamanoGrupo;
+	private final long intervaloMillis;
+
+	private final ByteArrayOutputStream bufferRegistro = new ByteArrayOutputStream();
+	private final DataOutputStream salidaRegistro = new DataOutputStream(bufferRegistro);
+	private final CRC32 crc = new CRC32();
+	private final Semaphore turnoGuardado = new Semaphore(1);
+
+	private FileChannel canal;
+	private long inicio;
+	private long fin;
+	/**
+	 * Bytes de la bitácora descartados por las rotaciones desde que se abrió.
+	 * Una posición física más este valor identifica un registro aunque la
+	 * bitácora se rote.
+	 */
+	private long descartados;
+	/** Punto de control de una recarga que espera a que termine otro guardado. */
+	private InstantaneaFlota fotoPendiente;
+	private long cortePendiente;
+	private int pendientes;
+	private ScheduledExecutorService segundoPlano;
+	private IOException errorSegundoPlano;
+
+	private FileChannel canalCambios;
+	private long finCambios;
+	private long longitudBase;
+	private int sumaBase;
+	private SeguimientoCambios seguimiento;
+
+	/**
+	 * Constructor que usa el tamaño de grupo y el intervalo por defecto.
+	 *
+	 * @param crud     El almacenamiento cuyas modificaciones se registran.
+	 * @param path     La ruta del directorio de los archivos.
+	 * @param name     El nombre del archivo de la instantánea.
+	 * @param politica Cuándo se fuerzan al disco los registros.
+	 */
+	public Bitacora(ImplementacionCRUD crud, String path, String name, Sincronizacion politica) {
+		this(crud, path, name, politica, TAMANO_GRUPO_POR_DEFECTO, INTERVALO_POR_DEFECTO_MS);
+	}
+
+	/**
+	 * Constructor que permite configurar la política de sincronización.
+	 *
+	 * @param crud            El almacenamiento cuyas modificaciones se registran.
+	 * @param path            La ruta del directorio de los archivos.
+	 * @param name            El nombre del archivo de la instantánea.
+	 * @param politica        Cuándo se fuerzan al disco los registros.
+	 * @param tamanoGrupo     Las operaciones por grupo, con
+	 *                        {@link Sincronizacion#GRUPO}.
+	 * @param intervaloMillis El intervalo entre sincronizaciones, con
+	 *                        {@link Sincronizacion#PERIODICA}.
+	 * @throws IllegalArgumentException si {@code tamanoGrupo} o
+	 *                                  {@code intervaloMillis} no son positivos.
+	 */
+	public Bitacora(ImplementacionCRUD crud, String path, String name, Sincronizacion politica, int tamanoGrupo,
+			long intervaloMillis) {
+		if (tamanoGrupo <= 0 || intervaloMillis <= 0) {
+			throw new IllegalArgumentException("El tamaño de grupo y el intervalo deben ser positivos.");
+		}
+		this.crud = crud;
+		this.instantanea = Paths.get(path + name);
+		this.instantaneaTemporal = Paths.get(path + name + ".tmp");
+		this.cambios = Paths.get(path + name + EXTENSION_DELTA);
+		this.bitacora = Paths.get(path + name + EXTENSION);
+		this.bitacoraTemporal = Paths.get(path + name + EXTENSION + ".tmp");
+		this.politica = politica;
+		this.tamanoGrupo = tamanoGrupo;
+		this.intervaloMillis = intervaloMillis;
+	}
+
+	/**
+	 * El encabezado de una bitácora.
+	 */
+	private static final class Encabezado {
+
+		final long longitudBase;
+		final int sumaBase;
+		final long cambios;
+		final int tamano;
+
+		Encabezado(long longitudBase, int sumaBase, long cambios, int tamano) {
+			this.longitudBase = longitudBase;
+			this.sumaBase = sumaBase;
+			this.cambios = cambios;
+			this.tamano = tamano;
+		}
+
+		/**
+		 * Lee el encabezado de un archivo.
+		 *
+		 * @return El encabezado, o {@code null} si el archivo no existe o no es una
+		 *         bitácora.
+		 */
+		static Encabezado leer(Path archivo) throws IOException {
+			if (!Files.exists(archivo) || Files.size(archivo) < TAMANO_ENCABEZADO_V1) {
+				return null;
+			}
+			try (DataInputStream in = new DataInputStream(Files.newInputStream(archivo))) {
+				if (in.readInt() != MARCA) {
+					return null;
+				}
+				int version = in.readUnsignedShort();
+				long longitud = in.readLong();
+				int suma = in.readInt();
+				if (version == 1) {
+					return new Encabezado(longitud, suma, 0, TAMANO_ENCABEZADO_V1);
+				}
+				if (version != VERSION || Files.size(archivo) < TAMANO_ENCABEZADO) {
+					return null;
+				}
+				return new Encabezado(longitud, suma, in.readLong(), TAMANO_ENCABEZADO);
+			}
+		}
+
+		boolean correspondeA(long longitud, int suma) {
+			return longitudBase == longitud && sumaBase == suma;
+		}
+
+		static void escribir(FileChannel destino, long longitudBase, int sumaBase, long cambios)
+				throws IOException {
+			ByteBuffer encabezado = ByteBuffer.allocate(TAMANO_ENCABEZADO);
+			encabezado.putInt(MARCA).putShort((short) VERSION).putLong(longitudBase).putInt(sumaBase).putLong(cambios)
+					.flip();
+			while (encabezado.hasRemaining()) {
+				destino.write(encabezado);
+			}
+		}
+	}
+
+	/**
+	 * Restaura el almacenamiento a partir de la base, los cambios incrementales y
+	 * la bitácora, y empieza a registrar sus modificaciones.
+	 *
+	 * <p>
+	 * El contenido previo del almacenamiento se reemplaza. Si la bitácora termina
+	 * en un registro incompleto o dañado (por ejemplo, por una caída a mitad de
+	 * una escritura), ese registro y los siguientes se descartan.
+	 * </p>
+	 *
+	 * @return La cantidad de operaciones reproducidas desde la bitácora.
+	 * @throws IOException           si algún archivo no puede leerse o los
+	 *                               cambios incrementales están dañados.
+	 * @throws IllegalStateException si la bitácora ya fue abierta.
+	 */
+	public synchronized int recuperar() throws IOException {
+		if (canal != null) {
+			throw new IllegalStateException("La bitácora ya está abierta.");
+		}
+		Vehiculo[] flota = new Vehiculo[0];
+		long longitud = 0;
+		int suma = 0;
+		if (Files.exists(instantanea)) {
+			CRC32 sumaInstantanea = new CRC32();
+			try (InputStream archivo = new CheckedInputStream(Files.newInputStream(instantanea), sumaInstantanea)) {
+				flota = FORMATO.leer(archivo);
+				byte[] resto = new byte[8192];
+				while (archivo.read(resto) >= 0) {
+					// Se consume el resto para completar el CRC del archivo
+				}
+			} catch (ClassNotFoundException e) {
+				throw new IOException("La instantánea contiene clases desconocidas: " + e.getMessage(), e);
+			}
+			longitud = Files.size(instantanea);
+			suma = (int) sumaInstantanea.getValue();
+		}
+
+		// Un guardado pudo interrumpirse después de renombrar la base y antes de
+		// reemplazar la bitácora
+		Encabezado encabezado = Encabezado.leer(bitacora);
+		if (encabezado == null || !encabezado.correspondeA(longitud, suma)) {
+			Encabezado temporal = Encabezado.leer(bitacoraTemporal);
+			if (temporal != null && temporal.correspondeA(longitud, suma)) {
+				Files.move(bitacoraTemporal, bitacora, StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+				encabezado = temporal;
+			} else {
+				encabezado = null;
+			}
+		}
+		Files.deleteIfExists(bitacoraTemporal);
+		Files.deleteIfExists(instantaneaTemporal);
+
+		int aplicadas = 0;
+		try {
+			crud.setVehiculos(flota);
+
+			canalCambios = FileChannel.open(cambios, StandardOpenOption.CREATE, StandardOpenOption.READ,
+					StandardOpenOption.WRITE);
+			finCambios = encabezado == null ? 0 : encabezado.cambios;
+			if (canalCambios.size() < finCambios) {
+				throw new IOException("El archivo de cambios está incompleto.");
+			}
+			recorrerCambios(finCambios, (placa, v) -> {
+				if (v == null) {
+					crud.delete(placa);
+				} else {
+					guardar(crud.read(placa), v);
+				}
+			});
+			canalCambios.truncate(finCambios);
+
+			// Las operaciones de la bitácora también deben llegar al próximo lote
+			seguimiento = crud.seguirCambios();
+
+			canal = FileChannel.open(bitacora, StandardOpenOption.CREATE, StandardOpenOption.READ,
+					StandardOpenOption.WRITE);
+			if (encabezado != null) {
+				inicio = encabezado.tamano;
+				aplicadas = reproducir();
+			} else {
+				canal.truncate(0);
+				Encabezado.escribir(canal, longitud, suma, 0);
+				canal.force(true);
+				inicio = TAMANO_ENCABEZADO;
+			}
+		} catch (IOException | RuntimeException e) {
+			cerrarArchivos();
+			throw e;
+		}
+		longitudBase = longitud;
+		sumaBase = suma;
+		fin = canal.size();
+		canal.position(fin);
+		pendientes = 0;
+		descartados = 0;
+
+		segundoPlano = Executors.newSingleThreadScheduledExecutor(tarea -> {
+			Thread hilo = new Thread(tarea, "bitacora");
+			hilo.setDaemon(true);
+			return hilo;
+		});
+		if (politica == Sincronizacion.PERIODICA) {
+			segundoPlano.scheduleWithFixedDelay(() -> {
+				try {
+					forzar();
+				} catch (IOException e) {
+					registrarError(e);
+				}
+			}, intervaloMillis, intervaloMillis, TimeUnit.MILLISECONDS);
+		}
+		crud.suscribir(this);
+		return aplicadas;
+	}
+
+	/**
+	 * Aplica los registros válidos de la bitácora y recorta lo que quede después
+	 * del primero incompleto o dañado, o de una recarga sin punto de control.
+	 */
+	private int reproducir() throws IOException {
+		long tamano = canal.size();
+		long posicion = inicio;
+		int aplicadas = 0;
+		canal.position(posicion);
+		DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(canal), TAMANO_BUFFER));
+		while (tamano - posicion >= TAMANO_MARCO) {
+			int longitud = in.readInt();
+			int suma = in.readInt();
+			if (longitud <= 0 || longitud > MAX_REGISTRO || longitud > tamano - posicion - TAMANO_MARCO) {
+				break;
+			}
+			byte[] datos = new byte[longitud];
+			in.readFully(datos);
+			crc.reset();
+			crc.update(datos, 0, longitud);
+			if ((int) crc.getValue() != suma) {
+				break;
+			}
+			if (datos[0] == OP_RECARGADO) {
+				// La recarga no llegó a un punto de control: lo posterior no
+				// corresponde a la base y se descarta junto con la barrera
+				break;
+			}
+			aplicar(new DataInputStream(new ByteArrayInputStream(datos)));
+			posicion += TAMANO_MARCO + longitud;
+			aplicadas++;
+		}
+		if (posicion < tamano) {
+			canal.truncate(posicion);
+			canal.force(true);
+		}
+		return aplicadas;
+	}
+
+	/**
+	 * Aplica una operación de la bitácora. Las operaciones se aplican de forma
+	 * que repetir una ya aplicada no cambie el resultado: crear una placa
+	 * existente la actualiza y eliminar una inexistente no hace nada.
+	 */
+	private void aplicar(DataInputStream in) throws IOException {
+		byte operacion = in.readByte();
+		switch (operacion) {
+		case OP_CREADO: {
+			Vehiculo nuevo = ArchivoBinarioVehiculos.leerVehiculo(in, new ArrayList<>());
+			guardar(crud.read(nuevo.getPlaca()), nuevo);
+			break;
+		}
+		case OP_ACTUALIZADO: {
+			String placa = ArchivoBinarioVehiculos.leerTexto(in);
+			Vehiculo nuevo = ArchivoBinarioVehiculos.leerVehiculo(in, new ArrayList<>());
+			Vehiculo actual = crud.read(placa);
+			guardar(actual != null ? actual : crud.read(nuevo.getPlaca()), nuevo);
+			break;
+		}
+		case OP_ELIMINADO:
+			crud.delete(ArchivoBinarioVehiculos.leerTexto(in));
+			break;
+		default:
+			throw new IOException("Operación desconocida en la bitácora: " + operacion + ".");
+		}
+	}
+
+	private void guardar(Vehiculo actual, Vehiculo nuevo) {
+		if (actual == null) {
+			crud.create(nuevo);
+		} else {
+			crud.update(actual, nuevo);
+		}
+	}
+
+	/**
+	 * Recorre las entradas de los lotes incrementales hasta {@code limite},
+	 * entregando la placa normalizada y el vehículo, o {@code null} si es una
+	 * lápida.
+	 *
+	 * @throws IOException si algún lote está incompleto o dañado.
+	 */
+	private void recorrerCambios(long limite, BiConsumer<String, Vehiculo> accion) throws IOException {
+		canalCambios.position(0);
+		DataInputStream in = new DataInputStream(
+				new BufferedInputStream(Channels.newInputStream(canalCambios), TAMANO_BUFFER));
+		CRC32 sumaLote = new CRC32();
+		long posicion = 0;
+		while (posicion < limite) {
+			int longitud = in.readInt();
+			int suma = in.readInt();
+			if (longitud <= 0 || longitud > limite - posicion - TAMANO_MARCO) {
+				throw new IOException("El archivo de cambios está dañado.");
+			}
+			byte[] datos = new byte[longitud];
+			in.readFully(datos);
+			sumaLote.reset();
+			sumaLote.update(datos, 0, longitud);
+			if ((int) sumaLote.getValue() != suma) {
+				throw new IOException("El archivo de cambios está dañado.");
+			}
+			DataInputStream lote = new DataInputStream(new ByteArrayInputStream(datos));
+			int cantidad = lote.readInt();
+			List<String> diccionario = new ArrayList<>();
+			for (int i = 0; i < cantidad; i++) {
+				if (lote.readByte() == VIGENTE) {
+					Vehiculo v = ArchivoBinarioVehiculos.leerVehiculo(lote, diccionario);
+					accion.accept(IndicePlaca.normalizar(v.getPlaca()), v);
+				} else {
+					accion.accept(ArchivoBinarioVehiculos.leerTexto(lote), null);
+				}
+			}
+			posicion += TAMANO_MARCO + longitud;
+		}
+	}
+
+	/**
+	 * Anexa a la bitácora cada creación, actualización y eliminación.
+	 *
+	 * <p>
+	 * Una {@link EventoCambio.Tipo#COMPACTADO} no cambia el contenido y se
+	 * ignora. Ante un {@link EventoCambio.Tipo#RECARGADO} se anexa una barrera,
+	 * para que una recuperación no aplique las operaciones siguientes sobre la
+	 * base anterior, y se programa un punto de control en segundo plano. Si hay
+	 * otro guardado en curso, el punto de control se ejecuta en cuanto termine,
+	 * antes que cualquier otro guardado. Hasta que el punto de control termina,
+	 * una recuperación restaura el estado anterior a la recarga.
+	 * </p>
+	 *
+	 * @param evento El cambio ocurrido.
+	 * @throws UncheckedIOException si no se puede escribir en la bitácora.
+	 */
+	@Override
+	public void onCambio(EventoCambio evento) {
+		try {
+			switch (evento.getTipo()) {
+			case CREADO:
+				anexar(OP_CREADO, null, evento.getNuevo());
+				break;
+			case ACTUALIZADO:
+				anexar(OP_ACTUALIZADO, evento.getAnterior().getPlaca(), evento.getNuevo());
+				break;
+			case ELIMINADO:
+				anexar(OP_ELIMINADO, evento.getAnterior().getPlaca(), null);
+				break;
+			case RECARGADO:
+				// El contenido cambió en bloque: solo una instantánea nueva lo cubre
+				anexar(OP_RECARGADO, null, null);
+				programarPuntoControl();
+				break;
+			default:
+				break;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Error al escribir en la bitácora: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Pasa a registrar las modificaciones de otro almacenamiento, que reemplaza
+	 * por completo al anterior, por ejemplo una flota cargada aparte para no
+	 * tocar la actual hasta que la lectura termine. Se trata como una
+	 * {@link EventoCambio.Tipo#RECARGADO}: se anexa una barrera y se programa un
+	 * punto de control con el contenido del almacenamiento nuevo. Debe
+	 * invocarse desde el hilo que modifica el almacenamiento.
+	 *
+	 * @param nuevo El almacenamiento cuyas modificaciones se registrarán desde
+	 *              ahora.
+	 * @throws IOException           si no se puede escribir la barrera; en ese
+	 *                               caso se sigue registrando el almacenamiento
+	 *                               anterior.
+	 * @throws IllegalStateException si la bitácora no está abierta.
+	 */
+	public synchronized void trasladar(ImplementacionCRUD nuevo) throws IOException {
+		if (canal == null) {
+			throw new IllegalStateException("La bitácora no está abierta.");
+		}
+		// Si la barrera no se puede escribir, se sigue registrando el anterior
+		anexar(OP_RECARGADO, null, null);
+		crud.desuscribir(this);
+		crud.desuscribir(seguimiento);
+		crud = nuevo;
+		seguimiento = nuevo.seguirCambios();
+		seguimiento.marcarCompleto();
+		nuevo.suscribir(this);
+		programarPuntoControl();
+	}
+
+	private synchronized void anexar(byte operacion, String placa, Vehiculo v) throws IOException {
+		if (canal == null) {
+			throw new IOException("La bitácora no está abierta.");
+		}
+		bufferRegistro.reset();
+		salidaRegistro.writeLong(0);
+		salidaRegistro.writeByte(operacion);
+		if (operacion == OP_ACTUALIZADO || operacion == OP_ELIMINADO) {
+			ArchivoBinarioVehiculos.escribirTexto(salidaRegistro, placa);
+		}
+		if (v != null) {
+			ArchivoBinarioVehiculos.escribirVehiculo(salidaRegistro, new HashMap<>(), v);
+		}
+		byte[] datos = bufferRegistro.toByteArray();
+		int longitud = datos.length - TAMANO_MARCO;
+		crc.reset();
+		crc.update(datos, TAMANO_MARCO, longitud);
+		ByteBuffer registro = ByteBuffer.wrap(datos);
+		registro.putInt(0, longitud).putInt(4, (int) crc.getValue());
+		while (registro.hasRemaining()) {
+			canal.write(registro);
+		}
+		fin += datos.length;
+		pendientes++;
+		if (politica == Sincronizacion.POR_OPERACION
+				|| (politica == Sincronizacion.GRUPO && pendientes >= tamanoGrupo)) {
+			forzar();
+		}
+	}
+
+	/**
+	 * Ejecuta un punto de control en segundo plano sin esperar a que termine
+	 * otro guardado en curso. Si lo hay, la instantánea y la posición de la
+	 * bitácora se toman ahora y el punto de control queda pendiente hasta que
+	 * ese guardado libere el turno; una recarga posterior reemplaza al pendiente.
+	 */
+	private synchronized void programarPuntoControl() {
+		if (!turnoGuardado.tryAcquire()) {
+			fotoPendiente = crud.instantanea();
+			cortePendiente = fin + descartados;
+			return;
+		}
+		ejecutarEnSegundoPlano(new Guardado(false, true));
+	}
+
+	private void ejecutarEnSegundoPlano(Guardado guardado) {
+		segundoPlano.execute(() -> {
+			try {
+				guardado.ejecutar();
+			} catch (IOException | RuntimeException e) {
+				registrarError(e instanceof IOException ? (IOException) e
+						: new IOException("Error en el punto de control: " + e.getMessage(), e));
+			}
+		});
+	}
+
+	/**
+	 * Libera el turno de guardado, o lo pasa al punto de control pendiente si lo
+	 * hay, de modo que ningún otro guardado se adelante y lo deje sin efecto.
+	 */
+	private synchronized void liberarTurno() {
+		if (fotoPendiente == null || canal == null) {
+			fotoPendiente = null;
+			turnoGuardado.release();
+			return;
+		}
+		Guardado guardado = new Guardado(fotoPendiente, cortePendiente - descartados);
+		fotoPendiente = null;
+		ejecutarEnSegundoPlano(guardado);
+	}
+
+	/**
+	 * Fuerza al disco los registros anexados desde la última sincronización.
+	 *
+	 * @throws IOException si el sistema operativo no puede escribirlos, o el
+	 *                     error de la última sincronización periódica o del
+	 *                     último punto de control en segundo plano, si
+	 *                     fallaron desde la llamada anterior.
+	 */
+	public synchronized void sincronizar() throws IOException {
+		IOException pendiente = errorSegundoPlano;
+		if (pendiente != null) {
+			errorSegundoPlano = null;
+			throw pendiente;
+		}
+		forzar();
+	}
+
+	private synchronized void forzar() throws IOException {
+		if (canal != null && pendientes > 0) {
+			canal.force(false);
+			pendientes = 0;
+		}
+	}
+
+	/**
+	 * Conserva el error de una tarea en segundo plano para que lo informe la
+	 * siguiente llamada a {@link #sincronizar()}.
+	 */
+	private synchronized void registrarError(IOException e) {
+		if (errorSegundoPlano == null) {
+			errorSegundoPlano = e;
+		} else {
+			errorSegundoPlano.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * Prepara un punto de control con el estado actual del almacenamiento. Debe
+	 * invocarse desde el hilo que modifica el almacenamiento; la tarea devuelta
+	 * puede ejecutarse en cualquier hilo, una sola vez, mientras el
+	 * almacenamiento sigue modificándose.
+	 *
+	 * <p>
+	 * Si hay otro guardado en curso, este método espera a que termine.
+	 * </p>
+	 *
+	 * @return Una tarea que escribe la base completa, vacía los cambios
+	 *         incrementales, reduce la bitácora a las operaciones posteriores y
+	 *         devuelve un mensaje con el resultado.
+	 * @throws IllegalStateException si la bitácora no está abierta.
+	 */
+	public Callable<String> prepararPuntoControl() {
+		return tarea(new Guardado(false));
+	}
+
+	/**
+	 * Prepara un guardado incremental con las placas modificadas desde el
+	 * guardado anterior. Debe invocarse desde el hilo que modifica el
+	 * almacenamiento; la tarea devuelta puede ejecutarse en cualquier hilo, una
+	 * sola vez, mientras el almacenamiento sigue modificándose.
+	 *
+	 * <p>
+	 * Si desde el guardado anterior el contenido se recargó en bloque, la tarea
+	 * hace un punto de control completo. Si los cambios acumulados superan
+	 * {@code 1/}{@value #FRACCION_FUSION} de la base, la tarea además los fusiona
+	 * con ella. Si hay otro guardado en curso, este método espera a que termine.
+	 * </p>
+	 *
+	 * @return Una tarea que anexa el lote, reduce la bitácora a las operaciones
+	 *         posteriores y devuelve un mensaje con el resultado.
+	 * @throws IllegalStateException si la bitácora no está abierta.
+	 */
+	public Callable<String> prepararGuardadoIncremental() {
+		return tarea(new Guardado(true));
+	}
+
+	private static Callable<String> tarea(Guardado guardado) {
+		return () -> {
+			try {
+				guardado.ejecutar();
+				return "Archivo guardado exitosamente.";
+			} catch (IOException e) {
+				return "Error al guardar archivo: " + e.getMessage();
+			}
+		};
+	}
+
+	/**
+	 * Fusiona los cambios incrementales con la base en el hilo que lo invoca. Si
+	 * hay otro guardado en curso, espera a que termine.
+	 *
+	 * @throws IOException           si no se puede escribir la base nueva.
+	 * @throws IllegalStateException si la bitácora no está abierta.
+	 */
+	public void fusionar() throws IOException {
+		turnoGuardado.acquireUninterruptibly();
+		try {
+			if (canal == null) {
+				throw new IllegalStateException("La bitácora no está abierta.");
+			}
+			fusionarCambios();
+		} finally {
+			liberarTurno();
+		}
+	}
+
+	/**
+	 * Un guardado preparado: los cambios tomados del seguimiento, la instantánea
+	 * del almacenamiento si el guardado es completo, y la posición de la
+	 * bitácora hasta la que llegan.
+	 */
+	private final class Guardado {
+
+		private final SeguimientoCambios.Lote lote;
+		private final InstantaneaFlota foto;
+		private final long corte;
+		private boolean ejecutado;
+
+		Guardado(boolean incremental) {
+			this(incremental, false);
+		}
+
+		/**
+		 * @param turnoTomado si quien lo crea ya adquirió {@code turnoGuardado}.
+		 */
+		Guardado(boolean incremental, boolean turnoTomado) {
+			if (!turnoTomado) {
+				turnoGuardado.acquireUninterruptibly();
+			}
+			synchronized (Bitacora.this) {
+				if (canal == null) {
+					turnoGuardado.release();
+					throw new IllegalStateException("La bitácora no está abierta.");
+				}
+				lote = seguimiento.tomar();
+				foto = incremental && !lote.esCompleto() ? null : crud.instantanea();
+				corte = fin;
+			}
+		}
+
+		/**
+		 * Un punto de control con una instantánea tomada antes, cuando el turno
+		 * ya está tomado. El seguimiento no se toma: sigue marcado como completo
+		 * desde la recarga, así que el guardado siguiente también es completo.
+		 *
+		 * @param corte La posición física de la bitácora hasta la que llega la
+		 *              instantánea.
+		 */
+		Guardado(InstantaneaFlota foto, long corte) {
+			this.lote = null;
+			this.foto = foto;
+			this.corte = corte;
+		}
+
+		void ejecutar() throws IOException {
+			synchronized (this) {
+				if (ejecutado) {
+					throw new IllegalStateException("El guardado ya fue ejecutado.");
+				}
+				ejecutado = true;
+			}
+			boolean guardado = false;
+			try {
+				if (foto != null) {
+					escribirBase(foto, corte);
+				} else {
+					anexarLote(lote, corte);
+				}
+				guardado = true;
+				if (foto == null && finCambios * FRACCION_FUSION > longitudBase) {
+					fusionarCambios();
+				}
+			} catch (IOException | RuntimeException e) {
+				if (!guardado) {
+					if (foto != null) {
+						seguimiento.marcarCompleto();
+					} else {
+						seguimiento.devolver(lote);
+					}
+				}
+				throw e;
+			} finally {
+				liberarTurno();
+			}
+		}
+	}
+
+	/**
+	 * Escribe una base completa y vacía los cambios incrementales.
+	 */
+	private void escribirBase(InstantaneaFlota foto, long corte) throws IOException {
+		CRC32 suma = new CRC32();
+		try (FileOutputStream archivo = new FileOutputStream(instantaneaTemporal.toFile())) {
+			FORMATO.escribir(foto.toArray(), new CheckedOutputStream(archivo, suma));
+			archivo.getFD().sync();
+		}
+		rotar(instantaneaTemporal, Files.size(instantaneaTemporal), (int) suma.getValue(), 0, corte);
+		canalCambios.truncate(0);
+		finCambios = 0;
+	}
+
+	/**
+	 * Anexa un lote al archivo de cambios y deja en la bitácora solo las
+	 * operaciones posteriores a {@code corte}.
+	 */
+	private void anexarLote(SeguimientoCambios.Lote lote, long corte) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeLong(0);
+		out.writeInt(lote.getCambios().size());
+		Map<String, Integer> diccionario = new HashMap<>();
+		for (Map.Entry<String, Vehiculo> cambio : lote.getCambios().entrySet()) {
+			if (cambio.getValue() == null) {
+				out.writeByte(LAPIDA);
+				ArchivoBinarioVehiculos.escribirTexto(out, cambio.getKey());
+			} else {
+				out.writeByte(VIGENTE);
+				ArchivoBinarioVehiculos.escribirVehiculo(out, diccionario, cambio.getValue());
+			}
+		}
+		byte[] datos = bytes.toByteArray();
+		CRC32 suma = new CRC32();
+		suma.update(datos, TAMANO_MARCO, datos.length - TAMANO_MARCO);
+		ByteBuffer marco = ByteBuffer.wrap(datos);
+		marco.putInt(0, datos.length - TAMANO_MARCO).putInt(4, (int) suma.getValue());
+
+		long posicion = finCambios;
+		while (marco.hasRemaining()) {
+			posicion += canalCambios.write(marco, posicion);
+		}
+		canalCambios.truncate(posicion);
+		canalCambios.force(false);
+		rotar(null, longitudBase, sumaBase, posicion, corte);
+		finCambios = posicion;
+	}
+
+	/**
+	 * Escribe una base nueva con la base actual y los cambios incrementales
+	 * aplicados, recorriendo la base como flujo, y vacía los cambios.
+	 */
+	private void fusionarCambios() throws IOException {
+		Map<String, Vehiculo> pendientesFusion = new HashMap<>();
+		recorrerCambios(finCambios, pendientesFusion::put);
+
+		int cantidad = 0;
+		try (FileChannel destino = FileChannel.open(instantaneaTemporal, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Channels.newOutputStream(destino), TAMANO_BUFFER));
+			ArchivoBinarioVehiculos.escribirEncabezado(out, 0);
+			Map<String, Integer> diccionario = new HashMap<>();
+			if (Files.exists(instantanea)) {
+				try (LectorVehiculos lector = new LectorVehiculos(Files.newInputStream(instantanea))) {
+					while (lector.hasNext()) {
+						cantidad += escribirFusionado(out, diccionario, pendientesFusion, lector.next());
+					}
+				} catch (UncheckedIOException e) {
+					throw e.getCause();
+				}
+			}
+			for (Vehiculo v : pendientesFusion.values()) {
+				if (v != null) {
+					ArchivoBinarioVehiculos.escribirVehiculo(out, diccionario, v);
+					cantidad++;
+				}
+			}
+			out.flush();
+			ByteBuffer total = ByteBuffer.allocate(Integer.BYTES).putInt(0, cantidad);
+			destino.write(total, ArchivoBinarioVehiculos.POSICION_CANTIDAD);
+			destino.force(true);
+		}
+
+		CRC32 suma = new CRC32();
+		try (InputStream archivo = new CheckedInputStream(Files.newInputStream(instantaneaTemporal), suma)) {
+			byte[] bloque = new byte[TAMANO_BUFFER];
+			while (archivo.read(bloque) >= 0) {
+				// Solo se calcula el CRC
+			}
+		}
+		rotar(instantaneaTemporal, Files.size(instantaneaTemporal), (int) suma.getValue(), 0, inicio);
+		canalCambios.truncate(0);
+		finCambios = 0;
+	}
+
+	/**
+	 * Escribe un vehículo de la base, reemplazado o suprimido por su cambio
+	 * pendiente si lo tiene.
+	 *
+	 * @return La cantidad de registros escritos, {@code 0} o {@code 1}.
+	 */
+	private static int escribirFusionado(DataOutputStream out, Map<String, Integer> diccionario,
+			Map<String, Vehiculo> pendientesFusion, Vehiculo v) throws IOException {
+		if (v == null) {
+			return 0;
+		}
+		String placa = IndicePlaca.normalizar(v.getPlaca());
+		if (pendientesFusion.containsKey(placa)) {
+			v = pendientesFusion.remove(placa);
+			if (v == null) {
+				return 0;
+			}
+		}
+		ArchivoBinarioVehiculos.escribirVehiculo(out, diccionario, v);
+		return 1;
+	}
+
+	/**
+	 * Reemplaza la bitácora por una nueva que solo contiene los registros
+	 * posteriores a {@code corte}, y si se indica una base ya escrita, la
+	 * instala. La bitácora nueva se escribe antes de instalar la base, para que
+	 * {@link #recuperar()} pueda completar el cambio si se interrumpe.
+	 */
+	private synchronized void rotar(Path base, long longitud, int suma, long cambios, long corte)
+			throws IOException {
+		try (FileChannel nueva = FileChannel.open(bitacoraTemporal, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			Encabezado.escribir(nueva, longitud, suma, cambios);
+			long posicion = corte;
+			while (posicion < fin) {
+				posicion += canal.transferTo(posicion, fin - posicion, nueva);
+			}
+			nueva.force(true);
+		}
+		if (base != null) {
+			Files.move(base, instantanea, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		canal.close();
+		Files.move(bitacoraTemporal, bitacora, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		canal = FileChannel.open(bitacora, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		descartados += corte - TAMANO_ENCABEZADO;
+		inicio = TAMANO_ENCABEZADO;
+		fin = canal.size();
+		canal.position(fin);
+		pendientes = 0;
+		longitudBase = longitud;
+		sumaBase = suma;
+	}
+
+	/**
+	 * Deja de registrar modificaciones, espera a que terminen el guardado en
+	 * curso y el punto de control pendiente, fuerza al disco los registros
+	 * pendientes y cierra los archivos.
+	 *
+	 * @throws IOException si no se puede sincronizar o cerrar algún archivo.
+	 */
+	@Override
+	public void close() throws IOException {
+		crud.desuscribir(this);
+		// El turno pasa por el punto de control pendiente antes de llegar aquí
+		turnoGuardado.acquireUninterruptibly();
+		turnoGuardado.release();
+		if (segundoPlano != null) {
+			// Se cancela la sincronización periódica, pero un punto de control en
+			// curso termina antes de cerrar los archivos
+			segundoPlano.shutdown();
+			try {
+				segundoPlano.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		synchronized (this) {
+			if (canal != null) {
+				try {
+					sincronizar();
+				} finally {
+					cerrarArchivos();
+				}
+			}
+		}
+	}
+
+	private void cerrarArchivos() throws IOException {
+		if (seguimiento != null) {
+			crud.desuscribir(seguimiento);
+			seguimiento = null;
+		}
+		try {
+			if (canal != null) {
+				canal.close();
+			}
+		} finally {
+			canal = null;
+			if (canalCambios != null) {
+				canalCambios.close();
+				canalCambios = null;
+			}
+		}
+	}
+}
@@ -2,6 +2,16 @@ package co.parcial.corte3.servicios;
 
 import co.parcial.corte3.modelo.Vehiculo;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 /**
  * La interfaz {@code CRUD} define los métodos básicos para realizar operaciones de 
  * creación, lectura, actualización y eliminación (CRUD, por sus siglas en inglés) 
@@ -10,14 +20,23 @@ import co.parcial.corte3.modelo.Vehiculo;
  * Esta interfaz debe ser implementada por clases que proporcionen la lógica específica 
  * para gestionar vehículos, permitiendo su manipulación en un sistema.
  * 
+ * Al ser {@link Iterable}, los vehículos pueden recorrerse con {@code forEach} o un
+ * {@code Spliterator} sin pasar por {@link #readAll()}; las implementaciones que lo
+ * sobrescriben recorren los registros vivos sin copiarlos a un arreglo nuevo.
+ * 
  * @author García Figueroa Daniel Santiago
  * @since 25/05/2025
  */
-public interface CRUD {
+public interface CRUD extends Iterable<Vehiculo> {
 
     /**
      * Crea un nuevo vehículo y lo almacena.
      * 
+     * Una implementación puede conservar el objeto recibido en lugar de una copia,
+     * y reemplazar su marca, modelo y estilo por instancias compartidas de cadenas
+     * iguales. Los valores del vehículo no cambian, pero el llamador no debe
+     * depender de la identidad de esas cadenas después de la llamada.
+     * 
      * @param v El vehículo que se desea crear.
      * @return Un mensaje indicando el resultado de la operación.
      */
@@ -38,9 +57,80 @@ public interface CRUD {
      */
     Vehiculo[] readAll();
 
+    /**
+     * Devuelve la cantidad de vehículos almacenados.
+     * 
+     * @return El número de vehículos.
+     */
+    default int size() {
+        return readAll().length;
+    }
+
+    /**
+     * Devuelve un iterador de solo lectura sobre los vehículos almacenados. La
+     * implementación por defecto recorre una copia obtenida con {@link #readAll()}.
+     * 
+     * @return Un iterador sobre los vehículos.
+     */
+    @Override
+    default Iterator<Vehiculo> iterator() {
+        return Arrays.asList(readAll()).iterator();
+    }
+
+    /**
+     * Lee una página de vehículos a partir de una posición.
+     * 
+     * La implementación por defecto recorre los vehículos anteriores a
+     * {@code offset}; las implementaciones pueden sobrescribirla para saltar
+     * directamente a la posición.
+     * 
+     * @param offset La cantidad de vehículos que se omiten.
+     * @param limit La cantidad máxima de vehículos de la página.
+     * @return Un arreglo con, como máximo, {@code limit} vehículos.
+     * @throws IllegalArgumentException si {@code offset} o {@code limit} son negativos.
+     */
+    default Vehiculo[] readPage(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("El desplazamiento y el límite no pueden ser negativos.");
+        }
+        List<Vehiculo> pagina = new ArrayList<>(Math.min(limit, 1024));
+        int posicion = 0;
+        for (Vehiculo v : this) {
+            if (pagina.size() == limit) {
+                break;
+            }
+            if (posicion++ >= offset) {
+                pagina.add(v);
+            }
+        }
+        return pagina.toArray(new Vehiculo[0]);
+    }
+
+    /**
+     * Lee una página de vehículos a partir de un cursor (paginación por
+     * conjunto de claves). El primer cursor es {@code 0}; los siguientes se
+     * obtienen con {@link Pagina#getSiguienteCursor()}.
+     * 
+     * La implementación por defecto usa el cursor como desplazamiento.
+     * 
+     * @param cursor El cursor devuelto por la página anterior, o {@code 0}.
+     * @param limit La cantidad máxima de vehículos de la página.
+     * @return La página leída junto con el cursor de la siguiente.
+     * @throws IllegalArgumentException si {@code cursor} o {@code limit} son negativos.
+     */
+    default Pagina readPageDesde(int cursor, int limit) {
+        Vehiculo[] vehiculos = readPage(cursor, limit);
+        int siguiente = cursor + vehiculos.length;
+        return new Pagina(vehiculos, siguiente < size() ? siguiente : Pagina.FIN);
+    }
+
     /**
      * Actualiza un vehículo existente a partir del objeto original.
      * 
+     * Como en {@link #create(Vehiculo)}, una implementación puede conservar el
+     * objeto {@code actualizado} y reemplazar sus cadenas por instancias
+     * compartidas iguales.
+     * 
      * @param original El vehículo original que se desea actualizar (se usa su placa para identificarlo).
      * @param actualizado El nuevo vehículo con la información actualizada.
      * @return Un mensaje indicando el resultado de la operación.
@@ -56,4 +146,81 @@ public interface CRUD {
      */
     String delete(String placa);
 
+    /**
+     * Crea varios vehículos en una sola llamada. Los vehículos cuya placa ya
+     * existe, o que no pueden almacenarse, se omiten y se informan en el resumen.
+     * 
+     * Cada implementación decide el éxito de cada vehículo con el resultado de su
+     * propia escritura, no con el mensaje de {@link #create(Vehiculo)}, que solo
+     * sirve para mostrarse.
+     * 
+     * @param nuevos Los vehículos que se desean crear.
+     * @return Un resumen con la cantidad de vehículos creados y las placas rechazadas.
+     */
+    ResultadoLote createAll(Collection<? extends Vehiculo> nuevos);
+
+    /**
+     * Actualiza varios vehículos en una sola llamada. Cada vehículo se identifica
+     * por su propia placa; los que no existen, o que no pueden almacenarse, se
+     * informan en el resumen.
+     * 
+     * @param actualizados Los vehículos con la información actualizada.
+     * @return Un resumen con la cantidad de vehículos actualizados y las placas rechazadas.
+     */
+    ResultadoLote updateAll(Collection<? extends Vehiculo> actualizados);
+
+    /**
+     * Elimina varios vehículos de acuerdo a sus placas en una sola llamada.
+     * 
+     * @param placas Las placas de los vehículos que se desean eliminar.
+     * @return Un resumen con la cantidad de vehículos eliminados y las placas no encontradas.
+     */
+    ResultadoLote deleteAll(Collection<String> placas);
+
+    /**
+     * Calcula la cantidad, suma, mínimo, máximo y promedio de una métrica sobre
+     * los vehículos a los que se aplica.
+     * 
+     * La implementación por defecto recorre los vehículos una sola vez, sin
+     * copiarlos a un arreglo; las implementaciones pueden sobrescribirla para
+     * responder con resúmenes mantenidos de forma incremental.
+     * 
+     * @param metrica La métrica a agregar.
+     * @return El resumen de la métrica.
+     */
+    default ResumenAgregado resumir(Metrica metrica) {
+        AcumuladorResumen acumulador = new AcumuladorResumen(false);
+        for (Vehiculo v : this) {
+            acumulador.agregar(metrica.valor(v));
+        }
+        return acumulador.resumen();
+    }
+
+    /**
+     * Calcula el resumen de una métrica para cada grupo de un criterio de
+     * agrupación (por ejemplo, el cilindraje promedio por marca).
+     * 
+     * La implementación por defecto recorre los vehículos una sola vez.
+     * 
+     * @param agrupacion El criterio de agrupación.
+     * @param metrica La métrica a agregar.
+     * @return Un mapa de solo lectura, ordenado por clave de grupo, con el resumen
+     *         de cada grupo que tiene al menos un valor.
+     */
+    default Map<String, ResumenAgregado> resumirPor(Agrupacion agrupacion, Metrica metrica) {
+        Map<String, AcumuladorResumen> acumuladores = new HashMap<>();
+        for (Vehiculo v : this) {
+            double valor = metrica.valor(v);
+            String clave = agrupacion.clave(v);
+            if (clave != null && !Double.isNaN(valor)) {
+                acumuladores.computeIfAbsent(clave, k -> new AcumuladorResumen(false)).agregar(valor);
+            }
+        }
+        Map<String, ResumenAgregado> resultado = new TreeMap<>();
+        for (Map.Entry<String, AcumuladorResumen> e : acumuladores.entrySet()) {
+            resultado.put(e.getKey(), e.getValue().resumen());
+        }
+        return Collections.unmodifiableMap(resultado);
+    }
+
 }
@@ -0,0 +1,385 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * La clase {@code ConsultaVehiculos} representa una consulta sobre la flota
+ * escrita en un lenguaje de condiciones unidas por {@code AND}, por ejemplo:
+ *
+ * <pre>
+ * tipo = Camion AND marca = "Mercedes Benz" AND carga &gt; 10000
+ * </pre>
+ *
+ * <p>
+ * Cada condición tiene la forma {@code campo operador valor}. Los campos son
+ * {@code tipo}, {@code placa}, {@code marca}, {@code modelo}, {@code peso},
+ * {@code cilindraje} y {@code carga}; los operadores son {@code =} y {@code !=}
+ * para todos los campos, y {@code >}, {@code >=}, {@code <} y {@code <=} solo
+ * para los numéricos. Los valores con espacios se escriben entre comillas
+ * simples o dobles. Los nombres de campo, los tipos y los valores de texto no
+ * distinguen mayúsculas de minúsculas; una consulta vacía selecciona todos los
+ * vehículos. El campo {@code tipo} compara la clase exacta, por lo que
+ * {@code tipo = Vehiculo} selecciona solo los vehículos genéricos y no los
+ * automóviles, motocicletas ni camiones.
+ * </p>
+ *
+ * <p>
+ * Las condiciones sobre campos que un vehículo no tiene (por ejemplo,
+ * {@code carga} en una motocicleta) o cuyo valor es {@code null} nunca se
+ * cumplen. La consulta se ejecuta con
+ * {@link ImplementacionCRUD#consultar(ConsultaVehiculos)}, que decide qué índice
+ * usar; {@link ImplementacionCRUD#explicar(ConsultaVehiculos)} describe esa
+ * decisión.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class ConsultaVehiculos {
+
+	/**
+	 * Los campos que pueden consultarse.
+	 */
+	enum Campo {
+		TIPO(null), PLACA(null), MARCA(null), MODELO(null), PESO(Metrica.PESO), CILINDRAJE(Metrica.CILINDRAJE),
+		CARGA(Metrica.CARGA);
+
+		/** La métrica de los campos numéricos, o {@code null} en los de texto. */
+		final Metrica metrica;
+
+		Campo(Metrica metrica) {
+			this.metrica = metrica;
+		}
+
+		boolean esNumerico() {
+			return metrica != null;
+		}
+	}
+
+	/**
+	 * Los operadores de comparación.
+	 */
+	enum Operador {
+		IGUAL("="), DISTINTO("!="), MAYOR(">"), MAYOR_IGUAL(">="), MENOR("<"), MENOR_IGUAL("<=");
+
+		final String simbolo;
+
+		Operador(String simbolo) {
+			this.simbolo = simbolo;
+		}
+	}
+
+	/**
+	 * Una condición {@code campo operador valor} ya validada.
+	 */
+	static final class Condicion {
+
+		final Campo campo;
+		final Operador operador;
+		/** El valor de texto normalizado, en los campos de texto. */
+		final String texto;
+		/** El valor numérico, en los campos numéricos. */
+		final double numero;
+		/** La clase buscada, en el campo {@code tipo}. */
+		final Class<?> tipo;
+		private final String original;
+
+		Condicion(Campo campo, Operador operador, String valor) {
+			this.campo = campo;
+			this.operador = operador;
+			this.original = valor;
+			if (campo.esNumerico()) {
+				try {
+					this.numero = Double.parseDouble(valor);
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException(
+							"El campo " + nombre(campo) + " requiere un valor numérico: " + valor + ".");
+				}
+				if (Double.isNaN(numero)) {
+					throw new IllegalArgumentException("El campo " + nombre(campo) + " no admite NaN.");
+				}
+				this.texto = null;
+				this.tipo = null;
+			} else {
+				if (operador != Operador.IGUAL && operador != Operador.DISTINTO) {
+					throw new IllegalArgumentException(
+							"El campo " + nombre(campo) + " solo admite los operadores = y !=.");
+				}
+				this.numero = Double.NaN;
+				this.texto = campo == Campo.PLACA ? IndicePlaca.normalizar(valor) : Agrupacion.normalizar(valor);
+				this.tipo = campo == Campo.TIPO ? resolverTipo(valor) : null;
+			}
+		}
+
+		/**
+		 * Evalúa la condición sobre un vehículo.
+		 *
+		 * @param v El vehículo.
+		 * @return {@code true} si el vehículo cumple la condición.
+		 */
+		boolean cumple(Vehiculo v) {
+			if (campo.esNumerico()) {
+				double valor = campo.metrica.valor(v);
+				if (Double.isNaN(valor)) {
+					return false;
+				}
+				switch (operador) {
+				case IGUAL:
+					return valor == numero;
+				case DISTINTO:
+					return valor != numero;
+				case MAYOR:
+					return valor > numero;
+				case MAYOR_IGUAL:
+					return valor >= numero;
+				case MENOR:
+					return valor < numero;
+				default:
+					return valor <= numero;
+				}
+			}
+			boolean igual;
+			switch (campo) {
+			case TIPO:
+				igual = v.getClass() == tipo;
+				break;
+			case PLACA:
+				if (v.getPlaca() == null) {
+					return false;
+				}
+				igual = IndicePlaca.normalizar(v.getPlaca()).equals(texto);
+				break;
+			case MARCA:
+				if (v.getMarca() == null) {
+					return false;
+				}
+				igual = Agrupacion.normalizar(v.getMarca()).equals(texto);
+				break;
+			default:
+				if (v.getModelo() == null) {
+					return false;
+				}
+				igual = Agrupacion.normalizar(v.getModelo()).equals(texto);
+			}
+			return operador == Operador.IGUAL ? igual : !igual;
+		}
+
+		/**
+		 * Indica si la condición puede resolverse con un índice.
+		 *
+		 * @return {@code true} si el operador no es {@code !=}.
+		 */
+		boolean esIndexable() {
+			return operador != Operador.DISTINTO;
+		}
+
+		@Override
+		public String toString() {
+			String valor = original.isEmpty() || original.chars().anyMatch(Character::isWhitespace)
+					? "\"" + original + "\""
+					: original;
+			return nombre(campo) + " " + operador.simbolo + " " + valor;
+		}
+	}
+
+	// Atributos
+	private final List<Condicion> condiciones;
+
+	private ConsultaVehiculos(List<Condicion> condiciones) {
+		this.condiciones = Collections.unmodifiableList(condiciones);
+	}
+
+	/**
+	 * Analiza el texto de una consulta.
+	 *
+	 * @param texto La consulta, por ejemplo {@code "tipo = Camion AND carga > 10000"}.
+	 * @return La consulta analizada.
+	 * @throws IllegalArgumentException si la consulta no es válida; el mensaje
+	 *                                  indica el motivo.
+	 */
+	public static ConsultaVehiculos parse(String texto) {
+		return new ConsultaVehiculos(new Analizador(texto).analizar());
+	}
+
+	/**
+	 * Obtiene las condiciones de la consulta.
+	 *
+	 * @return Una lista de solo lectura con las condiciones, en el orden escrito.
+	 */
+	List<Condicion> getCondiciones() {
+		return condiciones;
+	}
+
+	/**
+	 * Evalúa la consulta completa sobre un vehículo.
+	 *
+	 * @param v El vehículo.
+	 * @return {@code true} si el vehículo cumple todas las condiciones.
+	 */
+	public boolean cumple(Vehiculo v) {
+		for (Condicion c : condiciones) {
+			if (!c.cumple(v)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Retorna la consulta en su forma canónica.
+	 *
+	 * @return Las condiciones unidas por {@code AND}.
+	 */
+	@Override
+	public String toString() {
+		List<String> partes = new ArrayList<>();
+		for (Condicion c : condiciones) {
+			partes.add(c.toString());
+		}
+		return String.join(" AND ", partes);
+	}
+
+	private static String nombre(Campo campo) {
+		return campo.name().toLowerCase(Locale.ROOT);
+	}
+
+	private static Class<?> resolverTipo(String valor) {
+		switch (valor.trim().toLowerCase(Locale.ROOT)) {
+		case "vehiculo":
+		case "vehículo":
+			return Vehiculo.class;
+		case "automovil":
+		case "automóvil":
+			return Automovil.class;
+		case "motocicleta":
+			return Motocicleta.class;
+		case "camion":
+		case "camión":
+			return Camion.class;
+		default:
+			throw new IllegalArgumentException("Tipo de vehículo desconocido: " + valor + ".");
+		}
+	}
+
+	/**
+	 * Analizador léxico y sintáctico de las consultas.
+	 */
+	private static final class Analizador {
+
+		private final String texto;
+		private int pos;
+
+		Analizador(String texto) {
+			this.texto = texto;
+		}
+
+		List<Condicion> analizar() {
+			List<Condicion> resultado = new ArrayList<>();
+			saltarEspacios();
+			if (pos == texto.length()) {
+				return resultado;
+			}
+			while (true) {
+				resultado.add(condicion());
+				saltarEspacios();
+				if (pos == texto.length()) {
+					return resultado;
+				}
+				String palabra = palabra();
+				if (!palabra.equalsIgnoreCase("AND")) {
+					throw error("se esperaba AND");
+				}
+			}
+		}
+
+		private Condicion condicion() {
+			saltarEspacios();
+			String nombreCampo = palabra();
+			if (nombreCampo.isEmpty()) {
+				throw error("se esperaba un campo");
+			}
+			Campo campo;
+			try {
+				campo = Campo.valueOf(nombreCampo.toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Campo desconocido: " + nombreCampo + ".");
+			}
+			saltarEspacios();
+			Operador operador = operador();
+			saltarEspacios();
+			return new Condicion(campo, operador, valor());
+		}
+
+		private Operador operador() {
+			if (texto.startsWith(">=", pos) || texto.startsWith("<=", pos) || texto.startsWith("!=", pos)) {
+				String simbolo = texto.substring(pos, pos + 2);
+				pos += 2;
+				return simbolo.equals(">=") ? Operador.MAYOR_IGUAL
+						: simbolo.equals("<=") ? Operador.MENOR_IGUAL : Operador.DISTINTO;
+			}
+			if (pos < texto.length()) {
+				switch (texto.charAt(pos)) {
+				case '=':
+					pos++;
+					return Operador.IGUAL;
+				case '>':
+					pos++;
+					return Operador.MAYOR;
+				case '<':
+					pos++;
+					return Operador.MENOR;
+				default:
+					break;
+				}
+			}
+			throw error("se esperaba un operador (=, !=, >, >=, <, <=)");
+		}
+
+		private String valor() {
+			if (pos < texto.length() && (texto.charAt(pos) == '"' || texto.charAt(pos) == '\'')) {
+				char comilla = texto.charAt(pos);
+				int cierre = texto.indexOf(comilla, pos + 1);
+				if (cierre < 0) {
+					throw error("falta la comilla de cierre");
+				}
+				String valor = texto.substring(pos + 1, cierre);
+				pos = cierre + 1;
+				return valor;
+			}
+			int inicio = pos;
+			while (pos < texto.length() && !Character.isWhitespace(texto.charAt(pos))) {
+				pos++;
+			}
+			if (inicio == pos) {
+				throw error("se esperaba un valor");
+			}
+			return texto.substring(inicio, pos);
+		}
+
+		private String palabra() {
+			int inicio = pos;
+			while (pos < texto.length() && Character.isLetter(texto.charAt(pos))) {
+				pos++;
+			}
+			return texto.substring(inicio, pos);
+		}
+
+		private void saltarEspacios() {
+			while (pos < texto.length() && Character.isWhitespace(texto.charAt(pos))) {
+				pos++;
+			}
+		}
+
+		private IllegalArgumentException error(String motivo) {
+			return new IllegalArgumentException("Consulta inválida en la posición " + (pos + 1) + ": " + motivo + ".");
+		}
+	}
+}
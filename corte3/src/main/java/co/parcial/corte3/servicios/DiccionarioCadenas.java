@@ -0,0 +1,140 @@
+package co.parcial.corte3.servicios;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * La clase {@code DiccionarioCadenas} asigna un código entero a cada cadena
+ * distinta que recibe, de modo que los valores repetidos (marcas, modelos,
+ * estilos) se almacenan una sola vez y las columnas solo guardan el código.
+ *
+ * <p>
+ * Los códigos son consecutivos a partir de {@code 0}; el código {@code -1}
+ * representa el valor {@code null}. Cada llamada a {@link #codificar(String)}
+ * o {@link #internar(String)} cuenta una referencia, que se devuelve con
+ * {@link #liberar(int)} o {@link #soltar(String)}. Cuando una cadena se queda
+ * sin referencias se retira y su código se reutiliza para la siguiente cadena
+ * nueva.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class DiccionarioCadenas {
+
+	/** Código reservado para el valor {@code null}. */
+	static final int NULO = -1;
+
+	// Atributos
+	private final Map<String, Integer> codigos = new HashMap<>();
+	private String[] valores = new String[16];
+	private int[] referencias = new int[16];
+	private int cantidad;
+	private int[] libres = new int[16];
+	private int cantidadLibres;
+
+	/**
+	 * Devuelve el código de una cadena y le suma una referencia, asignándole un
+	 * código nuevo o uno liberado si aún no existe.
+	 *
+	 * @param valor La cadena a codificar.
+	 * @return El código de la cadena, o {@link #NULO} si {@code valor} es
+	 *         {@code null}.
+	 */
+	int codificar(String valor) {
+		if (valor == null) {
+			return NULO;
+		}
+		Integer codigo = codigos.get(valor);
+		if (codigo != null) {
+			referencias[codigo]++;
+			return codigo;
+		}
+		int nuevo;
+		if (cantidadLibres > 0) {
+			nuevo = libres[--cantidadLibres];
+		} else {
+			if (cantidad == valores.length) {
+				valores = Arrays.copyOf(valores, cantidad * 2);
+				referencias = Arrays.copyOf(referencias, cantidad * 2);
+			}
+			nuevo = cantidad++;
+		}
+		valores[nuevo] = valor;
+		referencias[nuevo] = 1;
+		codigos.put(valor, nuevo);
+		return nuevo;
+	}
+
+	/**
+	 * Resta una referencia a un código. Si la cadena se queda sin referencias, se
+	 * retira del diccionario y su código queda libre.
+	 *
+	 * @param codigo El código obtenido de {@link #codificar(String)}; se ignora
+	 *               si es {@link #NULO}.
+	 */
+	void liberar(int codigo) {
+		if (codigo == NULO || --referencias[codigo] > 0) {
+			return;
+		}
+		codigos.remove(valores[codigo]);
+		valores[codigo] = null;
+		if (cantidadLibres == libres.length) {
+			libres = Arrays.copyOf(libres, cantidadLibres * 2);
+		}
+		libres[cantidadLibres++] = codigo;
+	}
+
+	/**
+	 * Resta una referencia a una cadena obtenida de {@link #internar(String)}.
+	 *
+	 * @param valor La cadena; se ignora si es {@code null} o no está registrada.
+	 */
+	void soltar(String valor) {
+		liberar(buscar(valor));
+	}
+
+	/**
+	 * Devuelve el código de una cadena sin registrarla.
+	 *
+	 * @param valor La cadena a buscar.
+	 * @return El código de la cadena, o {@link #NULO} si no está registrada.
+	 */
+	int buscar(String valor) {
+		Integer codigo = valor == null ? null : codigos.get(valor);
+		return codigo == null ? NULO : codigo;
+	}
+
+	/**
+	 * Devuelve la cadena asociada a un código.
+	 *
+	 * @param codigo El código a decodificar.
+	 * @return La cadena asociada, o {@code null} si el código es {@link #NULO}.
+	 */
+	String decodificar(int codigo) {
+		return codigo == NULO ? null : valores[codigo];
+	}
+
+	/**
+	 * Devuelve la instancia compartida de una cadena y le suma una referencia:
+	 * la primera instancia igual que recibió el diccionario. Sirve para que los
+	 * valores repetidos de distintos objetos apunten al mismo {@code String}.
+	 *
+	 * @param valor La cadena a compartir.
+	 * @return La instancia registrada igual a {@code valor}, o {@code null} si
+	 *         {@code valor} es {@code null}.
+	 */
+	String internar(String valor) {
+		return decodificar(codificar(valor));
+	}
+
+	/**
+	 * Devuelve la cantidad de cadenas distintas registradas.
+	 *
+	 * @return La cantidad de cadenas con al menos una referencia.
+	 */
+	int tamano() {
+		return cantidad - cantidadLibres;
+	}
+}
@@ -0,0 +1,110 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+/**
+ * La clase {@code EventoCambio} describe una modificación del almacenamiento de
+ * vehículos, publicada a los {@link OyenteCambios} suscritos para que apliquen
+ * el cambio de forma incremental en lugar de volver a leer toda la flota.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class EventoCambio {
+
+	/**
+	 * Los tipos de cambio que se publican.
+	 */
+	public enum Tipo {
+		/** Se agregó un vehículo. */
+		CREADO,
+		/** Un vehículo fue reemplazado por otro. */
+		ACTUALIZADO,
+		/** Se eliminó un vehículo. */
+		ELIMINADO,
+		/**
+		 * El contenido cambió en bloque (carga de un archivo) y los suscriptores
+		 * deben volver a leer lo que necesiten.
+		 */
+		RECARGADO,
+		/**
+		 * Los vehículos se movieron a otras posiciones sin cambiar el contenido.
+		 * Solo deben volver a leer los suscriptores que dependen de las
+		 * posiciones, como los cursores de página.
+		 */
+		COMPACTADO
+	}
+
+	// Atributos
+	private final Tipo tipo;
+	private final Vehiculo anterior;
+	private final Vehiculo nuevo;
+	private final int posicion;
+
+	/**
+	 * Constructor que inicializa el evento.
+	 *
+	 * @param tipo     El tipo de cambio.
+	 * @param anterior El vehículo antes del cambio, o {@code null} si no existía.
+	 * @param nuevo    El vehículo después del cambio, o {@code null} si ya no
+	 *                 existe.
+	 * @param posicion La posición del almacenamiento afectada, o {@code -1} en
+	 *                 los cambios en bloque.
+	 */
+	public EventoCambio(Tipo tipo, Vehiculo anterior, Vehiculo nuevo, int posicion) {
+		this.tipo = tipo;
+		this.anterior = anterior;
+		this.nuevo = nuevo;
+		this.posicion = posicion;
+	}
+
+	/**
+	 * Obtiene el tipo de cambio.
+	 *
+	 * @return El tipo de cambio.
+	 */
+	public Tipo getTipo() {
+		return tipo;
+	}
+
+	/**
+	 * Obtiene el vehículo antes del cambio.
+	 *
+	 * @return El vehículo actualizado o eliminado, o {@code null} en
+	 *         {@link Tipo#CREADO} y en los cambios en bloque.
+	 */
+	public Vehiculo getAnterior() {
+		return anterior;
+	}
+
+	/**
+	 * Obtiene el vehículo después del cambio.
+	 *
+	 * @return El vehículo creado o actualizado, o {@code null} en
+	 *         {@link Tipo#ELIMINADO} y en los cambios en bloque.
+	 */
+	public Vehiculo getNuevo() {
+		return nuevo;
+	}
+
+	/**
+	 * Obtiene la posición del almacenamiento afectada. Coincide con el cursor de
+	 * {@link CRUD#readPageDesde(int, int)} en {@link ImplementacionCRUD}.
+	 *
+	 * @return La posición, o {@code -1} en los cambios en bloque.
+	 */
+	public int getPosicion() {
+		return posicion;
+	}
+
+	/**
+	 * Retorna una representación en cadena del evento.
+	 *
+	 * @return El tipo, la posición y los vehículos involucrados.
+	 */
+	@Override
+	public String toString() {
+		return "EventoCambio [tipo=" + tipo + ", posicion=" + posicion + ", anterior=" + anterior + ", nuevo=" + nuevo
+				+ "]";
+	}
+}
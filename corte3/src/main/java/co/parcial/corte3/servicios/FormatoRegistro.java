@@ -0,0 +1,279 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * La clase {@code FormatoRegistro} define la disposición fija en bytes con la
+ * que se guarda un vehículo fuera del heap, y los métodos para escribirlo y
+ * leerlo desde un {@link ByteBuffer}.
+ *
+ * <p>
+ * Disposición de cada registro ({@value #TAMANO} bytes):
+ * </p>
+ * <ul>
+ * <li>0: peso ({@code double}).</li>
+ * <li>8: cilindraje del motor o capacidad de carga según el tipo
+ * ({@code double}).</li>
+ * <li>16: etiqueta de tipo ({@code byte}).</li>
+ * <li>17: placa (longitud de 1 byte + hasta {@value #MAX_PLACA} bytes
+ * UTF-8).</li>
+ * <li>41: marca, 73: modelo y 105: estilo (longitud de 1 byte + hasta
+ * {@value #MAX_TEXTO} bytes UTF-8 cada uno).</li>
+ * </ul>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+final class FormatoRegistro {
+
+	/** Tamaño en bytes de cada registro. */
+	static final int TAMANO = 144;
+
+	/** Longitud máxima en bytes UTF-8 de la placa. */
+	static final int MAX_PLACA = 23;
+
+	/** Longitud máxima en bytes UTF-8 de la marca, el modelo y el estilo. */
+	static final int MAX_TEXTO = 31;
+
+	// Etiquetas de tipo
+	static final byte TIPO_VEHICULO = 0;
+	static final byte TIPO_AUTOMOVIL = 1;
+	static final byte TIPO_MOTOCICLETA = 2;
+	static final byte TIPO_CAMION = 3;
+
+	/**
+	 * Etiqueta transitoria de un registro que está siendo sobrescrito por
+	 * {@link #mover(ByteBuffer, int, ByteBuffer, int)}.
+	 */
+	static final byte EN_MOVIMIENTO = 0x7F;
+
+	// Desplazamientos dentro del registro
+	private static final int PESO = 0;
+	private static final int ATRIBUTO = 8;
+	private static final int TIPO = 16;
+	private static final int PLACA = 17;
+	private static final int MARCA = PLACA + 1 + MAX_PLACA;
+	private static final int MODELO = MARCA + 1 + MAX_TEXTO;
+	private static final int ESTILO = MODELO + 1 + MAX_TEXTO;
+
+	private FormatoRegistro() {
+	}
+
+	/**
+	 * Devuelve la etiqueta de tipo correspondiente a una clase de vehículo.
+	 *
+	 * @param tipo La clase del vehículo.
+	 * @return La etiqueta, o {@code -1} si la clase no es un tipo conocido.
+	 */
+	static byte etiqueta(Class<?> tipo) {
+		if (tipo == Automovil.class) {
+			return TIPO_AUTOMOVIL;
+		} else if (tipo == Motocicleta.class) {
+			return TIPO_MOTOCICLETA;
+		} else if (tipo == Camion.class) {
+			return TIPO_CAMION;
+		} else if (tipo == Vehiculo.class) {
+			return TIPO_VEHICULO;
+		}
+		return -1;
+	}
+
+	/**
+	 * Verifica que los textos de un vehículo quepan en la disposición fija.
+	 *
+	 * @param v El vehículo a verificar.
+	 * @throws IllegalArgumentException si algún texto excede su longitud máxima.
+	 */
+	static void validar(Vehiculo v) {
+		validarTexto("placa", v.getPlaca(), MAX_PLACA);
+		validarTexto("marca", v.getMarca(), MAX_TEXTO);
+		validarTexto("modelo", v.getModelo(), MAX_TEXTO);
+		if (v instanceof Automovil) {
+			validarTexto("estilo", ((Automovil) v).getEstilo(), MAX_TEXTO);
+		}
+	}
+
+	private static void validarTexto(String campo, String valor, int maximo) {
+		if (valor != null && valor.getBytes(StandardCharsets.UTF_8).length > maximo) {
+			throw new IllegalArgumentException("El campo '" + campo + "' excede " + maximo + " bytes.");
+		}
+	}
+
+	/**
+	 * Escribe un vehículo en la posición indicada del buffer.
+	 *
+	 * @param destino El buffer de destino.
+	 * @param inicio  El desplazamiento en bytes del registro.
+	 * @param v       El vehículo a escribir, previamente validado.
+	 */
+	static void escribir(ByteBuffer destino, int inicio, Vehiculo v) {
+		destino.putDouble(inicio + PESO, v.getPeso());
+		double atributo = 0;
+		byte tipo = etiqueta(v.getClass());
+		if (v instanceof Motocicleta) {
+			atributo = ((Motocicleta) v).getCilindrajeMotor();
+		} else if (v instanceof Camion) {
+			atributo = ((Camion) v).getCapacidadCarga();
+		}
+		destino.putDouble(inicio + ATRIBUTO, atributo);
+		destino.put(inicio + TIPO, tipo < 0 ? TIPO_VEHICULO : tipo);
+		escribirTexto(destino, inicio + PLACA, v.getPlaca());
+		escribirTexto(destino, inicio + MARCA, v.getMarca());
+		escribirTexto(destino, inicio + MODELO, v.getModelo());
+		escribirTexto(destino, inicio + ESTILO, v instanceof Automovil ? ((Automovil) v).getEstilo() : null);
+	}
+
+	/**
+	 * Escribe un texto precedido por su longitud. El valor {@code null} se
+	 * codifica con la longitud {@code 0xFF}.
+	 */
+	private static void escribirTexto(ByteBuffer destino, int inicio, String valor) {
+		if (valor == null) {
+			destino.put(inicio, (byte) 0xFF);
+			return;
+		}
+		byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+		destino.put(inicio, (byte) bytes.length);
+		for (int i = 0; i < bytes.length; i++) {
+			destino.put(inicio + 1 + i, bytes[i]);
+		}
+	}
+
+	private static String leerTexto(ByteBuffer origen, int inicio) {
+		int longitud = origen.get(inicio) & 0xFF;
+		if (longitud == 0xFF) {
+			return null;
+		}
+		byte[] bytes = new byte[longitud];
+		for (int i = 0; i < longitud; i++) {
+			bytes[i] = origen.get(inicio + 1 + i);
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Lee la etiqueta de tipo de un registro.
+	 *
+	 * @param origen El buffer de origen.
+	 * @param inicio El desplazamiento en bytes del registro.
+	 * @return La etiqueta de tipo.
+	 */
+	static byte leerTipo(ByteBuffer origen, int inicio) {
+		return origen.get(inicio + TIPO);
+	}
+
+	/**
+	 * Lee la placa de un registro sin materializar el vehículo.
+	 *
+	 * @param origen El buffer de origen.
+	 * @param inicio El desplazamiento en bytes del registro.
+	 * @return La placa almacenada.
+	 */
+	static String leerPlaca(ByteBuffer origen, int inicio) {
+		return leerTexto(origen, inicio + PLACA);
+	}
+
+	/**
+	 * Construye un vehículo a partir del registro indicado.
+	 *
+	 * @param origen El buffer de origen.
+	 * @param inicio El desplazamiento en bytes del registro.
+	 * @return Un nuevo vehículo con los valores del registro.
+	 */
+	static Vehiculo leer(ByteBuffer origen, int inicio) {
+		double peso = origen.getDouble(inicio + PESO);
+		double atributo = origen.getDouble(inicio + ATRIBUTO);
+		String placa = leerTexto(origen, inicio + PLACA);
+		String marca = leerTexto(origen, inicio + MARCA);
+		String modelo = leerTexto(origen, inicio + MODELO);
+		switch (origen.get(inicio + TIPO)) {
+		case TIPO_AUTOMOVIL:
+			return new Automovil(placa, marca, modelo, peso, leerTexto(origen, inicio + ESTILO));
+		case TIPO_MOTOCICLETA:
+			return new Motocicleta(placa, marca, modelo, peso, atributo);
+		case TIPO_CAMION:
+			return new Camion(placa, marca, modelo, peso, atributo);
+		default:
+			return new Vehiculo(placa, marca, modelo, peso);
+		}
+	}
+
+	/**
+	 * Copia un registro completo de una posición a otra dentro del mismo buffer.
+	 *
+	 * @param buffer  El buffer que contiene ambos registros.
+	 * @param origen  El desplazamiento del registro a copiar.
+	 * @param destino El desplazamiento de destino.
+	 * @see #mover(ByteBuffer, int, ByteBuffer, int)
+	 */
+	static void mover(ByteBuffer buffer, int origen, int destino) {
+		mover(buffer, origen, buffer, destino);
+	}
+
+	/**
+	 * Copia un registro completo de un buffer a otro.
+	 *
+	 * <p>
+	 * El destino se marca primero con {@link #EN_MOVIMIENTO} y su etiqueta de
+	 * tipo es lo último que se escribe, de modo que si el proceso termina a mitad
+	 * de la copia, el registro de destino queda identificado como incompleto y
+	 * la copia puede repetirse con {@link #enMovimiento(ByteBuffer, int)}.
+	 * </p>
+	 *
+	 * @param origen        El buffer del registro a copiar.
+	 * @param inicioOrigen  El desplazamiento del registro a copiar.
+	 * @param destino       El buffer de destino.
+	 * @param inicioDestino El desplazamiento de destino.
+	 */
+	static void mover(ByteBuffer origen, int inicioOrigen, ByteBuffer destino, int inicioDestino) {
+		destino.put(inicioDestino + TIPO, EN_MOVIMIENTO);
+		int palabraTipo = TIPO - TIPO % Long.BYTES;
+		for (int i = 0; i < TAMANO; i += Long.BYTES) {
+			if (i != palabraTipo) {
+				destino.putLong(inicioDestino + i, origen.getLong(inicioOrigen + i));
+			}
+		}
+		for (int i = palabraTipo; i < palabraTipo + Long.BYTES; i++) {
+			if (i != TIPO) {
+				destino.put(inicioDestino + i, origen.get(inicioOrigen + i));
+			}
+		}
+		destino.put(inicioDestino + TIPO, origen.get(inicioOrigen + TIPO));
+	}
+
+	/**
+	 * Indica si un registro quedó a medio sobrescribir por
+	 * {@link #mover(ByteBuffer, int, ByteBuffer, int)}.
+	 *
+	 * @param buffer El buffer de registros.
+	 * @param inicio El desplazamiento en bytes del registro.
+	 * @return {@code true} si el registro tiene la etiqueta
+	 *         {@link #EN_MOVIMIENTO}.
+	 */
+	static boolean enMovimiento(ByteBuffer buffer, int inicio) {
+		return buffer.get(inicio + TIPO) == EN_MOVIMIENTO;
+	}
+
+	/**
+	 * Compara dos registros byte a byte.
+	 *
+	 * @param buffer El buffer que contiene ambos registros.
+	 * @param a      El desplazamiento del primer registro.
+	 * @param b      El desplazamiento del segundo registro.
+	 * @return {@code true} si los registros son idénticos.
+	 */
+	static boolean iguales(ByteBuffer buffer, int a, int b) {
+		for (int i = 0; i < TAMANO; i += Long.BYTES) {
+			if (buffer.getLong(a + i) != buffer.getLong(b + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
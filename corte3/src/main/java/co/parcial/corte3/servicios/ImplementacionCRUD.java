@@ -6,11 +6,20 @@ import co.parcial.corte3.modelo.Automovil;
 import co.parcial.corte3.modelo.Motocicleta;
 import co.parcial.corte3.modelo.Camion;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * La clase {@code ImplementacionCRUD} implementa las interfaces {@code CRUD} y
@@ -28,9 +37,35 @@ import java.io.ObjectOutputStream;
  */
 public class ImplementacionCRUD implements CRUD, OperacionArchivo {
 
+	/**
+	 * Cantidad mínima de posiciones libres antes de considerar la compactación
+	 * automática.
+	 */
+	private static final int UMBRAL_COMPACTACION = 64;
+
+	/** Formato con el que se guardan y recuperan los archivos de vehículos. */
+	private static final OperacionArchivo FORMATO_ARCHIVO = new ArchivoBinarioVehiculos();
+
 	// Atributos
-	private Vehiculo[] vehiculos;
+	private ArregloVehiculos vehiculos;
 	private int size;
+	private int tope;
+	private int[] libres;
+	private int cantidadLibres;
+	private final IndicePlaca indicePlaca;
+	private final IndiceSecundario<Class<?>> indiceTipo;
+	private final IndiceSecundario<String> indiceMarca;
+	private final IndiceSecundario<String> indiceModelo;
+	private final IndiceRango indicePeso;
+	private final IndiceRango indiceCilindraje;
+	private final IndiceRango indiceCarga;
+	private final AgregadosIncrementales agregados;
+	private final IndicePrefijos indicePrefijos;
+	private final IndiceNGramas ngramasMarca;
+	private final IndiceNGramas ngramasModelo;
+	private DiccionarioCadenas cadenas;
+	private final List<OyenteCambios> oyentes;
+	private final MotorConsultaParalela motor;
 
 	/**
 	 * Constructor que inicializa la lista de vehículos con una capacidad inicial.
@@ -38,41 +73,227 @@ public class ImplementacionCRUD implements CRUD, OperacionArchivo {
 	 * @param capacidadInicial La capacidad inicial del arreglo de vehículos.
 	 */
 	public ImplementacionCRUD(int capacidadInicial) {
-		vehiculos = new Vehiculo[capacidadInicial];
+		vehiculos = new ArregloVehiculos(capacidadInicial);
 		size = 0;
+		tope = 0;
+		libres = new int[16];
+		cantidadLibres = 0;
+		indicePlaca = new IndicePlaca(capacidadInicial);
+		indiceTipo = new IndiceSecundario<>();
+		indiceMarca = new IndiceSecundario<>();
+		indiceModelo = new IndiceSecundario<>();
+		indicePeso = new IndiceRango();
+		indiceCilindraje = new IndiceRango();
+		indiceCarga = new IndiceRango();
+		agregados = new AgregadosIncrementales(this::indiceRango, this::miembros);
+		indicePrefijos = new IndicePrefijos();
+		ngramasMarca = new IndiceNGramas();
+		ngramasModelo = new IndiceNGramas();
+		cadenas = new DiccionarioCadenas();
+		oyentes = new CopyOnWriteArrayList<>();
+		motor = new MotorConsultaParalela(this);
+	}
+
+	/**
+	 * Registra una posición libre para que {@link #create(Vehiculo)} la reutilice.
+	 * 
+	 * @param posicion La posición que quedó libre.
+	 */
+	private void liberar(int posicion) {
+		if (cantidadLibres == libres.length) {
+			libres = Arrays.copyOf(libres, cantidadLibres * 2);
+		}
+		libres[cantidadLibres++] = posicion;
+	}
+
+	/**
+	 * Suscribe un oyente a los cambios del almacenamiento. Cada creación,
+	 * actualización y eliminación publica un {@link EventoCambio} con la
+	 * posición afectada; las cargas con {@link #setVehiculos(Vehiculo[])}
+	 * publican {@link EventoCambio.Tipo#RECARGADO} y las compactaciones
+	 * {@link EventoCambio.Tipo#COMPACTADO}.
+	 * 
+	 * @param oyente El oyente a suscribir.
+	 */
+	public void suscribir(OyenteCambios oyente) {
+		oyentes.add(oyente);
+	}
+
+	/**
+	 * Cancela la suscripción de un oyente.
+	 * 
+	 * @param oyente El oyente a quitar.
+	 */
+	public void desuscribir(OyenteCambios oyente) {
+		oyentes.remove(oyente);
+	}
+
+	/**
+	 * Empieza a registrar qué placas cambian, para guardados que solo escriben
+	 * los registros modificados. El seguimiento queda suscrito hasta que se
+	 * cancele con {@link #desuscribir(OyenteCambios)}.
+	 * 
+	 * @return El seguimiento, sin cambios registrados.
+	 */
+	public SeguimientoCambios seguirCambios() {
+		SeguimientoCambios seguimiento = new SeguimientoCambios();
+		suscribir(seguimiento);
+		return seguimiento;
+	}
+
+	/**
+	 * Entrega un evento a los oyentes suscritos. Si no hay oyentes, el evento no
+	 * se crea.
+	 */
+	private void publicar(EventoCambio.Tipo tipo, Vehiculo anterior, Vehiculo nuevo, int posicion) {
+		if (oyentes.isEmpty()) {
+			return;
+		}
+		EventoCambio evento = new EventoCambio(tipo, anterior, nuevo, posicion);
+		for (OyenteCambios oyente : oyentes) {
+			oyente.onCambio(evento);
+		}
+	}
+
+	/**
+	 * Normaliza un texto para usarlo como clave de los índices secundarios.
+	 * 
+	 * @param texto El texto a normalizar.
+	 * @return El texto normalizado, o {@code null} si {@code texto} es
+	 *         {@code null}.
+	 */
+	private static String clave(String texto) {
+		return texto == null ? null : IndicePlaca.normalizar(texto.trim());
+	}
+
+	/**
+	 * Reemplaza la marca, el modelo y el estilo de un vehículo por las instancias
+	 * compartidas del diccionario de cadenas, para que los valores repetidos en
+	 * la flota no ocupen una copia por vehículo. El vehículo es el objeto del
+	 * llamador, que queda almacenado; solo cambia la identidad de sus cadenas, no
+	 * sus valores. Cada cadena compartida cuenta
+	 * una referencia en el diccionario, que {@link #soltar(Vehiculo)} devuelve
+	 * al quitar el vehículo.
+	 * 
+	 * @param v El vehículo cuyas cadenas se comparten.
+	 */
+	private void internar(Vehiculo v) {
+		v.setMarca(cadenas.internar(v.getMarca()));
+		v.setModelo(cadenas.internar(v.getModelo()));
+		if (v instanceof Automovil) {
+			Automovil a = (Automovil) v;
+			a.setEstilo(cadenas.internar(a.getEstilo()));
+		}
+	}
+
+	/**
+	 * Devuelve al diccionario las referencias que tomó
+	 * {@link #internar(Vehiculo)}, de modo que las marcas, modelos y estilos que
+	 * ya no usa ningún vehículo se retiran.
+	 * 
+	 * @param v El vehículo que deja el almacenamiento.
+	 */
+	private void soltar(Vehiculo v) {
+		cadenas.soltar(v.getMarca());
+		cadenas.soltar(v.getModelo());
+		if (v instanceof Automovil) {
+			cadenas.soltar(((Automovil) v).getEstilo());
+		}
 	}
 
 	/**
-	 * Expande el arreglo de vehículos cuando se alcanza la capacidad máxima.
-	 * Duplica el tamaño del arreglo y copia los elementos existentes.
+	 * Comparte las cadenas repetidas de un vehículo y lo registra en los índices
+	 * secundarios, de rango y de prefijos, y en los resúmenes agregados.
+	 * 
+	 * @param v El vehículo a indexar.
+	 */
+	private void indexar(Vehiculo v) {
+		internar(v);
+		agregados.agregar(v);
+		indicePrefijos.agregar(v);
+		indiceTipo.agregar(v.getClass(), v);
+		indiceMarca.agregar(clave(v.getMarca()), v);
+		indiceModelo.agregar(clave(v.getModelo()), v);
+		ngramasMarca.agregar(clave(v.getMarca()));
+		ngramasModelo.agregar(clave(v.getModelo()));
+		indicePeso.agregar(v.getPeso(), v);
+		if (v instanceof Motocicleta) {
+			indiceCilindraje.agregar(((Motocicleta) v).getCilindrajeMotor(), v);
+		} else if (v instanceof Camion) {
+			indiceCarga.agregar(((Camion) v).getCapacidadCarga(), v);
+		}
+	}
+
+	/**
+	 * Quita un vehículo de los índices secundarios, de rango y de prefijos, y de
+	 * los resúmenes agregados, y libera sus cadenas compartidas.
+	 * 
+	 * @param v El vehículo a desindexar.
 	 */
-	private void expandArray() {
-		Vehiculo[] nuevoArray = new Vehiculo[vehiculos.length * 2];
-		for (int i = 0; i < vehiculos.length; i++) {
-			nuevoArray[i] = vehiculos[i];
+	private void desindexar(Vehiculo v) {
+		soltar(v);
+		agregados.quitar(v);
+		indicePrefijos.quitar(v);
+		indiceTipo.quitar(v.getClass(), v);
+		indiceMarca.quitar(clave(v.getMarca()), v);
+		indiceModelo.quitar(clave(v.getModelo()), v);
+		ngramasMarca.quitar(clave(v.getMarca()));
+		ngramasModelo.quitar(clave(v.getModelo()));
+		indicePeso.quitar(v.getPeso(), v);
+		if (v instanceof Motocicleta) {
+			indiceCilindraje.quitar(((Motocicleta) v).getCilindrajeMotor(), v);
+		} else if (v instanceof Camion) {
+			indiceCarga.quitar(((Camion) v).getCapacidadCarga(), v);
 		}
-		vehiculos = nuevoArray;
 	}
 
 	/**
-	 * Establece la lista de vehículos con los vehículos deserializados.
+	 * Establece la lista de vehículos con los vehículos deserializados y
+	 * reconstruye los índices a partir de ellos.
 	 * 
 	 * @param vehiculosDeserializados El arreglo de vehículos deserializados.
 	 */
 	public void setVehiculos(Vehiculo[] vehiculosDeserializados) {
-		this.vehiculos = vehiculosDeserializados;
+		this.vehiculos = new ArregloVehiculos(vehiculosDeserializados);
+		indicePlaca.limpiar();
+		indiceTipo.limpiar();
+		indiceMarca.limpiar();
+		indiceModelo.limpiar();
+		indicePeso.limpiar();
+		indiceCilindraje.limpiar();
+		indiceCarga.limpiar();
+		agregados.limpiar();
+		indicePrefijos.limpiar();
+		ngramasMarca.limpiar();
+		ngramasModelo.limpiar();
+		cadenas = new DiccionarioCadenas();
 
 		int contador = 0;
-		for (Vehiculo v : vehiculosDeserializados) {
+		this.tope = 0;
+		for (int i = 0; i < vehiculosDeserializados.length; i++) {
+			Vehiculo v = vehiculosDeserializados[i];
 			if (v != null) {
+				indicePlaca.asignar(v.getPlaca(), i);
+				indexar(v);
 				contador++;
+				this.tope = i + 1;
 			}
 		}
 		this.size = contador;
+
+		// Las posiciones nulas por debajo del tope quedan disponibles
+		cantidadLibres = 0;
+		for (int i = tope - 1; i >= 0; i--) {
+			if (vehiculosDeserializados[i] == null) {
+				liberar(i);
+			}
+		}
+		publicar(EventoCambio.Tipo.RECARGADO, null, null, -1);
 	}
 
 	/**
-	 * Serializa el arreglo de vehículos y lo guarda en un archivo.
+	 * Serializa el arreglo de vehículos y lo guarda en un archivo, en el formato
+	 * binario de {@link ArchivoBinarioVehiculos}.
 	 * 
 	 * @param vehiculos El arreglo de vehículos a serializar.
 	 * @param path      La ruta donde se guardará el archivo.
@@ -81,47 +302,41 @@ public class ImplementacionCRUD implements CRUD, OperacionArchivo {
 	 */
 	@Override
 	public String serializar(Vehiculo[] vehiculos, String path, String name) {
-		try {
-			FileOutputStream fos = new FileOutputStream(path + name);
-			ObjectOutputStream oos = new ObjectOutputStream(fos);
-			oos.writeObject(vehiculos);
-			oos.close();
-			fos.close();
-			return "Archivo guardado exitosamente.";
-		} catch (IOException ioe) {
-			return "Error al guardar archivo: " + ioe.getMessage();
-		}
+		return FORMATO_ARCHIVO.serializar(vehiculos, path, name);
 	}
 
 	/**
 	 * Deserializa un archivo y devuelve el arreglo de vehículos almacenado en él.
+	 * Acepta el formato binario de {@link ArchivoBinarioVehiculos} y los archivos
+	 * escritos con la serialización de Java por versiones anteriores.
 	 * 
 	 * @param path La ruta del archivo a deserializar.
 	 * @param name El nombre del archivo a deserializar.
 	 * @return El arreglo de vehículos deserializado.
+	 * @throws java.io.UncheckedIOException si el archivo no pudo leerse; su
+	 *                                      mensaje describe el error.
 	 */
 	@Override
 	public Vehiculo[] deserializar(String path, String name) {
-		Vehiculo[] resultado = null;
-		try {
-			FileInputStream fis = new FileInputStream(path + name);
-			ObjectInputStream ois = new ObjectInputStream(fis);
-			resultado = (Vehiculo[]) ois.readObject();
-			ois.close();
-			fis.close();
-		} catch (IOException | ClassNotFoundException e) {
-			e.printStackTrace();
-		}
-		return resultado;
+		return FORMATO_ARCHIVO.deserializar(path, name);
 	}
 
 	/**
 	 * Crea un nuevo vehículo y lo agrega al almacenamiento interno.
 	 *
 	 * <p>
-	 * Si hay espacio disponible en el arreglo, el vehículo se inserta en la primera
-	 * posición libre. Si el arreglo está lleno, se expande automáticamente antes de
-	 * insertar.
+	 * Si alguna eliminación dejó una posición libre, el vehículo la reutiliza; de
+	 * lo contrario se agrega después de la última posición usada. Las posiciones
+	 * libres se llevan en una pila, por lo que la inserción cuesta O(1)
+	 * amortizado. Si el arreglo está lleno, se le agrega un segmento nuevo sin
+	 * copiar los vehículos existentes. Si ya existe un vehículo con la misma
+	 * placa, no se agrega.
+	 * </p>
+	 *
+	 * <p>
+	 * Se almacena el objeto recibido, no una copia: su marca, modelo y estilo se
+	 * reemplazan por las instancias iguales del diccionario de cadenas, como
+	 * permite el contrato de {@link CRUD#create(Vehiculo)}.
 	 * </p>
 	 *
 	 * @param v el vehículo a agregar. No debe ser {@code null}.
@@ -132,24 +347,60 @@ public class ImplementacionCRUD implements CRUD, OperacionArchivo {
 	 */
 	@Override
 	public String create(Vehiculo v) {
-		for (int i = 0; i < vehiculos.length; i++) {
-			if (vehiculos[i] == null) {
-				vehiculos[i] = v;
-				size++;
-				return "Vehículo agregado exitosamente.";
-			}
+		if (indicePlaca.contiene(v.getPlaca())) {
+			return "Ya existe un vehículo con placa " + v.getPlaca() + ".";
 		}
-		expandArray();
-		vehiculos[size] = v;
+		boolean expandido = cantidadLibres == 0 && vehiculos.asegurarCapacidad(tope + 1);
+		insertar(v);
+		return expandido ? "Vehículo agregado exitosamente. El arreglo fue expandido."
+				: "Vehículo agregado exitosamente.";
+	}
+
+	/**
+	 * Coloca un vehículo en una posición libre (o al final) y lo registra en los
+	 * índices. El llamador debe haber verificado que la placa no exista y que el
+	 * arreglo tenga capacidad.
+	 * 
+	 * @param v El vehículo a insertar.
+	 */
+	private void insertar(Vehiculo v) {
+		int posicion = cantidadLibres > 0 ? libres[--cantidadLibres] : tope++;
+		vehiculos.set(posicion, v);
+		indicePlaca.asignar(v.getPlaca(), posicion);
+		indexar(v);
 		size++;
-		return "Vehículo agregado exitosamente. El arreglo fue expandido.";
+		publicar(EventoCambio.Tipo.CREADO, null, v, posicion);
+	}
+
+	/**
+	 * Crea varios vehículos en una sola pasada. La capacidad necesaria se reserva
+	 * una sola vez al inicio y no se genera un mensaje por vehículo.
+	 * 
+	 * @param nuevos Los vehículos que se desean crear.
+	 * @return Un resumen con la cantidad de vehículos creados y las placas
+	 *         rechazadas por estar duplicadas.
+	 */
+	@Override
+	public ResultadoLote createAll(Collection<? extends Vehiculo> nuevos) {
+		ResultadoLote resultado = new ResultadoLote();
+		vehiculos.asegurarCapacidad(tope + Math.max(0, nuevos.size() - cantidadLibres));
+		for (Vehiculo v : nuevos) {
+			if (indicePlaca.contiene(v.getPlaca())) {
+				resultado.registrarFallo(v.getPlaca());
+			} else {
+				insertar(v);
+				resultado.registrarExito();
+			}
+		}
+		return resultado;
 	}
 
 	/**
 	 * Busca un vehículo en el arreglo de almacenamiento a partir de su placa.
 	 *
 	 * <p>
-	 * La búsqueda no es sensible a mayúsculas/minúsculas.
+	 * La búsqueda no es sensible a mayúsculas/minúsculas y se resuelve mediante
+	 * el índice de placas en tiempo esperado constante.
 	 * </p>
 	 *
 	 * @param placa la placa del vehículo a buscar. No debe ser {@code null}.
@@ -159,12 +410,8 @@ public class ImplementacionCRUD implements CRUD, OperacionArchivo {
 	 */
 	@Override
 	public Vehiculo read(String placa) {
-		for (int i = 0; i < size; i++) {
-			if (vehiculos[i] != null && vehiculos[i].getPlaca().equalsIgnoreCase(placa)) {
-				return vehiculos[i];
-			}
-		}
-		return null;
+		int posicion = indicePlaca.buscar(placa);
+		return posicion < 0 ? null : vehiculos.get(posicion);
 	}
 
 	/**
@@ -183,7 +430,8 @@ public class ImplementacionCRUD implements CRUD, OperacionArchivo {
 	public Vehiculo[] readAll() {
 		Vehiculo[] resultado = new Vehiculo[size];
 		int j = 0;
-		for (Vehiculo v : vehiculos) {
+		for (int i = 0; i < tope; i++) {
+			Vehiculo v = vehiculos.get(i);
 			if (v != null) {
 				resultado[j++] = v;
 			}
@@ -191,12 +439,164 @@ public class ImplementacionCRUD implements CRUD, OperacionArchivo {
 		return resultado;
 	}
 
+	/**
+	 * Devuelve la cantidad de vehículos almacenados.
+	 *
+	 * @return El número de vehículos.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Recorre los vehículos almacenados directamente sobre el arreglo interno,
+	 * omitiendo las posiciones libres y sin crear copias.
+	 *
+	 * <p>
+	 * El resultado no está definido si el almacenamiento se modifica durante el
+	 * recorrido.
+	 * </p>
+	 *
+	 * @param accion La acción a aplicar sobre cada vehículo.
+	 */
+	@Override
+	public void forEach(Consumer<? super Vehiculo> accion) {
+		for (int i = 0; i < tope; i++) {
+			Vehiculo v = vehiculos.get(i);
+			if (v != null) {
+				accion.accept(v);
+			}
+		}
+	}
+
+	/**
+	 * Devuelve un iterador de solo lectura sobre el arreglo interno, sin crear
+	 * copias. El resultado no está definido si el almacenamiento se modifica
+	 * durante el recorrido.
+	 *
+	 * @return Un iterador sobre los vehículos almacenados.
+	 */
+	@Override
+	public Iterator<Vehiculo> iterator() {
+		return new Iterator<Vehiculo>() {
+			private int siguiente = avanzar(0);
+
+			private int avanzar(int desde) {
+				while (desde < tope && vehiculos.get(desde) == null) {
+					desde++;
+				}
+				return desde;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return siguiente < tope;
+			}
+
+			@Override
+			public Vehiculo next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				Vehiculo v = vehiculos.get(siguiente);
+				siguiente = avanzar(siguiente + 1);
+				return v;
+			}
+		};
+	}
+
+	/**
+	 * Devuelve un {@code Spliterator} sobre el arreglo interno, sin crear copias.
+	 *
+	 * @return Un {@code Spliterator} ordenado y de tamaño conocido.
+	 */
+	@Override
+	public Spliterator<Vehiculo> spliterator() {
+		return Spliterators.spliterator(iterator(), size,
+				Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT);
+	}
+
+	/**
+	 * Lee una página de vehículos a partir de una posición.
+	 *
+	 * <p>
+	 * Si no hay posiciones libres, el inicio de la página se calcula
+	 * directamente y el costo es proporcional a {@code limit}; de lo contrario
+	 * se omiten las lápidas anteriores a {@code offset}.
+	 * </p>
+	 *
+	 * @param offset La cantidad de vehículos que se omiten.
+	 * @param limit  La cantidad máxima de vehículos de la página.
+	 * @return Un arreglo con, como máximo, {@code limit} vehículos.
+	 * @throws IllegalArgumentException si {@code offset} o {@code limit} son
+	 *                                  negativos.
+	 */
+	@Override
+	public Vehiculo[] readPage(int offset, int limit) {
+		if (offset < 0 || limit < 0) {
+			throw new IllegalArgumentException("El desplazamiento y el límite no pueden ser negativos.");
+		}
+		int inicio;
+		if (cantidadLibres == 0) {
+			inicio = Math.min(offset, tope);
+		} else {
+			inicio = 0;
+			for (int omitidos = 0; inicio < tope && omitidos < offset; inicio++) {
+				if (vehiculos.get(inicio) != null) {
+					omitidos++;
+				}
+			}
+		}
+		return readPageDesde(inicio, limit).getVehiculos();
+	}
+
+	/**
+	 * Lee una página de vehículos a partir de un cursor. El cursor es la
+	 * posición interna del arreglo, por lo que cada página cuesta tiempo
+	 * proporcional a {@code limit} (más las lápidas que encuentre) sin importar
+	 * cuántas páginas se hayan recorrido antes.
+	 *
+	 * <p>
+	 * Una compactación del arreglo mueve los vehículos de posición, por lo que
+	 * los cursores obtenidos antes de ella dejan de ser válidos.
+	 * </p>
+	 *
+	 * @param cursor El cursor devuelto por la página anterior, o {@code 0}.
+	 * @param limit  La cantidad máxima de vehículos de la página.
+	 * @return La página leída junto con el cursor de la siguiente.
+	 * @throws IllegalArgumentException si {@code cursor} o {@code limit} son
+	 *                                  negativos.
+	 */
+	@Override
+	public Pagina readPageDesde(int cursor, int limit) {
+		if (cursor < 0 || limit < 0) {
+			throw new IllegalArgumentException("El cursor y el límite no pueden ser negativos.");
+		}
+		List<Vehiculo> pagina = new ArrayList<>(Math.min(limit, size));
+		int i = cursor;
+		while (i < tope && pagina.size() < limit) {
+			Vehiculo v = vehiculos.get(i++);
+			if (v != null) {
+				pagina.add(v);
+			}
+		}
+		while (i < tope && vehiculos.get(i) == null) {
+			i++;
+		}
+		return new Pagina(pagina.toArray(new Vehiculo[0]), i < tope ? i : Pagina.FIN);
+	}
+
 	/**
 	 * Actualiza un vehículo existente en la estructura interna de almacenamiento.
 	 *
 	 * <p>
 	 * Busca el vehículo original por su placa (ignorando mayúsculas/minúsculas) y
-	 * lo reemplaza con la instancia actualizada.
+	 * lo reemplaza con la instancia actualizada. Si la placa del vehículo
+	 * actualizado es distinta, el índice de placas se actualiza siempre que la
+	 * nueva placa no pertenezca a otro vehículo. Como en
+	 * {@link #create(Vehiculo)}, las cadenas de {@code actualizado} se reemplazan
+	 * por las del diccionario.
 	 * </p>
 	 *
 	 * @param original    el objeto {@link Vehiculo} original a buscar (por su
@@ -210,13 +610,50 @@ public class ImplementacionCRUD implements CRUD, OperacionArchivo {
 	 */
 	@Override
 	public String update(Vehiculo original, Vehiculo actualizado) {
-		for (int i = 0; i < size; i++) {
-			if (vehiculos[i] != null && vehiculos[i].getPlaca().equalsIgnoreCase(original.getPlaca())) {
-				vehiculos[i] = actualizado;
-				return "Vehículo actualizado exitosamente.";
+		int posicion = indicePlaca.buscar(original.getPlaca());
+		if (posicion < 0) {
+			return "Vehículo con placa " + original.getPlaca() + " no encontrado.";
+		}
+		Vehiculo anterior = vehiculos.get(posicion);
+		if (!anterior.getPlaca().equalsIgnoreCase(actualizado.getPlaca())) {
+			if (indicePlaca.contiene(actualizado.getPlaca())) {
+				return "Ya existe un vehículo con placa " + actualizado.getPlaca() + ".";
+			}
+			indicePlaca.quitar(anterior.getPlaca());
+			indicePlaca.asignar(actualizado.getPlaca(), posicion);
+		}
+		desindexar(anterior);
+		vehiculos.set(posicion, actualizado);
+		indexar(actualizado);
+		publicar(EventoCambio.Tipo.ACTUALIZADO, anterior, actualizado, posicion);
+		return "Vehículo actualizado exitosamente.";
+	}
+
+	/**
+	 * Actualiza varios vehículos en una sola pasada. Cada vehículo se identifica
+	 * por su propia placa.
+	 * 
+	 * @param actualizados Los vehículos con la información actualizada.
+	 * @return Un resumen con la cantidad de vehículos actualizados y las placas no
+	 *         encontradas.
+	 */
+	@Override
+	public ResultadoLote updateAll(Collection<? extends Vehiculo> actualizados) {
+		ResultadoLote resultado = new ResultadoLote();
+		for (Vehiculo v : actualizados) {
+			int posicion = indicePlaca.buscar(v.getPlaca());
+			if (posicion < 0) {
+				resultado.registrarFallo(v.getPlaca());
+			} else {
+				Vehiculo anterior = vehiculos.get(posicion);
+				desindexar(anterior);
+				vehiculos.set(posicion, v);
+				indexar(v);
+				publicar(EventoCambio.Tipo.ACTUALIZADO, anterior, v, posicion);
+				resultado.registrarExito();
 			}
 		}
-		return "Vehículo con placa " + original.getPlaca() + " no encontrado.";
+		return resultado;
 	}
 
 	/**
@@ -224,8 +661,11 @@ public class ImplementacionCRUD implements CRUD, OperacionArchivo {
 	 * placa.
 	 *
 	 * <p>
-	 * Elimina el vehículo si se encuentra, reacomodando el arreglo para mantener la
-	 * continuidad y decrementar el tamaño actual del almacenamiento.
+	 * La posición del vehículo eliminado se marca como libre (lápida) en lugar de
+	 * desplazar los elementos siguientes, por lo que el costo no depende de la
+	 * posición. Cuando las posiciones libres superan la mitad del espacio usado,
+	 * el arreglo se compacta con {@link #compactar()}, lo que mantiene el costo
+	 * amortizado constante.
 	 * </p>
 	 *
 	 * @param placa la placa del vehículo a eliminar (no sensible a
@@ -237,46 +677,638 @@ public class ImplementacionCRUD implements CRUD, OperacionArchivo {
 	 */
 	@Override
 	public String delete(String placa) {
-		for (int i = 0; i < size; i++) {
-			if (vehiculos[i] != null && vehiculos[i].getPlaca().equalsIgnoreCase(placa)) {
-				// Eliminar el vehículo sin importar el tipo
-				vehiculos[i] = null;
-
-				// Compactar el arreglo para mantener la continuidad
-				for (int j = i; j < size - 1; j++) {
-					vehiculos[j] = vehiculos[j + 1];
-				}
-				vehiculos[size - 1] = null; // Limpiar última posición
-				size--;
+		int i = indicePlaca.buscar(placa);
+		if (i < 0) {
+			return "Vehículo con placa " + placa + " no encontrado.";
+		}
+
+		eliminar(i);
+		compactarSiConviene();
+
+		return "Vehículo eliminado exitosamente.";
+	}
+
+	/**
+	 * Elimina el vehículo de una posición, dejando una lápida que se registra
+	 * como posición libre.
+	 * 
+	 * @param i La posición del vehículo a eliminar.
+	 */
+	private void eliminar(int i) {
+		Vehiculo eliminado = vehiculos.get(i);
+		indicePlaca.quitar(eliminado.getPlaca());
+		desindexar(eliminado);
+		vehiculos.set(i, null);
+		size--;
+		liberar(i);
+		publicar(EventoCambio.Tipo.ELIMINADO, eliminado, null, i);
+	}
 
-				return "Vehículo eliminado exitosamente.";
+	/**
+	 * Compacta el arreglo si las posiciones libres superan a las ocupadas.
+	 */
+	private void compactarSiConviene() {
+		if (cantidadLibres > UMBRAL_COMPACTACION && cantidadLibres > size) {
+			compactar();
+		}
+	}
+
+	/**
+	 * Elimina varios vehículos en una sola pasada. La compactación, si hace falta,
+	 * se realiza una única vez al final.
+	 * 
+	 * @param placas Las placas de los vehículos que se desean eliminar.
+	 * @return Un resumen con la cantidad de vehículos eliminados y las placas no
+	 *         encontradas.
+	 */
+	@Override
+	public ResultadoLote deleteAll(Collection<String> placas) {
+		ResultadoLote resultado = new ResultadoLote();
+		for (String placa : placas) {
+			int i = indicePlaca.buscar(placa);
+			if (i < 0) {
+				resultado.registrarFallo(placa);
+			} else {
+				eliminar(i);
+				resultado.registrarExito();
 			}
 		}
-		return "Vehículo con placa " + placa + " no encontrado.";
+		compactarSiConviene();
+		return resultado;
+	}
+
+	/**
+	 * Compacta el arreglo de almacenamiento moviendo los vehículos hacia el
+	 * inicio, en el mismo orden, para eliminar las posiciones libres que dejan
+	 * las eliminaciones. El índice de placas se actualiza con las nuevas
+	 * posiciones.
+	 * 
+	 * <p>
+	 * Se ejecuta automáticamente cuando las posiciones libres superan a las
+	 * ocupadas, pero también puede invocarse bajo demanda (por ejemplo, antes de
+	 * serializar).
+	 * </p>
+	 */
+	public void compactar() {
+		boolean movido = false;
+		int j = 0;
+		for (int i = 0; i < tope; i++) {
+			Vehiculo v = vehiculos.get(i);
+			if (v != null) {
+				if (i != j) {
+					vehiculos.set(j, v);
+					vehiculos.set(i, null);
+					indicePlaca.asignar(v.getPlaca(), j);
+					movido = true;
+				}
+				j++;
+			}
+		}
+		tope = j;
+		cantidadLibres = 0;
+		if (movido) {
+			publicar(EventoCambio.Tipo.COMPACTADO, null, null, -1);
+		}
+	}
+
+	/**
+	 * Crea una instantánea de los vehículos almacenados, consistente con el
+	 * estado actual, para leerla sin bloquear las escrituras.
+	 * 
+	 * <p>
+	 * La instantánea comparte los segmentos del almacenamiento; las escrituras
+	 * posteriores copian el segmento que modifican (copia en escritura), de modo
+	 * que quien lee la instantánea, incluso desde otro hilo, ve siempre el mismo
+	 * estado y el hilo que escribe nunca espera por él. Crearla cuesta una copia
+	 * del arreglo de segmentos, no de los vehículos.
+	 * </p>
+	 * 
+	 * <p>
+	 * Solo el almacenamiento principal forma parte de la instantánea; los índices
+	 * y resúmenes siempre reflejan el estado actual.
+	 * </p>
+	 * 
+	 * @return La instantánea del estado actual.
+	 */
+	public InstantaneaFlota instantanea() {
+		return new InstantaneaFlota(vehiculos.congelar(), tope, size);
 	}
 
 	/**
 	 * Lee y devuelve vehículos de un tipo específico (por ejemplo, Automovil,
 	 * Camion).
 	 * 
+	 * <p>
+	 * La consulta se resuelve con el índice por tipo, por lo que su costo es
+	 * proporcional a la cantidad de vehículos encontrados.
+	 * </p>
+	 * 
 	 * @param tipo La clase del tipo de vehículo a buscar.
 	 * @return Un arreglo de vehículos del tipo especificado.
 	 */
 	public Vehiculo[] readByTipo(Class<?> tipo) {
-		int contador = 0;
-		for (Vehiculo v : vehiculos) {
-			if (v != null && v.getClass() == tipo) {
-				contador++;
+		return indiceTipo.buscar(tipo);
+	}
+
+	/**
+	 * Busca los vehículos cuya placa empieza por un prefijo (no sensible a
+	 * mayúsculas/minúsculas), en orden alfabético de placa.
+	 * 
+	 * <p>
+	 * La consulta usa un índice ordenado de placas: ubica el prefijo en tiempo
+	 * logarítmico y recorre solo las coincidencias, por lo que sirve para sugerir
+	 * placas mientras el usuario escribe.
+	 * </p>
+	 * 
+	 * @param prefix El prefijo de la placa.
+	 * @param limit  La cantidad máxima de vehículos a devolver.
+	 * @return Un arreglo con, como máximo, {@code limit} vehículos.
+	 * @throws IllegalArgumentException si {@code limit} es negativo.
+	 */
+	public Vehiculo[] searchByPrefix(String prefix, int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("El límite no puede ser negativo.");
+		}
+		return indicePrefijos.buscar(IndicePlaca.normalizar(prefix), limit);
+	}
+
+	/**
+	 * Lee y devuelve los vehículos de una marca (no sensible a
+	 * mayúsculas/minúsculas).
+	 * 
+	 * @param marca La marca a buscar.
+	 * @return Un arreglo con los vehículos de la marca indicada.
+	 */
+	public Vehiculo[] readByMarca(String marca) {
+		return indiceMarca.buscar(clave(marca));
+	}
+
+	/**
+	 * Lee y devuelve los vehículos de un modelo (no sensible a
+	 * mayúsculas/minúsculas).
+	 * 
+	 * @param modelo El modelo a buscar.
+	 * @return Un arreglo con los vehículos del modelo indicado.
+	 */
+	public Vehiculo[] readByModelo(String modelo) {
+		return indiceModelo.buscar(clave(modelo));
+	}
+
+	/**
+	 * Sugiere las marcas registradas más parecidas a un texto, aunque esté mal
+	 * escrito (por ejemplo, {@code "Chevrlet"} sugiere {@code "CHEVROLET"}).
+	 * 
+	 * <p>
+	 * Usa un índice de trigramas sobre las marcas distintas, mantenido en cada
+	 * escritura, por lo que el costo depende de la cantidad de marcas y no de la
+	 * de vehículos.
+	 * </p>
+	 * 
+	 * @param marca El texto a buscar.
+	 * @param limit La cantidad máxima de marcas a devolver.
+	 * @return Las marcas normalizadas, de la más a la menos parecida.
+	 * @throws IllegalArgumentException si {@code limit} es negativo.
+	 */
+	public List<String> sugerirMarcas(String marca, int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("El límite no puede ser negativo.");
+		}
+		return ngramasMarca.buscar(clave(marca), limit);
+	}
+
+	/**
+	 * Sugiere los modelos registrados más parecidos a un texto, aunque esté mal
+	 * escrito.
+	 * 
+	 * @param modelo El texto a buscar.
+	 * @param limit  La cantidad máxima de modelos a devolver.
+	 * @return Los modelos normalizados, del más al menos parecido.
+	 * @throws IllegalArgumentException si {@code limit} es negativo.
+	 * @see #sugerirMarcas(String, int)
+	 */
+	public List<String> sugerirModelos(String modelo, int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("El límite no puede ser negativo.");
+		}
+		return ngramasModelo.buscar(clave(modelo), limit);
+	}
+
+	/**
+	 * Lee los vehículos cuya marca se parece a la indicada, empezando por los de
+	 * la marca más parecida.
+	 * 
+	 * @param marca La marca a buscar, posiblemente mal escrita.
+	 * @param limit La cantidad máxima de vehículos a devolver.
+	 * @return Un arreglo con, como máximo, {@code limit} vehículos.
+	 * @throws IllegalArgumentException si {@code limit} es negativo.
+	 */
+	public Vehiculo[] readByMarcaAproximada(String marca, int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("El límite no puede ser negativo.");
+		}
+		return leerGrupos(indiceMarca, sugerirMarcas(marca, Integer.MAX_VALUE), limit);
+	}
+
+	/**
+	 * Lee los vehículos cuyo modelo se parece al indicado, empezando por los del
+	 * modelo más parecido.
+	 * 
+	 * @param modelo El modelo a buscar, posiblemente mal escrito.
+	 * @param limit  La cantidad máxima de vehículos a devolver.
+	 * @return Un arreglo con, como máximo, {@code limit} vehículos.
+	 * @throws IllegalArgumentException si {@code limit} es negativo.
+	 */
+	public Vehiculo[] readByModeloAproximado(String modelo, int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("El límite no puede ser negativo.");
+		}
+		return leerGrupos(indiceModelo, sugerirModelos(modelo, Integer.MAX_VALUE), limit);
+	}
+
+	/**
+	 * Junta los vehículos de varios grupos de un índice secundario, en el orden
+	 * de las claves, hasta alcanzar el límite.
+	 */
+	private static Vehiculo[] leerGrupos(IndiceSecundario<String> indice, List<String> claves, int limit) {
+		List<Vehiculo> resultado = new ArrayList<>();
+		for (String c : claves) {
+			for (Vehiculo v : indice.buscar(c)) {
+				if (resultado.size() == limit) {
+					return resultado.toArray(new Vehiculo[0]);
+				}
+				resultado.add(v);
 			}
 		}
+		return resultado.toArray(new Vehiculo[0]);
+	}
 
-		Vehiculo[] resultado = new Vehiculo[contador];
-		int j = 0;
-		for (Vehiculo v : vehiculos) {
-			if (v != null && v.getClass() == tipo) {
-				resultado[j++] = v;
+	/**
+	 * Lee y devuelve los vehículos cuyo peso se encuentra en el rango indicado,
+	 * ordenados de menor a mayor peso.
+	 * 
+	 * <p>
+	 * Para un rango abierto puede usarse {@link Double#NEGATIVE_INFINITY} o
+	 * {@link Double#POSITIVE_INFINITY} como límite.
+	 * </p>
+	 * 
+	 * @param minimo El peso mínimo (inclusivo).
+	 * @param maximo El peso máximo (inclusivo).
+	 * @return Un arreglo con los vehículos encontrados.
+	 */
+	public Vehiculo[] readByPeso(double minimo, double maximo) {
+		return indicePeso.buscar(minimo, maximo);
+	}
+
+	/**
+	 * Lee y devuelve las motocicletas cuyo cilindraje se encuentra en el rango
+	 * indicado, ordenadas de menor a mayor cilindraje.
+	 * 
+	 * @param minimo El cilindraje mínimo (inclusivo).
+	 * @param maximo El cilindraje máximo (inclusivo).
+	 * @return Un arreglo con las motocicletas encontradas.
+	 */
+	public Vehiculo[] readByCilindrajeMotor(double minimo, double maximo) {
+		return indiceCilindraje.buscar(minimo, maximo);
+	}
+
+	/**
+	 * Lee y devuelve los camiones cuya capacidad de carga se encuentra en el
+	 * rango indicado, ordenados de menor a mayor capacidad.
+	 * 
+	 * @param minimo La capacidad de carga mínima (inclusiva).
+	 * @param maximo La capacidad de carga máxima (inclusiva).
+	 * @return Un arreglo con los camiones encontrados.
+	 */
+	public Vehiculo[] readByCapacidadCarga(double minimo, double maximo) {
+		return indiceCarga.buscar(minimo, maximo);
+	}
+
+	/**
+	 * Calcula cuánta memoria ocupan la marca, el modelo y el estilo de los
+	 * vehículos almacenados y cuánta se ahorra al compartir una instancia por
+	 * valor.
+	 * 
+	 * <p>
+	 * Al crear, actualizar o cargar vehículos con
+	 * {@link #setVehiculos(Vehiculo[])} (por ejemplo, tras {@code deserializar},
+	 * que produce una copia de cada cadena por registro), sus cadenas se
+	 * reemplazan por las instancias de un diccionario compartido, que retira las
+	 * cadenas que ya no usa ningún vehículo. El reporte recorre la flota, por lo
+	 * que su costo es lineal.
+	 * </p>
+	 * 
+	 * @return El reporte con las referencias, las instancias distintas y los
+	 *         bytes estimados con y sin compartir.
+	 */
+	public ReporteMemoria reporteMemoria() {
+		Set<String> instancias = Collections.newSetFromMap(new IdentityHashMap<>());
+		long referencias = 0;
+		long sinCompartir = 0;
+		long compartidos = 0;
+		for (int i = 0; i < tope; i++) {
+			Vehiculo v = vehiculos.get(i);
+			if (v == null) {
+				continue;
+			}
+			String estilo = v instanceof Automovil ? ((Automovil) v).getEstilo() : null;
+			for (String s : new String[] { v.getMarca(), v.getModelo(), estilo }) {
+				if (s != null) {
+					long tamano = ReporteMemoria.tamanoEstimado(s);
+					referencias++;
+					sinCompartir += tamano;
+					if (instancias.add(s)) {
+						compartidos += tamano;
+					}
+				}
 			}
 		}
-		return resultado;
+		return new ReporteMemoria(referencias, instancias.size(), sinCompartir, compartidos);
+	}
+
+	/**
+	 * Devuelve la cantidad de cadenas distintas que conserva el diccionario de
+	 * cadenas compartidas.
+	 * 
+	 * @return La cantidad de marcas, modelos y estilos distintos en uso.
+	 */
+	int tamanoDiccionario() {
+		return cadenas.tamano();
+	}
+
+	/**
+	 * Devuelve el resumen de una métrica sobre los vehículos a los que se aplica.
+	 * 
+	 * <p>
+	 * Los resúmenes se mantienen al crear, actualizar y eliminar vehículos, por lo
+	 * que la consulta no recorre el almacenamiento.
+	 * </p>
+	 * 
+	 * @param metrica La métrica a consultar.
+	 * @return El resumen de la métrica.
+	 */
+	@Override
+	public ResumenAgregado resumir(Metrica metrica) {
+		return agregados.total(metrica);
+	}
+
+	/**
+	 * Devuelve el resumen de una métrica para cada grupo de un criterio de
+	 * agrupación. El costo es proporcional a la cantidad de grupos, no a la de
+	 * vehículos.
+	 * 
+	 * @param agrupacion El criterio de agrupación.
+	 * @param metrica    La métrica a consultar.
+	 * @return Un mapa de solo lectura, ordenado por clave de grupo, con el resumen
+	 *         de cada grupo.
+	 */
+	@Override
+	public Map<String, ResumenAgregado> resumirPor(Agrupacion agrupacion, Metrica metrica) {
+		return agregados.porGrupo(agrupacion, metrica);
+	}
+
+	/**
+	 * Devuelve el resumen de una métrica para un solo grupo, en tiempo constante
+	 * esperado.
+	 * 
+	 * @param agrupacion El criterio de agrupación.
+	 * @param clave      La clave del grupo: el nombre simple de la clase para
+	 *                   {@link Agrupacion#TIPO}, o la marca o el modelo (no
+	 *                   sensible a mayúsculas/minúsculas).
+	 * @param metrica    La métrica a consultar.
+	 * @return El resumen del grupo, o {@link ResumenAgregado#VACIO} si no existe.
+	 */
+	public ResumenAgregado resumirGrupo(Agrupacion agrupacion, String clave, Metrica metrica) {
+		String normalizada = agrupacion == Agrupacion.TIPO ? clave : Agrupacion.normalizar(clave);
+		return agregados.grupo(agrupacion, metrica, normalizada);
+	}
+
+	/**
+	 * Plan de ejecución de una consulta: la condición que se resuelve con un
+	 * índice, o {@code null} si se recorre todo el almacenamiento, y la
+	 * descripción de cada condición considerada.
+	 */
+	private static final class PlanConsulta {
+		ConsultaVehiculos.Condicion indice;
+		long estimacion;
+		final List<String> candidatos = new ArrayList<>();
+	}
+
+	/**
+	 * Devuelve el índice de rango que contiene los valores de una métrica.
+	 */
+	private IndiceRango indiceRango(Metrica metrica) {
+		switch (metrica) {
+		case PESO:
+			return indicePeso;
+		case CILINDRAJE:
+			return indiceCilindraje;
+		default:
+			return indiceCarga;
+		}
+	}
+
+	/**
+	 * Devuelve los vehículos de un grupo de agregación, dada su clave
+	 * normalizada.
+	 */
+	private Vehiculo[] miembros(Agrupacion agrupacion, String clave) {
+		switch (agrupacion) {
+		case TIPO:
+			for (Class<?> tipo : indiceTipo.claves()) {
+				if (tipo.getSimpleName().equals(clave)) {
+					return indiceTipo.buscar(tipo);
+				}
+			}
+			return new Vehiculo[0];
+		case MARCA:
+			return indiceMarca.buscar(clave);
+		default:
+			return indiceModelo.buscar(clave);
+		}
+	}
+
+	/**
+	 * Devuelve el índice de rango de un campo numérico.
+	 */
+	private IndiceRango indiceRango(ConsultaVehiculos.Campo campo) {
+		switch (campo) {
+		case PESO:
+			return indicePeso;
+		case CILINDRAJE:
+			return indiceCilindraje;
+		default:
+			return indiceCarga;
+		}
+	}
+
+	/**
+	 * Devuelve el nombre del índice que resuelve un campo, para
+	 * {@link #explicar(ConsultaVehiculos)}.
+	 */
+	private static String nombreIndice(ConsultaVehiculos.Campo campo) {
+		switch (campo) {
+		case TIPO:
+			return "índice de tipo";
+		case PLACA:
+			return "índice de placas";
+		case MARCA:
+			return "índice de marca";
+		case MODELO:
+			return "índice de modelo";
+		case PESO:
+			return "índice de peso";
+		case CILINDRAJE:
+			return "índice de cilindraje";
+		default:
+			return "índice de capacidad de carga";
+		}
+	}
+
+	/**
+	 * Estima cuántos vehículos devuelve el índice de una condición. Los rangos se
+	 * cuentan solo hasta superar {@code limite}.
+	 *
+	 * @param c      Una condición indexable.
+	 * @param limite La mejor estimación conocida.
+	 * @return La cantidad de vehículos, o un valor mayor que {@code limite}.
+	 */
+	private long estimar(ConsultaVehiculos.Condicion c, long limite) {
+		switch (c.campo) {
+		case TIPO:
+			return indiceTipo.contar(c.tipo);
+		case PLACA:
+			return indicePlaca.contiene(c.texto) ? 1 : 0;
+		case MARCA:
+			return indiceMarca.contar(c.texto);
+		case MODELO:
+			return indiceModelo.contar(c.texto);
+		default:
+			return indiceRango(c.campo).contarHasta(limiteInferior(c), c.operador != ConsultaVehiculos.Operador.MAYOR,
+					limiteSuperior(c), c.operador != ConsultaVehiculos.Operador.MENOR, limite);
+		}
+	}
+
+	private static double limiteInferior(ConsultaVehiculos.Condicion c) {
+		switch (c.operador) {
+		case MENOR:
+		case MENOR_IGUAL:
+			return Double.NEGATIVE_INFINITY;
+		default:
+			return c.numero;
+		}
+	}
+
+	private static double limiteSuperior(ConsultaVehiculos.Condicion c) {
+		switch (c.operador) {
+		case MAYOR:
+		case MAYOR_IGUAL:
+			return Double.POSITIVE_INFINITY;
+		default:
+			return c.numero;
+		}
+	}
+
+	/**
+	 * Obtiene del índice los vehículos que cumplen una condición.
+	 */
+	private Vehiculo[] buscarConIndice(ConsultaVehiculos.Condicion c) {
+		switch (c.campo) {
+		case TIPO:
+			return indiceTipo.buscar(c.tipo);
+		case PLACA:
+			Vehiculo v = read(c.texto);
+			return v == null ? new Vehiculo[0] : new Vehiculo[] { v };
+		case MARCA:
+			return indiceMarca.buscar(c.texto);
+		case MODELO:
+			return indiceModelo.buscar(c.texto);
+		default:
+			return indiceRango(c.campo).buscar(limiteInferior(c), c.operador != ConsultaVehiculos.Operador.MAYOR,
+					limiteSuperior(c), c.operador != ConsultaVehiculos.Operador.MENOR);
+		}
+	}
+
+	/**
+	 * Elige la condición cuyo índice devuelve menos vehículos. Si ninguna mejora
+	 * el recorrido completo, el plan no usa índices.
+	 */
+	private PlanConsulta planificar(ConsultaVehiculos consulta) {
+		PlanConsulta plan = new PlanConsulta();
+		plan.estimacion = size;
+		for (ConsultaVehiculos.Condicion c : consulta.getCondiciones()) {
+			if (!c.esIndexable()) {
+				plan.candidatos.add(c + ": sin índice (operador !=)");
+				continue;
+			}
+			long limite = plan.estimacion;
+			long estimacion = estimar(c, limite);
+			plan.candidatos.add(c + ": " + nombreIndice(c.campo) + ", "
+					+ (estimacion > limite ? "más de " + limite : String.valueOf(estimacion)) + " filas");
+			if (estimacion < plan.estimacion) {
+				plan.indice = c;
+				plan.estimacion = estimacion;
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * Ejecuta una consulta usando el índice más selectivo disponible.
+	 * 
+	 * <p>
+	 * El planificador estima cuántos vehículos devuelve el índice de cada
+	 * condición (placa, tipo, marca, modelo o rangos numéricos) y usa el menor;
+	 * las demás condiciones se verifican sobre ese resultado. Si ninguna condición
+	 * puede resolverse con un índice que mejore un recorrido completo, se recorre
+	 * una instantánea del almacenamiento con {@link MotorConsultaParalela}, en
+	 * paralelo si la flota supera su umbral.
+	 * </p>
+	 * 
+	 * @param consulta La consulta a ejecutar.
+	 * @return Los vehículos que cumplen todas las condiciones; en el orden del
+	 *         índice usado, o en el del almacenamiento si se hizo un recorrido.
+	 */
+	public Vehiculo[] consultar(ConsultaVehiculos consulta) {
+		PlanConsulta plan = planificar(consulta);
+		if (plan.indice == null) {
+			return motor.filtrar(consulta::cumple);
+		}
+		List<Vehiculo> resultado = new ArrayList<>();
+		if (plan.estimacion > 0) {
+			for (Vehiculo v : buscarConIndice(plan.indice)) {
+				if (consulta.cumple(v)) {
+					resultado.add(v);
+				}
+			}
+		}
+		return resultado.toArray(new Vehiculo[0]);
+	}
+
+	/**
+	 * Describe cómo se ejecutaría una consulta: la estimación de cada condición y
+	 * el camino elegido por el planificador.
+	 * 
+	 * @param consulta La consulta a explicar.
+	 * @return Un texto de varias líneas con el plan de ejecución.
+	 */
+	public String explicar(ConsultaVehiculos consulta) {
+		PlanConsulta plan = planificar(consulta);
+		StringBuilder sb = new StringBuilder();
+		sb.append("Consulta: ")
+				.append(consulta.getCondiciones().isEmpty() ? "(todos los vehículos)" : consulta.toString())
+				.append('\n');
+		for (String candidato : plan.candidatos) {
+			sb.append("  - ").append(candidato).append('\n');
+		}
+		if (plan.indice != null) {
+			sb.append("Plan: ").append(nombreIndice(plan.indice.campo)).append(" con ").append(plan.indice)
+					.append(" (").append(plan.estimacion).append(" filas estimadas)");
+		} else {
+			sb.append("Plan: recorrido completo de ").append(size).append(" vehículos");
+		}
+		if (consulta.getCondiciones().size() > (plan.indice != null ? 1 : 0)) {
+			sb.append(plan.indice != null ? "; se verifican las demás condiciones" : "; se verifican las condiciones");
+		}
+		return sb.append('.').toString();
 	}
 }
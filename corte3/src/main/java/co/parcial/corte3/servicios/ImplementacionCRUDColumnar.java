@@ -0,0 +1,597 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * La clase {@code ImplementacionCRUDColumnar} implementa la interfaz
+ * {@code CRUD} almacenando la flota por columnas en lugar de un arreglo de
+ * objetos {@code Vehiculo}.
+ *
+ * <p>
+ * Cada atributo se guarda en un arreglo primitivo independiente (peso,
+ * cilindraje, capacidad de carga y una etiqueta de tipo en un {@code byte}),
+ * mientras que la marca, el modelo y el estilo se codifican con un
+ * {@link DiccionarioCadenas} compartido que libera los códigos que dejan de
+ * usarse. La búsqueda por placa usa una tabla hash de direccionamiento abierto
+ * que guarda solo el número de fila: la columna de placas es la única copia de
+ * cada placa. Los objetos {@code Vehiculo} solo se
+ * crean cuando se leen, por lo que las modificaciones sobre un vehículo leído no
+ * afectan al almacenamiento: deben aplicarse con {@link #update}.
+ * </p>
+ *
+ * <p>
+ * Las eliminaciones mueven el último registro a la posición liberada, de modo
+ * que las columnas se mantienen contiguas y los recorridos completos (por
+ * ejemplo {@link #sumaPeso()}) leen memoria secuencial.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class ImplementacionCRUDColumnar implements CRUD {
+
+	// Etiquetas de tipo
+	private static final byte TIPO_VEHICULO = 0;
+	private static final byte TIPO_AUTOMOVIL = 1;
+	private static final byte TIPO_MOTOCICLETA = 2;
+	private static final byte TIPO_CAMION = 3;
+
+	/** Valor de una ranura vacía en la tabla hash. */
+	private static final int VACIA = 0;
+
+	// Atributos
+	private byte[] tipo;
+	private String[] placa;
+	private int[] marca;
+	private int[] modelo;
+	private int[] estilo;
+	private double[] peso;
+	private double[] cilindraje;
+	private double[] carga;
+	private int size;
+	private final DiccionarioCadenas diccionario;
+	private int[] tabla;
+	private int mascara;
+
+	/**
+	 * Constructor que inicializa las columnas con una capacidad inicial.
+	 *
+	 * @param capacidadInicial La capacidad inicial de cada columna.
+	 */
+	public ImplementacionCRUDColumnar(int capacidadInicial) {
+		int capacidad = Math.max(1, capacidadInicial);
+		tipo = new byte[capacidad];
+		placa = new String[capacidad];
+		marca = new int[capacidad];
+		modelo = new int[capacidad];
+		estilo = new int[capacidad];
+		peso = new double[capacidad];
+		cilindraje = new double[capacidad];
+		carga = new double[capacidad];
+		size = 0;
+		diccionario = new DiccionarioCadenas();
+		int ranuras = Integer.highestOneBit(Math.max(8, capacidad * 2 - 1)) << 1;
+		tabla = new int[ranuras];
+		mascara = ranuras - 1;
+	}
+
+	/**
+	 * Duplica la capacidad de todas las columnas.
+	 */
+	private void expandirColumnas() {
+		int capacidad = tipo.length * 2;
+		tipo = Arrays.copyOf(tipo, capacidad);
+		placa = Arrays.copyOf(placa, capacidad);
+		marca = Arrays.copyOf(marca, capacidad);
+		modelo = Arrays.copyOf(modelo, capacidad);
+		estilo = Arrays.copyOf(estilo, capacidad);
+		peso = Arrays.copyOf(peso, capacidad);
+		cilindraje = Arrays.copyOf(cilindraje, capacidad);
+		carga = Arrays.copyOf(carga, capacidad);
+	}
+
+	/**
+	 * Duplica la tabla hash y vuelve a insertar todas las filas.
+	 */
+	private void expandirTabla() {
+		tabla = new int[tabla.length * 2];
+		mascara = tabla.length - 1;
+		for (int fila = 0; fila < size; fila++) {
+			tabla[buscarRanura(IndicePlaca.normalizar(placa[fila]))] = fila + 1;
+		}
+	}
+
+	private static int hash(String clave) {
+		int h = clave.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private int filaEn(int ranura) {
+		return tabla[ranura] - 1;
+	}
+
+	/**
+	 * Busca la ranura de una placa normalizada. Si la placa no existe, devuelve
+	 * la ranura vacía donde debería insertarse.
+	 */
+	private int buscarRanura(String clave) {
+		int ranura = hash(clave) & mascara;
+		while (true) {
+			int fila = filaEn(ranura);
+			if (fila < 0 || IndicePlaca.normalizar(placa[fila]).equals(clave)) {
+				return ranura;
+			}
+			ranura = (ranura + 1) & mascara;
+		}
+	}
+
+	/**
+	 * Libera una ranura desplazando hacia atrás las entradas siguientes del mismo
+	 * grupo, para no dejar huecos que corten las secuencias de sondeo.
+	 */
+	private void liberarRanura(int ranura) {
+		int libre = ranura;
+		int actual = ranura;
+		while (true) {
+			tabla[libre] = VACIA;
+			while (true) {
+				actual = (actual + 1) & mascara;
+				int fila = filaEn(actual);
+				if (fila < 0) {
+					return;
+				}
+				int ideal = hash(IndicePlaca.normalizar(placa[fila])) & mascara;
+				boolean seQueda = libre <= actual ? (libre < ideal && ideal <= actual)
+						: (libre < ideal || ideal <= actual);
+				if (!seQueda) {
+					tabla[libre] = fila + 1;
+					libre = actual;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Libera en el diccionario las cadenas que usa una fila.
+	 */
+	private void liberarCadenas(int fila) {
+		diccionario.liberar(marca[fila]);
+		diccionario.liberar(modelo[fila]);
+		diccionario.liberar(estilo[fila]);
+	}
+
+	/**
+	 * Devuelve la etiqueta de tipo correspondiente a un vehículo.
+	 *
+	 * @param v El vehículo.
+	 * @return La etiqueta de su clase concreta.
+	 */
+	private static byte etiqueta(Vehiculo v) {
+		if (v instanceof Automovil) {
+			return TIPO_AUTOMOVIL;
+		} else if (v instanceof Motocicleta) {
+			return TIPO_MOTOCICLETA;
+		} else if (v instanceof Camion) {
+			return TIPO_CAMION;
+		}
+		return TIPO_VEHICULO;
+	}
+
+	/**
+	 * Escribe los atributos de un vehículo en la fila indicada.
+	 *
+	 * @param fila La fila de destino.
+	 * @param v    El vehículo a escribir.
+	 */
+	private void escribir(int fila, Vehiculo v) {
+		byte t = etiqueta(v);
+		tipo[fila] = t;
+		placa[fila] = v.getPlaca();
+		marca[fila] = diccionario.codificar(v.getMarca());
+		modelo[fila] = diccionario.codificar(v.getModelo());
+		peso[fila] = v.getPeso();
+		estilo[fila] = t == TIPO_AUTOMOVIL ? diccionario.codificar(((Automovil) v).getEstilo())
+				: DiccionarioCadenas.NULO;
+		cilindraje[fila] = t == TIPO_MOTOCICLETA ? ((Motocicleta) v).getCilindrajeMotor() : 0;
+		carga[fila] = t == TIPO_CAMION ? ((Camion) v).getCapacidadCarga() : 0;
+	}
+
+	/**
+	 * Construye un objeto {@code Vehiculo} a partir de una fila.
+	 *
+	 * @param fila La fila a materializar.
+	 * @return Un nuevo vehículo con los valores de la fila.
+	 */
+	private Vehiculo materializar(int fila) {
+		String m = diccionario.decodificar(marca[fila]);
+		String mo = diccionario.decodificar(modelo[fila]);
+		switch (tipo[fila]) {
+		case TIPO_AUTOMOVIL:
+			return new Automovil(placa[fila], m, mo, peso[fila], diccionario.decodificar(estilo[fila]));
+		case TIPO_MOTOCICLETA:
+			return new Motocicleta(placa[fila], m, mo, peso[fila], cilindraje[fila]);
+		case TIPO_CAMION:
+			return new Camion(placa[fila], m, mo, peso[fila], carga[fila]);
+		default:
+			return new Vehiculo(placa[fila], m, mo, peso[fila]);
+		}
+	}
+
+	/**
+	 * Crea un nuevo vehículo y lo agrega al final de las columnas.
+	 *
+	 * @param v el vehículo a agregar. No debe ser {@code null}.
+	 * @return un mensaje que indica si el vehículo fue agregado exitosamente, y si
+	 *         fue necesario expandir las columnas.
+	 * @throws NullPointerException si el parámetro {@code v} es {@code null}.
+	 */
+	@Override
+	public String create(Vehiculo v) {
+		int capacidadAnterior = tipo.length;
+		if (!crear(v)) {
+			return "Ya existe un vehículo con placa " + v.getPlaca() + ".";
+		}
+		return tipo.length != capacidadAnterior ? "Vehículo agregado exitosamente. El arreglo fue expandido."
+				: "Vehículo agregado exitosamente.";
+	}
+
+	/**
+	 * Agrega un vehículo al final de las columnas si su placa no está
+	 * registrada.
+	 *
+	 * @return {@code true} si el vehículo se agregó.
+	 */
+	private boolean crear(Vehiculo v) {
+		int ranura = buscarRanura(IndicePlaca.normalizar(v.getPlaca()));
+		if (filaEn(ranura) >= 0) {
+			return false;
+		}
+		if (size == tipo.length) {
+			expandirColumnas();
+		}
+		escribir(size, v);
+		size++;
+		if (size * 2 > tabla.length) {
+			expandirTabla();
+		} else {
+			tabla[ranura] = size;
+		}
+		return true;
+	}
+
+	/**
+	 * Crea varios vehículos. El éxito de cada uno se decide con el resultado de
+	 * su escritura.
+	 *
+	 * @param nuevos Los vehículos que se desean crear.
+	 * @return Un resumen con la cantidad de vehículos creados y las placas
+	 *         rechazadas por estar duplicadas.
+	 */
+	@Override
+	public ResultadoLote createAll(Collection<? extends Vehiculo> nuevos) {
+		ResultadoLote resultado = new ResultadoLote();
+		for (Vehiculo v : nuevos) {
+			if (crear(v)) {
+				resultado.registrarExito();
+			} else {
+				resultado.registrarFallo(v.getPlaca());
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Busca un vehículo por su placa (no sensible a mayúsculas/minúsculas) y lo
+	 * materializa.
+	 *
+	 * @param placa la placa del vehículo a buscar. No debe ser {@code null}.
+	 * @return una copia del vehículo encontrado, o {@code null} si no existe.
+	 * @throws NullPointerException si {@code placa} es {@code null}.
+	 */
+	@Override
+	public Vehiculo read(String placa) {
+		int fila = filaEn(buscarRanura(IndicePlaca.normalizar(placa)));
+		return fila < 0 ? null : materializar(fila);
+	}
+
+	/**
+	 * Materializa y devuelve todos los vehículos almacenados.
+	 *
+	 * @return un arreglo de {@link Vehiculo} con todos los registros.
+	 */
+	@Override
+	public Vehiculo[] readAll() {
+		Vehiculo[] resultado = new Vehiculo[size];
+		for (int i = 0; i < size; i++) {
+			resultado[i] = materializar(i);
+		}
+		return resultado;
+	}
+
+	/**
+	 * Sobrescribe la fila del vehículo original con los valores del vehículo
+	 * actualizado.
+	 *
+	 * @param original    el vehículo original a buscar (por su placa).
+	 * @param actualizado el vehículo con los nuevos valores.
+	 * @return un mensaje indicando si la operación fue exitosa o si no se encontró
+	 *         el vehículo.
+	 * @throws NullPointerException si alguno de los parámetros es {@code null}.
+	 */
+	@Override
+	public String update(Vehiculo original, Vehiculo actualizado) {
+		int ranura = buscarRanura(IndicePlaca.normalizar(original.getPlaca()));
+		int fila = filaEn(ranura);
+		if (fila < 0) {
+			return "Vehículo con placa " + original.getPlaca() + " no encontrado.";
+		}
+		String nuevaClave = IndicePlaca.normalizar(actualizado.getPlaca());
+		boolean renombrado = !IndicePlaca.normalizar(placa[fila]).equals(nuevaClave);
+		if (renombrado) {
+			if (filaEn(buscarRanura(nuevaClave)) >= 0) {
+				return "Ya existe un vehículo con placa " + actualizado.getPlaca() + ".";
+			}
+			liberarRanura(ranura);
+		}
+		sobrescribir(fila, actualizado);
+		if (renombrado) {
+			tabla[buscarRanura(nuevaClave)] = fila + 1;
+		}
+		return "Vehículo actualizado exitosamente.";
+	}
+
+	/**
+	 * Reemplaza los valores de una fila y libera las cadenas que dejó de usar.
+	 */
+	private void sobrescribir(int fila, Vehiculo actualizado) {
+		// Se codifican las cadenas nuevas antes de liberar las anteriores para no
+		// retirar y volver a registrar las que no cambian
+		int marcaAnterior = marca[fila];
+		int modeloAnterior = modelo[fila];
+		int estiloAnterior = estilo[fila];
+		escribir(fila, actualizado);
+		diccionario.liberar(marcaAnterior);
+		diccionario.liberar(modeloAnterior);
+		diccionario.liberar(estiloAnterior);
+	}
+
+	/**
+	 * Actualiza varios vehículos, cada uno identificado por su propia placa. Solo
+	 * cuentan como éxito las filas que se sobrescribieron.
+	 *
+	 * @param actualizados Los vehículos con la información actualizada.
+	 * @return Un resumen con la cantidad de vehículos actualizados y las placas
+	 *         no encontradas.
+	 */
+	@Override
+	public ResultadoLote updateAll(Collection<? extends Vehiculo> actualizados) {
+		ResultadoLote resultado = new ResultadoLote();
+		for (Vehiculo v : actualizados) {
+			int fila = filaEn(buscarRanura(IndicePlaca.normalizar(v.getPlaca())));
+			if (fila >= 0) {
+				sobrescribir(fila, v);
+				resultado.registrarExito();
+			} else {
+				resultado.registrarFallo(v.getPlaca());
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Elimina un vehículo por su placa moviendo el último registro a la fila
+	 * liberada, por lo que el costo no depende de la posición.
+	 *
+	 * @param placa la placa del vehículo a eliminar (no sensible a
+	 *              mayúsculas/minúsculas).
+	 * @return un mensaje indicando si el vehículo fue eliminado o no se encontró.
+	 * @throws NullPointerException si {@code placa} es {@code null}.
+	 */
+	@Override
+	public String delete(String placa) {
+		if (!eliminar(placa)) {
+			return "Vehículo con placa " + placa + " no encontrado.";
+		}
+		return "Vehículo eliminado exitosamente.";
+	}
+
+	/**
+	 * Quita la fila de una placa moviendo la última a su posición.
+	 *
+	 * @return {@code true} si la placa estaba registrada y se quitó.
+	 */
+	private boolean eliminar(String placa) {
+		int ranura = buscarRanura(IndicePlaca.normalizar(placa));
+		int fila = filaEn(ranura);
+		if (fila < 0) {
+			return false;
+		}
+		liberarRanura(ranura);
+		liberarCadenas(fila);
+		int ultima = size - 1;
+		if (fila != ultima) {
+			int ranuraUltima = buscarRanura(IndicePlaca.normalizar(this.placa[ultima]));
+			tipo[fila] = tipo[ultima];
+			this.placa[fila] = this.placa[ultima];
+			marca[fila] = marca[ultima];
+			modelo[fila] = modelo[ultima];
+			estilo[fila] = estilo[ultima];
+			peso[fila] = peso[ultima];
+			cilindraje[fila] = cilindraje[ultima];
+			carga[fila] = carga[ultima];
+			tabla[ranuraUltima] = fila + 1;
+		}
+		this.placa[ultima] = null;
+		size--;
+		return true;
+	}
+
+	/**
+	 * Elimina varios vehículos. El éxito de cada uno se decide con el resultado
+	 * de su eliminación.
+	 *
+	 * @param placas Las placas de los vehículos que se desean eliminar.
+	 * @return Un resumen con la cantidad de vehículos eliminados y las placas no
+	 *         encontradas.
+	 */
+	@Override
+	public ResultadoLote deleteAll(Collection<String> placas) {
+		ResultadoLote resultado = new ResultadoLote();
+		for (String placa : placas) {
+			if (eliminar(placa)) {
+				resultado.registrarExito();
+			} else {
+				resultado.registrarFallo(placa);
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Lee y devuelve los vehículos de un tipo específico recorriendo únicamente
+	 * la columna de etiquetas.
+	 *
+	 * @param tipo La clase del tipo de vehículo a buscar.
+	 * @return Un arreglo de vehículos del tipo especificado.
+	 */
+	public Vehiculo[] readByTipo(Class<?> tipo) {
+		byte buscado;
+		if (tipo == Automovil.class) {
+			buscado = TIPO_AUTOMOVIL;
+		} else if (tipo == Motocicleta.class) {
+			buscado = TIPO_MOTOCICLETA;
+		} else if (tipo == Camion.class) {
+			buscado = TIPO_CAMION;
+		} else if (tipo == Vehiculo.class) {
+			buscado = TIPO_VEHICULO;
+		} else {
+			return new Vehiculo[0];
+		}
+
+		int contador = 0;
+		for (int i = 0; i < size; i++) {
+			if (this.tipo[i] == buscado) {
+				contador++;
+			}
+		}
+		Vehiculo[] resultado = new Vehiculo[contador];
+		int j = 0;
+		for (int i = 0; i < size && j < contador; i++) {
+			if (this.tipo[i] == buscado) {
+				resultado[j++] = materializar(i);
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Calcula el peso total de la flota recorriendo la columna de pesos.
+	 *
+	 * @return La suma del peso de todos los vehículos.
+	 */
+	public double sumaPeso() {
+		double total = 0;
+		for (int i = 0; i < size; i++) {
+			total += peso[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Calcula la capacidad de carga total de los camiones.
+	 *
+	 * @return La suma de la capacidad de carga de todos los camiones.
+	 */
+	public double sumaCapacidadCarga() {
+		double total = 0;
+		for (int i = 0; i < size; i++) {
+			total += carga[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Materializa una página de vehículos. Como los registros son contiguos, el
+	 * costo es proporcional a {@code limit}.
+	 *
+	 * @param offset La cantidad de vehículos que se omiten.
+	 * @param limit  La cantidad máxima de vehículos de la página.
+	 * @return Un arreglo con, como máximo, {@code limit} vehículos.
+	 * @throws IllegalArgumentException si {@code offset} o {@code limit} son
+	 *                                  negativos.
+	 */
+	@Override
+	public Vehiculo[] readPage(int offset, int limit) {
+		if (offset < 0 || limit < 0) {
+			throw new IllegalArgumentException("El desplazamiento y el límite no pueden ser negativos.");
+		}
+		int cantidad = (int) Math.max(0, Math.min((long) size - offset, limit));
+		Vehiculo[] resultado = new Vehiculo[cantidad];
+		for (int i = 0; i < cantidad; i++) {
+			resultado[i] = materializar(offset + i);
+		}
+		return resultado;
+	}
+
+	/**
+	 * Materializa y entrega los vehículos uno por uno, sin construir un arreglo
+	 * con toda la flota.
+	 *
+	 * @param accion La acción a aplicar sobre cada vehículo.
+	 */
+	@Override
+	public void forEach(Consumer<? super Vehiculo> accion) {
+		for (int i = 0; i < size; i++) {
+			accion.accept(materializar(i));
+		}
+	}
+
+	/**
+	 * Devuelve un iterador que materializa los vehículos a medida que se
+	 * recorren. El resultado no está definido si el almacenamiento se modifica
+	 * durante el recorrido.
+	 *
+	 * @return Un iterador sobre los vehículos almacenados.
+	 */
+	@Override
+	public Iterator<Vehiculo> iterator() {
+		return new Iterator<Vehiculo>() {
+			private int i = 0;
+
+			@Override
+			public boolean hasNext() {
+				return i < size;
+			}
+
+			@Override
+			public Vehiculo next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				Vehiculo v = materializar(i);
+				i++;
+				return v;
+			}
+		};
+	}
+
+	/**
+	 * Devuelve la cantidad de vehículos almacenados.
+	 *
+	 * @return El número de registros.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+}
@@ -0,0 +1,391 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * La clase {@code ImplementacionCRUDConcurrente} implementa la interfaz
+ * {@code CRUD} de forma segura para hilos, de modo que la misma flota pueda
+ * compartirse entre la interfaz gráfica, procesos de importación y otros
+ * clientes.
+ *
+ * <p>
+ * Los vehículos se guardan en un {@link ConcurrentHashMap} indexado por placa
+ * normalizada, por lo que las lecturas nunca se bloquean. Las escrituras toman
+ * el candado de la franja que corresponde a la placa ({@value #FRANJAS}
+ * franjas), así que las escrituras sobre placas distintas avanzan en paralelo y
+ * las escrituras sobre la misma placa se serializan. Una actualización que
+ * cambia la placa toma las dos franjas involucradas en orden, para evitar
+ * interbloqueos.
+ * </p>
+ *
+ * <p>
+ * Un cambio de placa modifica dos entradas del mapa, así que además se hace
+ * bajo el candado de escritura de un {@link StampedLock}. Las lecturas lo usan
+ * como candado de secuencia: leen de forma optimista, sin bloquearse, y solo
+ * si un cambio de placa ocurrió mientras tanto repiten la lectura con el
+ * candado de lectura. Así, ninguna lectura ve un vehículo bajo las dos placas
+ * ni bajo ninguna, y cada operación tiene efecto en un único instante.
+ * </p>
+ *
+ * <p>
+ * {@link #readAll()}, {@link #readByTipo(Class)} y los recorridos ven cada
+ * cambio de placa completo o no lo ven. Como las creaciones y eliminaciones
+ * no detienen a los lectores, un recorrido simultáneo con ellas puede reflejar
+ * o no las que ocurren durante el recorrido. {@link #size()} usa su propio
+ * contador, que solo cambia con las creaciones y eliminaciones.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class ImplementacionCRUDConcurrente implements CRUD {
+
+	/** Cantidad de candados usados para repartir las escrituras. */
+	private static final int FRANJAS = 64;
+
+	// Atributos
+	private final ConcurrentHashMap<String, Vehiculo> vehiculos;
+	private final ReentrantLock[] candados;
+	private final AtomicInteger cantidad = new AtomicInteger();
+	/** Candado de escritura de los cambios de placa y de secuencia de los lectores. */
+	private final StampedLock cambiosPlaca = new StampedLock();
+
+	/**
+	 * Constructor que inicializa el almacenamiento con una capacidad inicial.
+	 *
+	 * @param capacidadInicial La cantidad de vehículos que se espera almacenar.
+	 */
+	public ImplementacionCRUDConcurrente(int capacidadInicial) {
+		vehiculos = new ConcurrentHashMap<>(Math.max(16, capacidadInicial));
+		candados = new ReentrantLock[FRANJAS];
+		for (int i = 0; i < FRANJAS; i++) {
+			candados[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * Devuelve el índice de la franja que protege una placa normalizada.
+	 */
+	private static int franja(String clave) {
+		int h = clave.hashCode();
+		return (h ^ (h >>> 16)) & (FRANJAS - 1);
+	}
+
+	/**
+	 * Crea un nuevo vehículo si su placa no está registrada.
+	 *
+	 * @param v el vehículo a agregar. No debe ser {@code null}.
+	 * @return un mensaje que indica si el vehículo fue agregado.
+	 * @throws NullPointerException si el parámetro {@code v} es {@code null}.
+	 */
+	@Override
+	public String create(Vehiculo v) {
+		if (!crear(v)) {
+			return "Ya existe un vehículo con placa " + v.getPlaca() + ".";
+		}
+		return "Vehículo agregado exitosamente.";
+	}
+
+	/**
+	 * Agrega un vehículo bajo el candado de su franja.
+	 *
+	 * @return {@code true} si la placa no estaba registrada y el vehículo se
+	 *         agregó.
+	 */
+	private boolean crear(Vehiculo v) {
+		String clave = IndicePlaca.normalizar(v.getPlaca());
+		ReentrantLock candado = candados[franja(clave)];
+		candado.lock();
+		try {
+			if (vehiculos.putIfAbsent(clave, v) != null) {
+				return false;
+			}
+			cantidad.incrementAndGet();
+			return true;
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * Crea varios vehículos. El éxito de cada uno se decide con el resultado de
+	 * la inserción bajo el candado de su franja, por lo que una creación
+	 * concurrente de la misma placa se informa como fallo.
+	 *
+	 * @param nuevos Los vehículos que se desean crear.
+	 * @return Un resumen con la cantidad de vehículos creados y las placas
+	 *         rechazadas.
+	 */
+	@Override
+	public ResultadoLote createAll(Collection<? extends Vehiculo> nuevos) {
+		ResultadoLote resultado = new ResultadoLote();
+		for (Vehiculo v : nuevos) {
+			if (crear(v)) {
+				resultado.registrarExito();
+			} else {
+				resultado.registrarFallo(v.getPlaca());
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Busca un vehículo por su placa. La lectura no toma ningún candado salvo
+	 * que un cambio de placa ocurra al mismo tiempo.
+	 *
+	 * @param placa la placa del vehículo a buscar. No debe ser {@code null}.
+	 * @return el vehículo encontrado si existe; de lo contrario, {@code null}.
+	 * @throws NullPointerException si {@code placa} es {@code null}.
+	 */
+	@Override
+	public Vehiculo read(String placa) {
+		String clave = IndicePlaca.normalizar(placa);
+		long sello = cambiosPlaca.tryOptimisticRead();
+		Vehiculo v = vehiculos.get(clave);
+		if (cambiosPlaca.validate(sello)) {
+			return v;
+		}
+		sello = cambiosPlaca.readLock();
+		try {
+			return vehiculos.get(clave);
+		} finally {
+			cambiosPlaca.unlockRead(sello);
+		}
+	}
+
+	/**
+	 * Devuelve un arreglo con los vehículos almacenados.
+	 *
+	 * @return un arreglo de {@link Vehiculo} con los vehículos presentes durante
+	 *         el recorrido, con cada cambio de placa completo o sin empezar.
+	 */
+	@Override
+	public Vehiculo[] readAll() {
+		return recorrer(v -> true);
+	}
+
+	/**
+	 * Copia los vehículos que cumplen un filtro. Si un cambio de placa ocurre
+	 * durante el recorrido optimista, se repite con el candado de lectura, que
+	 * detiene los cambios de placa hasta terminar.
+	 */
+	private Vehiculo[] recorrer(Predicate<Vehiculo> filtro) {
+		long sello = cambiosPlaca.tryOptimisticRead();
+		if (sello != 0) {
+			Vehiculo[] resultado = copiar(filtro);
+			if (cambiosPlaca.validate(sello)) {
+				return resultado;
+			}
+		}
+		sello = cambiosPlaca.readLock();
+		try {
+			return copiar(filtro);
+		} finally {
+			cambiosPlaca.unlockRead(sello);
+		}
+	}
+
+	private Vehiculo[] copiar(Predicate<Vehiculo> filtro) {
+		List<Vehiculo> resultado = new ArrayList<>();
+		for (Vehiculo v : vehiculos.values()) {
+			if (filtro.test(v)) {
+				resultado.add(v);
+			}
+		}
+		return resultado.toArray(new Vehiculo[0]);
+	}
+
+	/**
+	 * Reemplaza el vehículo original por el actualizado. Si la placa cambia, la
+	 * nueva placa no debe pertenecer a otro vehículo.
+	 *
+	 * @param original    el vehículo original a buscar (por su placa).
+	 * @param actualizado el vehículo con los nuevos valores.
+	 * @return un mensaje indicando si la operación fue exitosa o si no se encontró
+	 *         el vehículo.
+	 * @throws NullPointerException si alguno de los parámetros es {@code null}.
+	 */
+	@Override
+	public String update(Vehiculo original, Vehiculo actualizado) {
+		String clave = IndicePlaca.normalizar(original.getPlaca());
+		String nuevaClave = IndicePlaca.normalizar(actualizado.getPlaca());
+		int a = franja(clave);
+		int b = franja(nuevaClave);
+		ReentrantLock primero = candados[Math.min(a, b)];
+		ReentrantLock segundo = candados[Math.max(a, b)];
+		primero.lock();
+		segundo.lock();
+		try {
+			if (!vehiculos.containsKey(clave)) {
+				return "Vehículo con placa " + original.getPlaca() + " no encontrado.";
+			}
+			if (clave.equals(nuevaClave)) {
+				vehiculos.put(clave, actualizado);
+			} else {
+				// Las franjas de las dos placas están tomadas: nadie más puede
+				// registrar la nueva ni quitar la anterior
+				if (vehiculos.containsKey(nuevaClave)) {
+					return "Ya existe un vehículo con placa " + actualizado.getPlaca() + ".";
+				}
+				long sello = cambiosPlaca.writeLock();
+				try {
+					vehiculos.put(nuevaClave, actualizado);
+					vehiculos.remove(clave);
+				} finally {
+					cambiosPlaca.unlockWrite(sello);
+				}
+			}
+		} finally {
+			segundo.unlock();
+			primero.unlock();
+		}
+		return "Vehículo actualizado exitosamente.";
+	}
+
+	/**
+	 * Elimina un vehículo por su placa.
+	 *
+	 * @param placa la placa del vehículo a eliminar (no sensible a
+	 *              mayúsculas/minúsculas).
+	 * @return un mensaje indicando si el vehículo fue eliminado o no se encontró.
+	 * @throws NullPointerException si {@code placa} es {@code null}.
+	 */
+	@Override
+	public String delete(String placa) {
+		if (!eliminar(placa)) {
+			return "Vehículo con placa " + placa + " no encontrado.";
+		}
+		return "Vehículo eliminado exitosamente.";
+	}
+
+	/**
+	 * Quita un vehículo bajo el candado de su franja.
+	 *
+	 * @return {@code true} si la placa estaba registrada y se quitó.
+	 */
+	private boolean eliminar(String placa) {
+		String clave = IndicePlaca.normalizar(placa);
+		ReentrantLock candado = candados[franja(clave)];
+		candado.lock();
+		try {
+			if (vehiculos.remove(clave) == null) {
+				return false;
+			}
+			cantidad.decrementAndGet();
+			return true;
+		} finally {
+			candado.unlock();
+		}
+	}
+
+	/**
+	 * Actualiza varios vehículos, cada uno identificado por su propia placa. El
+	 * reemplazo se hace bajo el candado de la franja y solo cuenta como éxito si
+	 * la placa seguía registrada.
+	 *
+	 * @param actualizados Los vehículos con la información actualizada.
+	 * @return Un resumen con la cantidad de vehículos actualizados y las placas
+	 *         rechazadas.
+	 */
+	@Override
+	public ResultadoLote updateAll(Collection<? extends Vehiculo> actualizados) {
+		ResultadoLote resultado = new ResultadoLote();
+		for (Vehiculo v : actualizados) {
+			String clave = IndicePlaca.normalizar(v.getPlaca());
+			ReentrantLock candado = candados[franja(clave)];
+			boolean reemplazado;
+			candado.lock();
+			try {
+				reemplazado = vehiculos.replace(clave, v) != null;
+			} finally {
+				candado.unlock();
+			}
+			if (reemplazado) {
+				resultado.registrarExito();
+			} else {
+				resultado.registrarFallo(v.getPlaca());
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Elimina varios vehículos. El éxito de cada uno se decide con el resultado
+	 * de la eliminación bajo el candado de su franja, por lo que una eliminación
+	 * concurrente de la misma placa se informa como fallo.
+	 *
+	 * @param placas Las placas de los vehículos que se desean eliminar.
+	 * @return Un resumen con la cantidad de vehículos eliminados y las placas no
+	 *         encontradas.
+	 */
+	@Override
+	public ResultadoLote deleteAll(Collection<String> placas) {
+		ResultadoLote resultado = new ResultadoLote();
+		for (String placa : placas) {
+			if (eliminar(placa)) {
+				resultado.registrarExito();
+			} else {
+				resultado.registrarFallo(placa);
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Lee y devuelve los vehículos de un tipo específico.
+	 *
+	 * @param tipo La clase del tipo de vehículo a buscar.
+	 * @return Un arreglo de vehículos del tipo especificado.
+	 */
+	public Vehiculo[] readByTipo(Class<?> tipo) {
+		return recorrer(v -> v.getClass() == tipo);
+	}
+
+	/**
+	 * Devuelve un iterador de solo lectura sobre los vehículos. Recorre una copia
+	 * de las referencias tomada como en {@link #readAll()}, porque un recorrido
+	 * perezoso del mapa podría ver un cambio de placa a medias.
+	 *
+	 * @return Un iterador sobre los vehículos presentes al copiarlos.
+	 */
+	@Override
+	public Iterator<Vehiculo> iterator() {
+		return Arrays.asList(readAll()).iterator();
+	}
+
+	/**
+	 * Devuelve un {@code Spliterator} sobre una copia de las referencias tomada
+	 * como en {@link #readAll()}, apto para recorridos en paralelo mientras
+	 * otros hilos escriben.
+	 *
+	 * @return Un {@code Spliterator} dimensionado sobre los vehículos.
+	 */
+	@Override
+	public Spliterator<Vehiculo> spliterator() {
+		return Spliterators.spliterator(readAll(), Spliterator.IMMUTABLE | Spliterator.NONNULL);
+	}
+
+	/**
+	 * Devuelve la cantidad de vehículos almacenados, sin contar dos veces un
+	 * vehículo cuya placa está cambiando.
+	 *
+	 * @return El número de vehículos.
+	 */
+	@Override
+	public int size() {
+		return cantidad.get();
+	}
+}
@@ -0,0 +1,363 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * La clase {@code ImplementacionCRUDMapeada} es una variante de
+ * {@link ImplementacionCRUDOffHeap} cuyos registros viven en un archivo mapeado
+ * en memoria ({@link FileChannel#map}) en lugar de en buffers directos.
+ *
+ * <p>
+ * Abrir el almacenamiento no lee ni materializa la flota: el sistema operativo
+ * carga las páginas del archivo a medida que se usan, y cada operación modifica
+ * solo las páginas de los registros que toca. No hace falta llamar a
+ * {@code serializar} ni a {@code deserializar}.
+ * </p>
+ *
+ * <p>
+ * El archivo de datos tiene un encabezado de {@value #TAMANO_ENCABEZADO} bytes
+ * (la marca {@code VMAP}, la versión, la marca de cierre limpio, la operación
+ * en curso, la cantidad de registros, el tamaño de registro, la fila en curso y
+ * un registro de reserva) seguido de los registros con la disposición de
+ * {@link FormatoRegistro}. La tabla hash de placas se guarda en
+ * un archivo aparte con el mismo nombre y la extensión {@code .idx}; solo se
+ * reutiliza si el almacenamiento se cerró con {@link #close()}, y en otro caso
+ * se reconstruye a partir de los registros al abrir.
+ * </p>
+ *
+ * <p>
+ * Si el proceso termina de forma inesperada, los cambios ya escritos en las
+ * páginas mapeadas se conservan. Para que sobrevivan también a una caída del
+ * sistema hay que llamar a {@link #sincronizar()}.
+ * </p>
+ *
+ * <p>
+ * Ningún registro se sobrescribe sin anotar antes en el encabezado la
+ * operación y la fila en curso:
+ * </p>
+ * <ul>
+ * <li>Una eliminación mueve el último registro a la posición liberada con
+ * {@link FormatoRegistro#mover} y después reduce la cantidad del encabezado.
+ * Si el proceso termina entre ambos pasos, se repite una copia que quedó a
+ * medias y se descarta el último registro si es un duplicado exacto del
+ * registro movido.</li>
+ * <li>Una actualización, con o sin cambio de placa, escribe primero el
+ * registro nuevo en la reserva del encabezado y después lo copia a su fila.
+ * Si el proceso termina durante la copia, se repite desde la reserva.</li>
+ * </ul>
+ * <p>
+ * Al abrir un archivo que no se cerró de forma limpia solo se revisa la fila
+ * anotada, por lo que la recuperación no depende de la cantidad de registros.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class ImplementacionCRUDMapeada extends ImplementacionCRUDOffHeap implements Closeable {
+
+	/** Marca de inicio del archivo de datos: los bytes {@code "VMAP"}. */
+	static final int MARCA = 0x564D4150;
+
+	/** Versión del formato del archivo de datos. */
+	static final int VERSION = 2;
+
+	/** Desplazamiento del registro de reserva dentro del encabezado. */
+	static final int RESERVA = 32;
+
+	/** Tamaño en bytes del encabezado del archivo de datos. */
+	static final int TAMANO_ENCABEZADO = RESERVA + FormatoRegistro.TAMANO;
+
+	/** Extensión del archivo de la tabla hash. */
+	static final String EXTENSION_INDICE = ".idx";
+
+	/** Capacidad inicial por defecto de un archivo nuevo, en registros. */
+	public static final int CAPACIDAD_POR_DEFECTO = 1024;
+
+	// Desplazamientos dentro del encabezado
+	private static final int VERSION_POS = 4;
+	static final int LIMPIO = 6;
+	static final int OPERACION = 7;
+	static final int CANTIDAD = 8;
+	private static final int TAMANO_REGISTRO = 12;
+	static final int EN_CURSO = 16;
+
+	// Operaciones anotadas en el encabezado
+	static final byte ELIMINACION = 1;
+	static final byte ACTUALIZACION = 2;
+
+	// Atributos
+	private final FileChannel canalDatos;
+	private final FileChannel canalIndice;
+	private final MappedByteBuffer encabezado;
+	private MappedByteBuffer registrosMapeados;
+	private MappedByteBuffer tablaMapeada;
+
+	/**
+	 * Abre un almacenamiento mapeado, o lo crea con la capacidad por defecto si
+	 * el archivo no existe.
+	 *
+	 * @param path La ruta del directorio del archivo.
+	 * @param name El nombre del archivo de datos.
+	 * @throws IOException si el archivo no puede abrirse o no tiene el formato
+	 *                     esperado.
+	 */
+	public ImplementacionCRUDMapeada(String path, String name) throws IOException {
+		this(path, name, CAPACIDAD_POR_DEFECTO);
+	}
+
+	/**
+	 * Abre un almacenamiento mapeado, o lo crea si el archivo no existe.
+	 *
+	 * @param path             La ruta del directorio del archivo.
+	 * @param name             El nombre del archivo de datos.
+	 * @param capacidadInicial La cantidad mínima de registros que se reservan en
+	 *                         el archivo.
+	 * @throws IOException si el archivo no puede abrirse o no tiene el formato
+	 *                     esperado.
+	 */
+	public ImplementacionCRUDMapeada(String path, String name, int capacidadInicial) throws IOException {
+		this(Apertura.abrir(path + name, Math.max(1, capacidadInicial)));
+	}
+
+	private ImplementacionCRUDMapeada(Apertura a) {
+		super(a.registros, a.cantidad, a.tabla, a.tablaValida);
+		this.canalDatos = a.canalDatos;
+		this.canalIndice = a.canalIndice;
+		this.encabezado = a.encabezado;
+		this.registrosMapeados = a.registros;
+		this.tablaMapeada = a.tabla;
+	}
+
+	/**
+	 * Archivos abiertos y regiones mapeadas, validados antes de construir el
+	 * almacenamiento.
+	 */
+	private static final class Apertura {
+
+		FileChannel canalDatos;
+		FileChannel canalIndice;
+		MappedByteBuffer encabezado;
+		MappedByteBuffer registros;
+		MappedByteBuffer tabla;
+		int cantidad;
+		boolean tablaValida;
+
+		static Apertura abrir(String archivo, int capacidadInicial) throws IOException {
+			Apertura a = new Apertura();
+			try {
+				a.canalDatos = FileChannel.open(Paths.get(archivo), StandardOpenOption.CREATE, StandardOpenOption.READ,
+						StandardOpenOption.WRITE);
+				a.canalIndice = FileChannel.open(Paths.get(archivo + EXTENSION_INDICE), StandardOpenOption.CREATE,
+						StandardOpenOption.READ, StandardOpenOption.WRITE);
+				a.cargar(capacidadInicial);
+				return a;
+			} catch (IOException | RuntimeException e) {
+				a.cerrarCanales(e);
+				throw e;
+			}
+		}
+
+		private void cargar(int capacidadInicial) throws IOException {
+			boolean nuevo = canalDatos.size() == 0;
+			encabezado = canalDatos.map(MapMode.READ_WRITE, 0, TAMANO_ENCABEZADO);
+			boolean limpio = false;
+			if (nuevo) {
+				encabezado.putInt(0, MARCA);
+				encabezado.putShort(VERSION_POS, (short) VERSION);
+				encabezado.putInt(CANTIDAD, 0);
+				encabezado.putInt(TAMANO_REGISTRO, FormatoRegistro.TAMANO);
+			} else {
+				if (encabezado.getInt(0) != MARCA) {
+					throw new IOException("El archivo no es un almacenamiento mapeado de vehículos.");
+				}
+				int version = encabezado.getShort(VERSION_POS) & 0xFFFF;
+				if (version != VERSION) {
+					throw new IOException("Versión de archivo no soportada: " + version + ".");
+				}
+				if (encabezado.getInt(TAMANO_REGISTRO) != FormatoRegistro.TAMANO) {
+					throw new IOException("El tamaño de registro del archivo no es compatible.");
+				}
+				limpio = encabezado.get(LIMPIO) != 0;
+			}
+
+			long capacidadArchivo = (canalDatos.size() - TAMANO_ENCABEZADO) / FormatoRegistro.TAMANO;
+			cantidad = encabezado.getInt(CANTIDAD);
+			if (cantidad < 0 || cantidad > capacidadArchivo) {
+				throw new IOException("El archivo está dañado: cantidad de registros inválida (" + cantidad + ").");
+			}
+			long capacidad = Math.max(capacidadInicial, capacidadArchivo);
+			if (capacidad * FormatoRegistro.TAMANO > Integer.MAX_VALUE) {
+				throw new IOException("El archivo supera la capacidad máxima de una región mapeada.");
+			}
+			registros = canalDatos.map(MapMode.READ_WRITE, TAMANO_ENCABEZADO, capacidad * FormatoRegistro.TAMANO);
+			if (!nuevo && !limpio) {
+				completarOperacion(capacidadArchivo);
+			}
+
+			long bytesIndice = canalIndice.size();
+			long ranurasIndice = bytesIndice / Integer.BYTES;
+			tablaValida = limpio && bytesIndice % Integer.BYTES == 0 && ranurasIndice <= Integer.MAX_VALUE
+					&& Long.bitCount(ranurasIndice) == 1 && ranurasIndice >= 8 && cantidad * 2L <= ranurasIndice;
+			if (tablaValida) {
+				tabla = canalIndice.map(MapMode.READ_WRITE, 0, bytesIndice);
+			} else {
+				canalIndice.truncate(0);
+				tabla = canalIndice.map(MapMode.READ_WRITE, 0,
+						(long) ranurasPara((int) Math.max(capacidad, cantidad)) * Integer.BYTES);
+			}
+
+			// Hasta el próximo cierre, la tabla del archivo puede quedar desactualizada.
+			encabezado.put(LIMPIO, (byte) 0);
+			encabezado.force();
+		}
+
+		/**
+		 * Completa la operación anotada en el encabezado si el proceso terminó
+		 * antes de terminarla. Solo se revisa la fila anotada.
+		 */
+		private void completarOperacion(long capacidadArchivo) throws IOException {
+			int enCurso = encabezado.getInt(EN_CURSO);
+			if (enCurso == 0) {
+				return;
+			}
+			int fila = enCurso - 1;
+			if (fila < 0 || fila >= capacidadArchivo) {
+				throw new IOException("El archivo está dañado: fila en curso inválida (" + fila + ").");
+			}
+			int inicio = fila * FormatoRegistro.TAMANO;
+			byte operacion = encabezado.get(OPERACION);
+			if (operacion == ACTUALIZACION) {
+				// La reserva quedó completa antes de anotar la fila: la copia se repite
+				FormatoRegistro.mover(encabezado, RESERVA, registros, inicio);
+			} else if (operacion == ELIMINACION && fila < cantidad - 1) {
+				int ultima = (cantidad - 1) * FormatoRegistro.TAMANO;
+				if (FormatoRegistro.enMovimiento(registros, inicio)) {
+					// La copia quedó a medias: se repite desde el último registro
+					FormatoRegistro.mover(registros, ultima, inicio);
+					descartarUltimo();
+				} else if (FormatoRegistro.iguales(registros, inicio, ultima)) {
+					// La copia terminó pero la cantidad no se redujo
+					descartarUltimo();
+				}
+			}
+			encabezado.putInt(EN_CURSO, 0);
+		}
+
+		private void descartarUltimo() {
+			cantidad--;
+			encabezado.putInt(CANTIDAD, cantidad);
+		}
+
+		private void cerrarCanales(Exception causa) {
+			for (FileChannel canal : new FileChannel[] { canalDatos, canalIndice }) {
+				if (canal != null) {
+					try {
+						canal.close();
+					} catch (IOException e) {
+						causa.addSuppressed(e);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Amplía la región mapeada de registros. El contenido ya está en el archivo,
+	 * por lo que no se copian bytes.
+	 */
+	@Override
+	protected ByteBuffer ampliarRegistros(ByteBuffer actual, int bytesUsados, int bytesNuevos) {
+		try {
+			registrosMapeados = canalDatos.map(MapMode.READ_WRITE, TAMANO_ENCABEZADO, bytesNuevos);
+		} catch (IOException e) {
+			throw new IllegalStateException("No se pudo ampliar el archivo de datos: " + e.getMessage(), e);
+		}
+		return registrosMapeados;
+	}
+
+	/**
+	 * Mapea una tabla más grande en el archivo de índice y la deja en ceros.
+	 */
+	@Override
+	protected ByteBuffer nuevaTabla(int bytes) {
+		try {
+			tablaMapeada = canalIndice.map(MapMode.READ_WRITE, 0, bytes);
+		} catch (IOException e) {
+			throw new IllegalStateException("No se pudo ampliar el archivo de índice: " + e.getMessage(), e);
+		}
+		for (int i = 0; i < bytes; i += Long.BYTES) {
+			tablaMapeada.putLong(i, 0L);
+		}
+		return tablaMapeada;
+	}
+
+	/**
+	 * Guarda la nueva cantidad de registros en el encabezado del archivo.
+	 */
+	@Override
+	protected void tamanoCambiado(int size) {
+		encabezado.putInt(CANTIDAD, size);
+		encabezado.putInt(EN_CURSO, 0);
+	}
+
+	/**
+	 * Escribe el vehículo en la reserva del encabezado, anota la fila y lo copia
+	 * a ella, para que una copia interrumpida pueda repetirse al abrir.
+	 */
+	@Override
+	protected void reemplazarRegistro(ByteBuffer registros, int fila, Vehiculo v) {
+		FormatoRegistro.escribir(encabezado, RESERVA, v);
+		encabezado.put(OPERACION, ACTUALIZACION);
+		encabezado.putInt(EN_CURSO, fila + 1);
+		FormatoRegistro.mover(encabezado, RESERVA, registros, fila * FormatoRegistro.TAMANO);
+		encabezado.putInt(EN_CURSO, 0);
+	}
+
+	/**
+	 * Anota la fila eliminada antes de mover el último registro. La anotación se
+	 * retira en {@link #tamanoCambiado} junto con la nueva cantidad.
+	 */
+	@Override
+	protected void moverRegistro(ByteBuffer registros, int origen, int destino) {
+		encabezado.put(OPERACION, ELIMINACION);
+		encabezado.putInt(EN_CURSO, destino + 1);
+		super.moverRegistro(registros, origen, destino);
+	}
+
+	/**
+	 * Escribe en el disco los registros y el encabezado modificados.
+	 */
+	public void sincronizar() {
+		registrosMapeados.force();
+		encabezado.force();
+	}
+
+	/**
+	 * Escribe en el disco todos los cambios, marca el archivo como cerrado de
+	 * forma limpia para que la tabla hash se reutilice al volver a abrirlo y
+	 * cierra los archivos. El almacenamiento no debe usarse después.
+	 *
+	 * @throws IOException si no se pueden cerrar los archivos.
+	 */
+	@Override
+	public void close() throws IOException {
+		registrosMapeados.force();
+		tablaMapeada.force();
+		encabezado.put(LIMPIO, (byte) 1);
+		encabezado.force();
+		try {
+			canalIndice.close();
+		} finally {
+			canalDatos.close();
+		}
+	}
+}
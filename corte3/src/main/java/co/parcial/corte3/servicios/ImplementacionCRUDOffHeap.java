@@ -0,0 +1,621 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * La clase {@code ImplementacionCRUDOffHeap} implementa la interfaz
+ * {@code CRUD} guardando la flota fuera del heap de Java, en buffers directos
+ * ({@link ByteBuffer#allocateDirect(int)}).
+ *
+ * <p>
+ * Cada vehículo ocupa un registro de tamaño fijo definido por
+ * {@link FormatoRegistro}, y la búsqueda por placa usa una tabla hash de
+ * direccionamiento abierto que también vive fuera del heap. De esta forma la
+ * cantidad de objetos en el heap no depende del tamaño de la flota y el costo
+ * del recolector de basura deja de crecer con el número de registros. Los
+ * objetos {@code Vehiculo} solo se crean al leer.
+ * </p>
+ *
+ * <p>
+ * La memoria directa está limitada por {@code -XX:MaxDirectMemorySize}, y cada
+ * buffer admite como máximo {@link Integer#MAX_VALUE} bytes (alrededor de 14
+ * millones de registros).
+ * </p>
+ *
+ * <p>
+ * Las subclases pueden proveer otros buffers, como las regiones mapeadas de
+ * {@link ImplementacionCRUDMapeada}, mediante el constructor protegido y los
+ * métodos {@link #ampliarRegistros}, {@link #nuevaTabla},
+ * {@link #tamanoCambiado}, {@link #reemplazarRegistro} y
+ * {@link #moverRegistro}.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class ImplementacionCRUDOffHeap implements CRUD {
+
+	/** Valor de una ranura vacía en la tabla hash. */
+	private static final int VACIA = 0;
+
+	/** La mayor cantidad de registros que caben en un buffer. */
+	private static final int CAPACIDAD_MAXIMA = Integer.MAX_VALUE / FormatoRegistro.TAMANO;
+
+	// Atributos
+	private ByteBuffer registros;
+	private int capacidad;
+	private int size;
+	private ByteBuffer tabla;
+	private int mascara;
+
+	/**
+	 * Constructor que reserva los buffers para una capacidad inicial.
+	 *
+	 * @param capacidadInicial La cantidad de registros que se reservan al inicio.
+	 */
+	public ImplementacionCRUDOffHeap(int capacidadInicial) {
+		capacidad = Math.max(1, capacidadInicial);
+		registros = ByteBuffer.allocateDirect(bytesRegistros(capacidad));
+		size = 0;
+		int ranuras = ranurasPara(capacidad);
+		tabla = ByteBuffer.allocateDirect(ranuras * Integer.BYTES);
+		mascara = ranuras - 1;
+	}
+
+	/**
+	 * Constructor para subclases que proveen sus propios buffers, por ejemplo
+	 * regiones de un archivo mapeado en memoria.
+	 *
+	 * @param registros   El buffer de registros; su capacidad define cuántos
+	 *                    registros caben.
+	 * @param size        La cantidad de registros válidos al inicio del buffer.
+	 * @param tabla       El buffer de la tabla hash; su cantidad de ranuras debe
+	 *                    ser una potencia de dos mayor que el doble de
+	 *                    {@code size}.
+	 * @param tablaValida {@code true} si la tabla ya indexa los registros;
+	 *                    {@code false} si está en ceros y debe reconstruirse.
+	 * @throws IllegalArgumentException si los tamaños no son coherentes.
+	 */
+	protected ImplementacionCRUDOffHeap(ByteBuffer registros, int size, ByteBuffer tabla, boolean tablaValida) {
+		int ranuras = tabla.capacity() / Integer.BYTES;
+		capacidad = registros.capacity() / FormatoRegistro.TAMANO;
+		if (size < 0 || size > capacidad || Integer.bitCount(ranuras) != 1 || size * 2 > ranuras) {
+			throw new IllegalArgumentException("Buffers incoherentes con la cantidad de registros.");
+		}
+		this.registros = registros;
+		this.size = size;
+		this.tabla = tabla;
+		mascara = ranuras - 1;
+		if (!tablaValida) {
+			indexarFilas();
+		}
+	}
+
+	/**
+	 * Calcula la cantidad de ranuras de la tabla hash para una capacidad de
+	 * registros: la menor potencia de dos que mantiene la ocupación por debajo de
+	 * la mitad.
+	 *
+	 * @param capacidad La cantidad de registros.
+	 * @return La cantidad de ranuras.
+	 */
+	protected static int ranurasPara(int capacidad) {
+		return Integer.highestOneBit(Math.max(8, capacidad * 2 - 1)) << 1;
+	}
+
+	/**
+	 * Calcula los bytes necesarios para una cantidad de registros.
+	 *
+	 * @throws IllegalStateException si se supera el tamaño máximo de un buffer.
+	 */
+	private static int bytesRegistros(int cantidad) {
+		long bytes = (long) cantidad * FormatoRegistro.TAMANO;
+		if (bytes > Integer.MAX_VALUE) {
+			throw new IllegalStateException("Se alcanzó la capacidad máxima del almacenamiento fuera del heap.");
+		}
+		return (int) bytes;
+	}
+
+	/**
+	 * Duplica la capacidad del buffer de registros, sin superar la cantidad de
+	 * registros que caben en un buffer.
+	 *
+	 * @throws IllegalStateException si el buffer ya tiene la capacidad máxima.
+	 */
+	private void expandirRegistros() {
+		if (capacidad >= CAPACIDAD_MAXIMA) {
+			throw new IllegalStateException("Se alcanzó la capacidad máxima del almacenamiento fuera del heap.");
+		}
+		int nuevaCapacidad = (int) Math.min((long) capacidad * 2, CAPACIDAD_MAXIMA);
+		registros = ampliarRegistros(registros, size * FormatoRegistro.TAMANO, bytesRegistros(nuevaCapacidad));
+		capacidad = nuevaCapacidad;
+	}
+
+	/**
+	 * Duplica la tabla hash y vuelve a insertar todos los registros.
+	 */
+	private void expandirTabla() {
+		int ranuras = (mascara + 1) * 2;
+		tabla = nuevaTabla(ranuras * Integer.BYTES);
+		mascara = ranuras - 1;
+		indexarFilas();
+	}
+
+	/**
+	 * Inserta todos los registros en la tabla hash, que debe estar vacía.
+	 */
+	private void indexarFilas() {
+		for (int fila = 0; fila < size; fila++) {
+			int ranura = buscarRanura(IndicePlaca.normalizar(placaDe(fila)));
+			tabla.putInt(ranura * Integer.BYTES, fila + 1);
+		}
+	}
+
+	/**
+	 * Devuelve un buffer de registros más grande con el contenido del actual. La
+	 * implementación por defecto reserva un buffer directo y copia los bytes en
+	 * uso con una sola operación masiva.
+	 *
+	 * @param actual      El buffer de registros actual.
+	 * @param bytesUsados Los bytes ocupados por registros válidos.
+	 * @param bytesNuevos El tamaño en bytes del nuevo buffer.
+	 * @return El nuevo buffer, con los primeros {@code bytesUsados} bytes iguales
+	 *         a los del actual.
+	 */
+	protected ByteBuffer ampliarRegistros(ByteBuffer actual, int bytesUsados, int bytesNuevos) {
+		ByteBuffer nuevo = ByteBuffer.allocateDirect(bytesNuevos);
+		ByteBuffer origen = actual.duplicate();
+		origen.position(0).limit(bytesUsados);
+		nuevo.put(origen);
+		return nuevo;
+	}
+
+	/**
+	 * Devuelve un buffer en ceros para una tabla hash más grande. La
+	 * implementación por defecto reserva un buffer directo.
+	 *
+	 * @param bytes El tamaño en bytes de la tabla.
+	 * @return El nuevo buffer, con todas sus ranuras vacías.
+	 */
+	protected ByteBuffer nuevaTabla(int bytes) {
+		return ByteBuffer.allocateDirect(bytes);
+	}
+
+	/**
+	 * Se invoca después de cada operación que cambia la cantidad de registros.
+	 * La implementación por defecto no hace nada.
+	 *
+	 * @param size La nueva cantidad de registros.
+	 */
+	protected void tamanoCambiado(int size) {
+	}
+
+	/**
+	 * Sobrescribe el registro de una fila con un vehículo ya validado. La
+	 * implementación por defecto lo escribe en su lugar.
+	 *
+	 * @param registros El buffer de registros.
+	 * @param fila      La fila que se reemplaza.
+	 * @param v         El vehículo con los nuevos valores.
+	 */
+	protected void reemplazarRegistro(ByteBuffer registros, int fila, Vehiculo v) {
+		FormatoRegistro.escribir(registros, fila * FormatoRegistro.TAMANO, v);
+	}
+
+	/**
+	 * Copia el registro de la última fila sobre una fila eliminada, antes de
+	 * reducir la cantidad con {@link #tamanoCambiado}. La implementación por
+	 * defecto usa {@link FormatoRegistro#mover(ByteBuffer, int, int)}.
+	 *
+	 * @param registros El buffer de registros.
+	 * @param origen    La última fila.
+	 * @param destino   La fila eliminada.
+	 */
+	protected void moverRegistro(ByteBuffer registros, int origen, int destino) {
+		FormatoRegistro.mover(registros, origen * FormatoRegistro.TAMANO, destino * FormatoRegistro.TAMANO);
+	}
+
+	private String placaDe(int fila) {
+		return FormatoRegistro.leerPlaca(registros, fila * FormatoRegistro.TAMANO);
+	}
+
+	private static int hash(String clave) {
+		int h = clave.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private int filaEn(int ranura) {
+		return tabla.getInt(ranura * Integer.BYTES) - 1;
+	}
+
+	/**
+	 * Busca la ranura de una placa normalizada. Si la placa no existe, devuelve
+	 * la ranura vacía donde debería insertarse.
+	 */
+	private int buscarRanura(String clave) {
+		int ranura = hash(clave) & mascara;
+		while (true) {
+			int fila = filaEn(ranura);
+			if (fila < 0 || IndicePlaca.normalizar(placaDe(fila)).equals(clave)) {
+				return ranura;
+			}
+			ranura = (ranura + 1) & mascara;
+		}
+	}
+
+	/**
+	 * Libera una ranura desplazando hacia atrás las entradas siguientes del mismo
+	 * grupo, para no dejar huecos que corten las secuencias de sondeo.
+	 */
+	private void liberarRanura(int ranura) {
+		int libre = ranura;
+		int actual = ranura;
+		while (true) {
+			tabla.putInt(libre * Integer.BYTES, VACIA);
+			while (true) {
+				actual = (actual + 1) & mascara;
+				int fila = filaEn(actual);
+				if (fila < 0) {
+					return;
+				}
+				int ideal = hash(IndicePlaca.normalizar(placaDe(fila))) & mascara;
+				boolean seQueda = libre <= actual ? (libre < ideal && ideal <= actual)
+						: (libre < ideal || ideal <= actual);
+				if (!seQueda) {
+					tabla.putInt(libre * Integer.BYTES, fila + 1);
+					libre = actual;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Crea un nuevo vehículo y lo escribe al final del buffer de registros.
+	 *
+	 * @param v el vehículo a agregar. No debe ser {@code null}.
+	 * @return un mensaje que indica si el vehículo fue agregado exitosamente, y si
+	 *         fue necesario expandir el almacenamiento.
+	 * @throws NullPointerException     si el parámetro {@code v} es {@code null}.
+	 * @throws IllegalArgumentException si algún texto del vehículo no cabe en el
+	 *                                  registro de tamaño fijo.
+	 * @throws IllegalStateException    si el almacenamiento está lleno y ya tiene
+	 *                                  la capacidad máxima de un buffer. No se
+	 *                                  escribe nada.
+	 */
+	@Override
+	public String create(Vehiculo v) {
+		int capacidadAnterior = capacidad;
+		if (!crear(v)) {
+			return "Ya existe un vehículo con placa " + v.getPlaca() + ".";
+		}
+		return capacidad != capacidadAnterior ? "Vehículo agregado exitosamente. El arreglo fue expandido."
+				: "Vehículo agregado exitosamente.";
+	}
+
+	/**
+	 * Escribe un vehículo al final del buffer de registros si su placa no está
+	 * registrada.
+	 *
+	 * @return {@code true} si el vehículo se agregó.
+	 * @throws IllegalArgumentException si algún texto del vehículo no cabe en el
+	 *                                  registro de tamaño fijo.
+	 * @throws IllegalStateException    si el buffer está lleno y no puede crecer.
+	 */
+	private boolean crear(Vehiculo v) {
+		FormatoRegistro.validar(v);
+		String clave = IndicePlaca.normalizar(v.getPlaca());
+		int ranura = buscarRanura(clave);
+		if (filaEn(ranura) >= 0) {
+			return false;
+		}
+		if (size == capacidad) {
+			expandirRegistros();
+		}
+		FormatoRegistro.escribir(registros, size * FormatoRegistro.TAMANO, v);
+		size++;
+		if (size * 2 > mascara + 1) {
+			expandirTabla();
+		} else {
+			tabla.putInt(ranura * Integer.BYTES, size);
+		}
+		tamanoCambiado(size);
+		return true;
+	}
+
+	/**
+	 * Crea varios vehículos. El éxito de cada uno se decide con el resultado de
+	 * su escritura; los que tienen una placa registrada o textos que no caben en
+	 * el registro se informan como rechazados.
+	 *
+	 * @param nuevos Los vehículos que se desean crear.
+	 * @return Un resumen con la cantidad de vehículos creados y las placas
+	 *         rechazadas.
+	 * @throws IllegalStateException si el almacenamiento alcanza la capacidad
+	 *                               máxima; los vehículos anteriores del lote
+	 *                               quedan creados.
+	 */
+	@Override
+	public ResultadoLote createAll(Collection<? extends Vehiculo> nuevos) {
+		ResultadoLote resultado = new ResultadoLote();
+		for (Vehiculo v : nuevos) {
+			boolean creado;
+			try {
+				creado = crear(v);
+			} catch (IllegalArgumentException e) {
+				creado = false;
+			}
+			if (creado) {
+				resultado.registrarExito();
+			} else {
+				resultado.registrarFallo(v.getPlaca());
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Busca un vehículo por su placa (no sensible a mayúsculas/minúsculas) y lo
+	 * materializa.
+	 *
+	 * @param placa la placa del vehículo a buscar. No debe ser {@code null}.
+	 * @return una copia del vehículo encontrado, o {@code null} si no existe.
+	 * @throws NullPointerException si {@code placa} es {@code null}.
+	 */
+	@Override
+	public Vehiculo read(String placa) {
+		int fila = filaEn(buscarRanura(IndicePlaca.normalizar(placa)));
+		return fila < 0 ? null : FormatoRegistro.leer(registros, fila * FormatoRegistro.TAMANO);
+	}
+
+	/**
+	 * Materializa y devuelve todos los vehículos almacenados.
+	 *
+	 * @return un arreglo de {@link Vehiculo} con todos los registros.
+	 */
+	@Override
+	public Vehiculo[] readAll() {
+		Vehiculo[] resultado = new Vehiculo[size];
+		for (int i = 0; i < size; i++) {
+			resultado[i] = FormatoRegistro.leer(registros, i * FormatoRegistro.TAMANO);
+		}
+		return resultado;
+	}
+
+	/**
+	 * Sobrescribe el registro del vehículo original con los valores del vehículo
+	 * actualizado.
+	 *
+	 * @param original    el vehículo original a buscar (por su placa).
+	 * @param actualizado el vehículo con los nuevos valores.
+	 * @return un mensaje indicando si la operación fue exitosa o si no se encontró
+	 *         el vehículo.
+	 * @throws NullPointerException     si alguno de los parámetros es
+	 *                                  {@code null}.
+	 * @throws IllegalArgumentException si algún texto del vehículo actualizado no
+	 *                                  cabe en el registro de tamaño fijo.
+	 */
+	@Override
+	public String update(Vehiculo original, Vehiculo actualizado) {
+		FormatoRegistro.validar(actualizado);
+		int ranura = buscarRanura(IndicePlaca.normalizar(original.getPlaca()));
+		int fila = filaEn(ranura);
+		if (fila < 0) {
+			return "Vehículo con placa " + original.getPlaca() + " no encontrado.";
+		}
+		String nuevaClave = IndicePlaca.normalizar(actualizado.getPlaca());
+		if (!IndicePlaca.normalizar(placaDe(fila)).equals(nuevaClave)) {
+			if (filaEn(buscarRanura(nuevaClave)) >= 0) {
+				return "Ya existe un vehículo con placa " + actualizado.getPlaca() + ".";
+			}
+			liberarRanura(ranura);
+			sobrescribir(fila, actualizado);
+			tabla.putInt(buscarRanura(nuevaClave) * Integer.BYTES, fila + 1);
+		} else {
+			sobrescribir(fila, actualizado);
+		}
+		return "Vehículo actualizado exitosamente.";
+	}
+
+	/**
+	 * Reemplaza el registro de una fila por un vehículo ya validado.
+	 */
+	private void sobrescribir(int fila, Vehiculo actualizado) {
+		reemplazarRegistro(registros, fila, actualizado);
+	}
+
+	/**
+	 * Actualiza varios vehículos, cada uno identificado por su propia placa. Solo
+	 * cuentan como éxito los registros que se sobrescribieron.
+	 *
+	 * @param actualizados Los vehículos con la información actualizada.
+	 * @return Un resumen con la cantidad de vehículos actualizados y las placas
+	 *         rechazadas.
+	 */
+	@Override
+	public ResultadoLote updateAll(Collection<? extends Vehiculo> actualizados) {
+		ResultadoLote resultado = new ResultadoLote();
+		for (Vehiculo v : actualizados) {
+			int fila = filaEn(buscarRanura(IndicePlaca.normalizar(v.getPlaca())));
+			try {
+				if (fila >= 0) {
+					FormatoRegistro.validar(v);
+					sobrescribir(fila, v);
+					resultado.registrarExito();
+					continue;
+				}
+			} catch (IllegalArgumentException e) {
+				// Textos que no caben en el registro de tamaño fijo
+			}
+			resultado.registrarFallo(v.getPlaca());
+		}
+		return resultado;
+	}
+
+	/**
+	 * Elimina un vehículo por su placa moviendo el último registro a la posición
+	 * liberada, por lo que el costo no depende de la posición.
+	 *
+	 * @param placa la placa del vehículo a eliminar (no sensible a
+	 *              mayúsculas/minúsculas).
+	 * @return un mensaje indicando si el vehículo fue eliminado o no se encontró.
+	 * @throws NullPointerException si {@code placa} es {@code null}.
+	 */
+	@Override
+	public String delete(String placa) {
+		if (!eliminar(placa)) {
+			return "Vehículo con placa " + placa + " no encontrado.";
+		}
+		return "Vehículo eliminado exitosamente.";
+	}
+
+	/**
+	 * Quita el registro de una placa moviendo el último a su posición.
+	 *
+	 * @return {@code true} si la placa estaba registrada y se quitó.
+	 */
+	private boolean eliminar(String placa) {
+		int ranura = buscarRanura(IndicePlaca.normalizar(placa));
+		int fila = filaEn(ranura);
+		if (fila < 0) {
+			return false;
+		}
+		liberarRanura(ranura);
+		int ultima = size - 1;
+		if (fila != ultima) {
+			int ranuraUltima = buscarRanura(IndicePlaca.normalizar(placaDe(ultima)));
+			moverRegistro(registros, ultima, fila);
+			tabla.putInt(ranuraUltima * Integer.BYTES, fila + 1);
+		}
+		size--;
+		tamanoCambiado(size);
+		return true;
+	}
+
+	/**
+	 * Elimina varios vehículos. El éxito de cada uno se decide con el resultado
+	 * de su eliminación.
+	 *
+	 * @param placas Las placas de los vehículos que se desean eliminar.
+	 * @return Un resumen con la cantidad de vehículos eliminados y las placas no
+	 *         encontradas.
+	 */
+	@Override
+	public ResultadoLote deleteAll(Collection<String> placas) {
+		ResultadoLote resultado = new ResultadoLote();
+		for (String placa : placas) {
+			if (eliminar(placa)) {
+				resultado.registrarExito();
+			} else {
+				resultado.registrarFallo(placa);
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Lee y devuelve los vehículos de un tipo específico recorriendo las
+	 * etiquetas de tipo de los registros.
+	 *
+	 * @param tipo La clase del tipo de vehículo a buscar.
+	 * @return Un arreglo de vehículos del tipo especificado.
+	 */
+	public Vehiculo[] readByTipo(Class<?> tipo) {
+		byte buscado = FormatoRegistro.etiqueta(tipo);
+		int contador = 0;
+		for (int i = 0; i < size; i++) {
+			if (FormatoRegistro.leerTipo(registros, i * FormatoRegistro.TAMANO) == buscado) {
+				contador++;
+			}
+		}
+		Vehiculo[] resultado = new Vehiculo[contador];
+		int j = 0;
+		for (int i = 0; i < size && j < contador; i++) {
+			if (FormatoRegistro.leerTipo(registros, i * FormatoRegistro.TAMANO) == buscado) {
+				resultado[j++] = FormatoRegistro.leer(registros, i * FormatoRegistro.TAMANO);
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Materializa una página de vehículos. Como los registros son contiguos, el
+	 * costo es proporcional a {@code limit}.
+	 *
+	 * @param offset La cantidad de vehículos que se omiten.
+	 * @param limit  La cantidad máxima de vehículos de la página.
+	 * @return Un arreglo con, como máximo, {@code limit} vehículos.
+	 * @throws IllegalArgumentException si {@code offset} o {@code limit} son
+	 *                                  negativos.
+	 */
+	@Override
+	public Vehiculo[] readPage(int offset, int limit) {
+		if (offset < 0 || limit < 0) {
+			throw new IllegalArgumentException("El desplazamiento y el límite no pueden ser negativos.");
+		}
+		int cantidad = (int) Math.max(0, Math.min((long) size - offset, limit));
+		Vehiculo[] resultado = new Vehiculo[cantidad];
+		for (int i = 0; i < cantidad; i++) {
+			resultado[i] = FormatoRegistro.leer(registros, (offset + i) * FormatoRegistro.TAMANO);
+		}
+		return resultado;
+	}
+
+	/**
+	 * Materializa y entrega los vehículos uno por uno, sin construir un arreglo
+	 * con toda la flota.
+	 *
+	 * @param accion La acción a aplicar sobre cada vehículo.
+	 */
+	@Override
+	public void forEach(Consumer<? super Vehiculo> accion) {
+		for (int i = 0; i < size; i++) {
+			accion.accept(FormatoRegistro.leer(registros, i * FormatoRegistro.TAMANO));
+		}
+	}
+
+	/**
+	 * Devuelve un iterador que materializa los vehículos a medida que se
+	 * recorren. El resultado no está definido si el almacenamiento se modifica
+	 * durante el recorrido.
+	 *
+	 * @return Un iterador sobre los vehículos almacenados.
+	 */
+	@Override
+	public Iterator<Vehiculo> iterator() {
+		return new Iterator<Vehiculo>() {
+			private int i = 0;
+
+			@Override
+			public boolean hasNext() {
+				return i < size;
+			}
+
+			@Override
+			public Vehiculo next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				Vehiculo v = FormatoRegistro.leer(registros, i * FormatoRegistro.TAMANO);
+				i++;
+				return v;
+			}
+		};
+	}
+
+	/**
+	 * Devuelve la cantidad de vehículos almacenados.
+	 *
+	 * @return El número de registros.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+}
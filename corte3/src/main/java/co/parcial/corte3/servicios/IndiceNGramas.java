@@ -0,0 +1,197 @@
+package co.parcial.corte3.servicios;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * La clase {@code IndiceNGramas} es un índice invertido de trigramas sobre los
+ * valores distintos de un campo de texto (marca o modelo). Permite encontrar
+ * valores parecidos a uno mal escrito, por ejemplo {@code "Chevrlet"} para
+ * {@code "Chevrolet"}.
+ *
+ * <p>
+ * Cada valor se descompone en los trigramas de su forma normalizada, rodeada
+ * por un marcador de inicio y fin, y cada trigrama apunta a los valores que lo
+ * contienen. Una búsqueda cuenta los trigramas que comparte cada valor con el
+ * texto buscado y ordena por el coeficiente de Dice
+ * ({@code 2·comunes / (trigramas del texto + trigramas del valor)}).
+ * Los candidatos se toman solo de los trigramas menos frecuentes del texto y se
+ * descartan por longitud antes de compararlos, de modo que los trigramas muy
+ * comunes (como un prefijo compartido por muchos modelos) no dominan el costo.
+ * </p>
+ *
+ * <p>
+ * El índice guarda valores distintos, no vehículos: cada valor lleva la
+ * cantidad de vehículos que lo usan y se retira cuando llega a cero. Así el
+ * costo de una búsqueda depende de la cantidad de marcas o modelos distintos,
+ * no del tamaño de la flota.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class IndiceNGramas {
+
+	/** Longitud de los n-gramas. */
+	private static final int N = 3;
+
+	/** Marcador que rodea los valores para distinguir inicios y finales. */
+	private static final char MARCADOR = '$';
+
+	/** Similitud mínima para que un valor se considere una coincidencia. */
+	static final double UMBRAL_SIMILITUD = 0.4;
+
+	// Atributos
+	private final Map<String, Set<String>> terminosPorGrama = new HashMap<>();
+	private final Map<String, Integer> referencias = new HashMap<>();
+	private final Map<String, Integer> gramasPorTermino = new HashMap<>();
+
+	/**
+	 * Descompone un valor normalizado en sus n-gramas distintos.
+	 *
+	 * @param termino El valor normalizado.
+	 * @return Los n-gramas, en orden de aparición.
+	 */
+	static Set<String> gramas(String termino) {
+		String rodeado = MARCADOR + termino + MARCADOR;
+		Set<String> resultado = new LinkedHashSet<>();
+		for (int i = 0; i + N <= rodeado.length(); i++) {
+			resultado.add(rodeado.substring(i, i + N));
+		}
+		if (resultado.isEmpty()) {
+			resultado.add(rodeado);
+		}
+		return resultado;
+	}
+
+	/**
+	 * Registra un uso de un valor. La primera vez se indexan sus n-gramas.
+	 *
+	 * @param termino El valor normalizado. Si es {@code null}, no se indexa.
+	 */
+	void agregar(String termino) {
+		if (termino == null) {
+			return;
+		}
+		if (referencias.merge(termino, 1, Integer::sum) > 1) {
+			return;
+		}
+		Set<String> gramas = gramas(termino);
+		gramasPorTermino.put(termino, gramas.size());
+		for (String g : gramas) {
+			terminosPorGrama.computeIfAbsent(g, k -> new HashSet<>()).add(termino);
+		}
+	}
+
+	/**
+	 * Retira un uso de un valor. Cuando ningún vehículo lo usa, sus n-gramas
+	 * dejan de apuntar a él.
+	 *
+	 * @param termino El valor normalizado.
+	 */
+	void quitar(String termino) {
+		if (termino == null) {
+			return;
+		}
+		Integer usos = referencias.get(termino);
+		if (usos == null) {
+			return;
+		}
+		if (usos > 1) {
+			referencias.put(termino, usos - 1);
+			return;
+		}
+		referencias.remove(termino);
+		gramasPorTermino.remove(termino);
+		for (String g : gramas(termino)) {
+			Set<String> terminos = terminosPorGrama.get(g);
+			if (terminos != null) {
+				terminos.remove(termino);
+				if (terminos.isEmpty()) {
+					terminosPorGrama.remove(g);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Busca los valores parecidos a un texto normalizado, del más al menos
+	 * parecido. Un valor idéntico siempre queda primero.
+	 *
+	 * @param texto  El texto normalizado.
+	 * @param limite La cantidad máxima de valores a devolver; no debe ser
+	 *               negativa.
+	 * @return Los valores cuya similitud alcanza {@link #UMBRAL_SIMILITUD}; vacío
+	 *         si {@code texto} es {@code null}.
+	 */
+	List<String> buscar(String texto, int limite) {
+		if (texto == null) {
+			return new ArrayList<>();
+		}
+		Set<String> gramasTexto = gramas(texto);
+		int q = gramasTexto.size();
+
+		// Un valor alcanza el umbral solo si comparte al menos minimoComunes
+		// trigramas; basta entonces tomar candidatos de los q - minimoComunes + 1
+		// trigramas menos frecuentes, sin recorrer las listas más largas.
+		int minimoComunes = Math.max(1, (int) Math.ceil(UMBRAL_SIMILITUD * q / (2 - UMBRAL_SIMILITUD)));
+		List<String> porFrecuencia = new ArrayList<>(gramasTexto);
+		porFrecuencia.sort(Comparator.comparingInt(g -> {
+			Set<String> terminos = terminosPorGrama.get(g);
+			return terminos == null ? 0 : terminos.size();
+		}));
+		Set<String> posibles = new HashSet<>();
+		for (String g : porFrecuencia.subList(0, q - minimoComunes + 1)) {
+			Set<String> terminos = terminosPorGrama.get(g);
+			if (terminos != null) {
+				posibles.addAll(terminos);
+			}
+		}
+
+		// Filtro por longitud: la similitud no supera 2·min(q, t) / (q + t)
+		double menor = UMBRAL_SIMILITUD * q / (2 - UMBRAL_SIMILITUD);
+		double mayor = (2 - UMBRAL_SIMILITUD) * q / UMBRAL_SIMILITUD;
+		Map<String, Integer> comunes = new HashMap<>();
+		for (String t : posibles) {
+			int gramasTermino = gramasPorTermino.get(t);
+			if (gramasTermino < menor || gramasTermino > mayor) {
+				continue;
+			}
+			int c = 0;
+			for (String g : gramas(t)) {
+				if (gramasTexto.contains(g)) {
+					c++;
+				}
+			}
+			comunes.put(t, c);
+		}
+
+		List<String> candidatos = new ArrayList<>();
+		Map<String, Double> similitudes = new HashMap<>();
+		for (Map.Entry<String, Integer> e : comunes.entrySet()) {
+			double similitud = 2.0 * e.getValue() / (gramasTexto.size() + gramasPorTermino.get(e.getKey()));
+			if (similitud >= UMBRAL_SIMILITUD) {
+				candidatos.add(e.getKey());
+				similitudes.put(e.getKey(), similitud);
+			}
+		}
+		candidatos.sort(Comparator.comparing((String t) -> -similitudes.get(t)).thenComparing(t -> !t.equals(texto))
+				.thenComparing(Comparator.naturalOrder()));
+		return candidatos.size() > limite ? new ArrayList<>(candidatos.subList(0, limite)) : candidatos;
+	}
+
+	/**
+	 * Elimina todos los valores del índice.
+	 */
+	void limpiar() {
+		terminosPorGrama.clear();
+		referencias.clear();
+		gramasPorTermino.clear();
+	}
+}
@@ -0,0 +1,92 @@
+package co.parcial.corte3.servicios;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * La clase {@code IndicePlaca} mantiene un índice hash que asocia la placa
+ * normalizada de cada vehículo con la posición que ocupa en el arreglo de
+ * almacenamiento de {@link ImplementacionCRUD}.
+ *
+ * <p>
+ * Las placas se normalizan a mayúsculas, de modo que las búsquedas conservan la
+ * semántica de {@code equalsIgnoreCase} que usaban los recorridos lineales,
+ * pero con un costo esperado de O(1).
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class IndicePlaca {
+
+	// Atributos
+	private final Map<String, Integer> posiciones;
+
+	/**
+	 * Constructor que inicializa el índice vacío.
+	 *
+	 * @param capacidadInicial La cantidad de placas que se espera indexar.
+	 */
+	IndicePlaca(int capacidadInicial) {
+		posiciones = new HashMap<>(Math.max(16, (int) (capacidadInicial / 0.75f) + 1));
+	}
+
+	/**
+	 * Normaliza una placa para usarla como clave del índice.
+	 *
+	 * @param placa La placa a normalizar. No debe ser {@code null}.
+	 * @return La placa en mayúsculas.
+	 * @throws NullPointerException si {@code placa} es {@code null}.
+	 */
+	static String normalizar(String placa) {
+		return placa.toUpperCase(Locale.ROOT);
+	}
+
+	/**
+	 * Busca la posición asociada a una placa.
+	 *
+	 * @param placa La placa a buscar (no sensible a mayúsculas/minúsculas).
+	 * @return La posición del vehículo o {@code -1} si la placa no está indexada.
+	 */
+	int buscar(String placa) {
+		Integer posicion = posiciones.get(normalizar(placa));
+		return posicion == null ? -1 : posicion;
+	}
+
+	/**
+	 * Indica si una placa ya se encuentra indexada.
+	 *
+	 * @param placa La placa a verificar.
+	 * @return {@code true} si la placa existe en el índice.
+	 */
+	boolean contiene(String placa) {
+		return posiciones.containsKey(normalizar(placa));
+	}
+
+	/**
+	 * Asocia una placa con una posición, reemplazando cualquier asociación previa.
+	 *
+	 * @param placa    La placa del vehículo.
+	 * @param posicion La posición que ocupa en el arreglo.
+	 */
+	void asignar(String placa, int posicion) {
+		posiciones.put(normalizar(placa), posicion);
+	}
+
+	/**
+	 * Elimina la asociación de una placa.
+	 *
+	 * @param placa La placa a eliminar del índice.
+	 */
+	void quitar(String placa) {
+		posiciones.remove(normalizar(placa));
+	}
+
+	/**
+	 * Elimina todas las asociaciones del índice.
+	 */
+	void limpiar() {
+		posiciones.clear();
+	}
+}
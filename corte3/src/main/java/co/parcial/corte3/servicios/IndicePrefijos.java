@@ -0,0 +1,72 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * La clase {@code IndicePrefijos} mantiene los vehículos ordenados por placa
+ * normalizada para responder búsquedas por prefijo.
+ *
+ * <p>
+ * Las placas que comparten un prefijo quedan contiguas en el orden del árbol,
+ * por lo que una búsqueda ubica la primera en O(log n) y luego avanza solo
+ * sobre las coincidencias, hasta el límite pedido. El costo no depende de la
+ * cantidad total de placas sino de la cantidad de resultados.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class IndicePrefijos {
+
+	// Atributos
+	private final TreeMap<String, Vehiculo> placas = new TreeMap<>();
+
+	/**
+	 * Agrega un vehículo al índice.
+	 *
+	 * @param v El vehículo a agregar.
+	 */
+	void agregar(Vehiculo v) {
+		placas.put(IndicePlaca.normalizar(v.getPlaca()), v);
+	}
+
+	/**
+	 * Quita un vehículo del índice.
+	 *
+	 * @param v El vehículo a quitar.
+	 */
+	void quitar(Vehiculo v) {
+		placas.remove(IndicePlaca.normalizar(v.getPlaca()));
+	}
+
+	/**
+	 * Devuelve los vehículos cuya placa empieza por un prefijo, en orden
+	 * alfabético de placa.
+	 *
+	 * @param prefijo El prefijo normalizado.
+	 * @param limite  La cantidad máxima de resultados.
+	 * @return Un arreglo con, como máximo, {@code limite} vehículos.
+	 */
+	Vehiculo[] buscar(String prefijo, int limite) {
+		List<Vehiculo> resultado = new ArrayList<>(Math.min(limite, 64));
+		for (Map.Entry<String, Vehiculo> e : placas.tailMap(prefijo, true).entrySet()) {
+			if (resultado.size() == limite || !e.getKey().startsWith(prefijo)) {
+				break;
+			}
+			resultado.add(e.getValue());
+		}
+		return resultado.toArray(new Vehiculo[0]);
+	}
+
+	/**
+	 * Elimina todas las placas del índice.
+	 */
+	void limpiar() {
+		placas.clear();
+	}
+}
@@ -0,0 +1,162 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * La clase {@code IndiceRango} mantiene los vehículos ordenados por un atributo
+ * numérico (peso, cilindraje, capacidad de carga) para responder consultas por
+ * rango en tiempo O(log n + k), donde k es la cantidad de resultados.
+ *
+ * <p>
+ * Los vehículos con el mismo valor se agrupan por placa normalizada, de modo
+ * que agregar o quitar un vehículo cuesta O(log n). Como {@link Double#compareTo}
+ * distingue {@code -0.0} de {@code 0.0}, las claves y los límites se normalizan
+ * a {@code 0.0} para que ambos ceros sean el mismo valor.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class IndiceRango {
+
+	// Atributos
+	private final TreeMap<Double, Map<String, Vehiculo>> valores = new TreeMap<>();
+
+	/**
+	 * Agrega un vehículo bajo el valor indicado. Los valores {@code NaN} no se
+	 * indexan.
+	 *
+	 * @param valor El valor numérico del atributo.
+	 * @param v     El vehículo a agregar.
+	 */
+	void agregar(double valor, Vehiculo v) {
+		if (Double.isNaN(valor)) {
+			return;
+		}
+		valores.computeIfAbsent(clave(valor), k -> new LinkedHashMap<>()).put(IndicePlaca.normalizar(v.getPlaca()), v);
+	}
+
+	/**
+	 * Quita un vehículo del valor indicado.
+	 *
+	 * @param valor El valor numérico con el que se indexó el vehículo.
+	 * @param v     El vehículo a quitar.
+	 */
+	void quitar(double valor, Vehiculo v) {
+		Map<String, Vehiculo> grupo = valores.get(clave(valor));
+		if (grupo != null) {
+			grupo.remove(IndicePlaca.normalizar(v.getPlaca()));
+			if (grupo.isEmpty()) {
+				valores.remove(clave(valor));
+			}
+		}
+	}
+
+	/**
+	 * Devuelve los vehículos cuyo valor se encuentra en el rango indicado, en
+	 * orden ascendente.
+	 *
+	 * @param minimo El límite inferior (inclusivo).
+	 * @param maximo El límite superior (inclusivo).
+	 * @return Un arreglo con los vehículos encontrados; vacío si
+	 *         {@code minimo > maximo}.
+	 */
+	Vehiculo[] buscar(double minimo, double maximo) {
+		return buscar(minimo, true, maximo, true);
+	}
+
+	/**
+	 * Devuelve los vehículos cuyo valor se encuentra en el rango indicado, en
+	 * orden ascendente, permitiendo límites exclusivos.
+	 *
+	 * @param minimo        El límite inferior.
+	 * @param incluirMinimo {@code true} si el límite inferior es inclusivo.
+	 * @param maximo        El límite superior.
+	 * @param incluirMaximo {@code true} si el límite superior es inclusivo.
+	 * @return Un arreglo con los vehículos encontrados.
+	 */
+	Vehiculo[] buscar(double minimo, boolean incluirMinimo, double maximo, boolean incluirMaximo) {
+		List<Vehiculo> resultado = new ArrayList<>();
+		for (Map<String, Vehiculo> grupo : rango(minimo, incluirMinimo, maximo, incluirMaximo).values()) {
+			resultado.addAll(grupo.values());
+		}
+		return resultado.toArray(new Vehiculo[0]);
+	}
+
+	/**
+	 * Cuenta los vehículos de un rango, deteniéndose en cuanto la cuenta supera un
+	 * límite. Sirve para estimar la selectividad de un rango sin recorrerlo
+	 * completo cuando ya se conoce una alternativa mejor.
+	 *
+	 * @param minimo        El límite inferior.
+	 * @param incluirMinimo {@code true} si el límite inferior es inclusivo.
+	 * @param maximo        El límite superior.
+	 * @param incluirMaximo {@code true} si el límite superior es inclusivo.
+	 * @param limite        La cuenta a partir de la cual se deja de contar.
+	 * @return La cantidad de vehículos del rango, o un valor mayor que
+	 *         {@code limite} si el rango tiene más vehículos.
+	 */
+	long contarHasta(double minimo, boolean incluirMinimo, double maximo, boolean incluirMaximo, long limite) {
+		long cuenta = 0;
+		for (Map<String, Vehiculo> grupo : rango(minimo, incluirMinimo, maximo, incluirMaximo).values()) {
+			cuenta += grupo.size();
+			if (cuenta > limite) {
+				break;
+			}
+		}
+		return cuenta;
+	}
+
+	/**
+	 * Devuelve el menor valor indexado.
+	 *
+	 * @return El mínimo, o {@code NaN} si el índice está vacío.
+	 */
+	double minimo() {
+		return valores.isEmpty() ? Double.NaN : valores.firstKey();
+	}
+
+	/**
+	 * Devuelve el mayor valor indexado.
+	 *
+	 * @return El máximo, o {@code NaN} si el índice está vacío.
+	 */
+	double maximo() {
+		return valores.isEmpty() ? Double.NaN : valores.lastKey();
+	}
+
+	/**
+	 * Devuelve la vista de los grupos de un rango, o una vista vacía si el rango
+	 * no puede contener valores.
+	 */
+	private NavigableMap<Double, Map<String, Vehiculo>> rango(double minimo, boolean incluirMinimo, double maximo,
+			boolean incluirMaximo) {
+		if (!(minimo <= maximo) || (minimo == maximo && !(incluirMinimo && incluirMaximo))) {
+			return Collections.emptyNavigableMap();
+		}
+		return valores.subMap(clave(minimo), incluirMinimo, clave(maximo), incluirMaximo);
+	}
+
+	/**
+	 * Normaliza un valor para usarlo como clave: {@code -0.0} se convierte en
+	 * {@code 0.0}.
+	 */
+	private static double clave(double valor) {
+		return valor == 0.0 ? 0.0 : valor;
+	}
+
+	/**
+	 * Elimina todos los valores del índice.
+	 */
+	void limpiar() {
+		valores.clear();
+	}
+}
@@ -0,0 +1,98 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * La clase {@code IndiceSecundario} agrupa los vehículos almacenados según una
+ * clave no única (tipo, marca, modelo, etc.). Cada grupo conserva sus vehículos
+ * por placa normalizada, lo que permite agregarlos y quitarlos en tiempo
+ * esperado constante y devolver un grupo en tiempo proporcional a su tamaño.
+ *
+ * @param <K> El tipo de la clave por la que se agrupan los vehículos.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class IndiceSecundario<K> {
+
+	// Atributos
+	private final Map<K, Map<String, Vehiculo>> grupos = new HashMap<>();
+
+	/**
+	 * Agrega un vehículo al grupo de la clave indicada.
+	 *
+	 * @param clave La clave del grupo. Si es {@code null}, el vehículo no se
+	 *              indexa.
+	 * @param v     El vehículo a agregar.
+	 */
+	void agregar(K clave, Vehiculo v) {
+		if (clave == null) {
+			return;
+		}
+		grupos.computeIfAbsent(clave, k -> new LinkedHashMap<>()).put(IndicePlaca.normalizar(v.getPlaca()), v);
+	}
+
+	/**
+	 * Quita un vehículo del grupo de la clave indicada. Los grupos que quedan
+	 * vacíos se eliminan del índice.
+	 *
+	 * @param clave La clave del grupo.
+	 * @param v     El vehículo a quitar.
+	 */
+	void quitar(K clave, Vehiculo v) {
+		if (clave == null) {
+			return;
+		}
+		Map<String, Vehiculo> grupo = grupos.get(clave);
+		if (grupo != null) {
+			grupo.remove(IndicePlaca.normalizar(v.getPlaca()));
+			if (grupo.isEmpty()) {
+				grupos.remove(clave);
+			}
+		}
+	}
+
+	/**
+	 * Devuelve los vehículos de un grupo en un arreglo.
+	 *
+	 * @param clave La clave del grupo.
+	 * @return Un arreglo con los vehículos del grupo; vacío si la clave no existe.
+	 */
+	Vehiculo[] buscar(K clave) {
+		Map<String, Vehiculo> grupo = grupos.get(clave);
+		return grupo == null ? new Vehiculo[0] : grupo.values().toArray(new Vehiculo[0]);
+	}
+
+	/**
+	 * Devuelve la cantidad de vehículos de un grupo.
+	 *
+	 * @param clave La clave del grupo.
+	 * @return El tamaño del grupo, o {@code 0} si la clave no existe.
+	 */
+	int contar(K clave) {
+		Map<String, Vehiculo> grupo = grupos.get(clave);
+		return grupo == null ? 0 : grupo.size();
+	}
+
+	/**
+	 * Devuelve las claves de los grupos existentes.
+	 *
+	 * @return Una vista de solo lectura de las claves.
+	 */
+	Set<K> claves() {
+		return Collections.unmodifiableSet(grupos.keySet());
+	}
+
+	/**
+	 * Elimina todos los grupos del índice.
+	 */
+	void limpiar() {
+		grupos.clear();
+	}
+}
@@ -0,0 +1,172 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * La clase {@code InstantaneaFlota} es una vista de solo lectura de los
+ * vehículos almacenados en {@link ImplementacionCRUD} en un instante dado.
+ *
+ * <p>
+ * Se obtiene con {@link ImplementacionCRUD#instantanea()} en tiempo
+ * proporcional a la cantidad de segmentos del almacenamiento, sin copiar los
+ * vehículos: las escrituras posteriores copian el segmento que modifican, así
+ * que la instantánea sigue viendo el estado original. Puede entregarse a otro
+ * hilo (por ejemplo, iniciando una tarea) y recorrerse mientras el hilo dueño
+ * del CRUD sigue creando, actualizando y eliminando vehículos, sin candados ni
+ * esperas de ningún lado.
+ * </p>
+ *
+ * <p>
+ * La instantánea conserva las referencias a los objetos {@code Vehiculo}; si un
+ * vehículo almacenado se modifica con sus métodos {@code set}, en lugar de
+ * reemplazarlo con {@code update}, el cambio también se ve en la instantánea.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class InstantaneaFlota implements Iterable<Vehiculo> {
+
+	// Atributos
+	private final ArregloVehiculos vehiculos;
+	private final int tope;
+	private final int size;
+
+	/**
+	 * Constructor que envuelve un arreglo congelado.
+	 *
+	 * @param vehiculos El arreglo obtenido con {@link ArregloVehiculos#congelar()}.
+	 * @param tope      La cantidad de posiciones usadas en ese instante.
+	 * @param size      La cantidad de vehículos en ese instante.
+	 */
+	InstantaneaFlota(ArregloVehiculos vehiculos, int tope, int size) {
+		this.vehiculos = vehiculos;
+		this.tope = tope;
+		this.size = size;
+	}
+
+	/**
+	 * Devuelve la cantidad de vehículos de la instantánea.
+	 *
+	 * @return El número de vehículos.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Devuelve la cantidad de posiciones de la instantánea, incluidas las
+	 * lápidas.
+	 *
+	 * @return El tope de posiciones usadas.
+	 */
+	int tope() {
+		return tope;
+	}
+
+	/**
+	 * Devuelve el vehículo de una posición de la instantánea.
+	 *
+	 * @param posicion Una posición menor que {@link #tope()}.
+	 * @return El vehículo, o {@code null} si la posición estaba libre.
+	 */
+	Vehiculo vehiculoEn(int posicion) {
+		return vehiculos.get(posicion);
+	}
+
+	/**
+	 * Devuelve los vehículos de la instantánea en un arreglo.
+	 *
+	 * @return Un arreglo nuevo con los vehículos, en el orden del almacenamiento.
+	 */
+	public Vehiculo[] toArray() {
+		Vehiculo[] resultado = new Vehiculo[size];
+		int j = 0;
+		for (int i = 0; i < tope; i++) {
+			Vehiculo v = vehiculos.get(i);
+			if (v != null) {
+				resultado[j++] = v;
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Lee una página de vehículos de la instantánea.
+	 *
+	 * @param offset La cantidad de vehículos que se omiten.
+	 * @param limit  La cantidad máxima de vehículos de la página.
+	 * @return Un arreglo con, como máximo, {@code limit} vehículos.
+	 * @throws IllegalArgumentException si {@code offset} o {@code limit} son
+	 *                                  negativos.
+	 */
+	public Vehiculo[] readPage(int offset, int limit) {
+		if (offset < 0 || limit < 0) {
+			throw new IllegalArgumentException("El desplazamiento y el límite no pueden ser negativos.");
+		}
+		List<Vehiculo> pagina = new ArrayList<>(Math.min(limit, 1024));
+		int posicion = 0;
+		for (int i = 0; i < tope && pagina.size() < limit; i++) {
+			Vehiculo v = vehiculos.get(i);
+			if (v != null && posicion++ >= offset) {
+				pagina.add(v);
+			}
+		}
+		return pagina.toArray(new Vehiculo[0]);
+	}
+
+	/**
+	 * Recorre los vehículos de la instantánea sin copiarlos.
+	 *
+	 * @param accion La acción a ejecutar sobre cada vehículo.
+	 */
+	@Override
+	public void forEach(Consumer<? super Vehiculo> accion) {
+		for (int i = 0; i < tope; i++) {
+			Vehiculo v = vehiculos.get(i);
+			if (v != null) {
+				accion.accept(v);
+			}
+		}
+	}
+
+	/**
+	 * Devuelve un iterador de solo lectura sobre los vehículos de la instantánea.
+	 *
+	 * @return Un iterador en el orden del almacenamiento.
+	 */
+	@Override
+	public Iterator<Vehiculo> iterator() {
+		return new Iterator<Vehiculo>() {
+			private int siguiente = avanzar(0);
+
+			private int avanzar(int desde) {
+				while (desde < tope && vehiculos.get(desde) == null) {
+					desde++;
+				}
+				return desde;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return siguiente < tope;
+			}
+
+			@Override
+			public Vehiculo next() {
+				if (siguiente >= tope) {
+					throw new NoSuchElementException();
+				}
+				Vehiculo v = vehiculos.get(siguiente);
+				siguiente = avanzar(siguiente + 1);
+				return v;
+			}
+		};
+	}
+}
@@ -0,0 +1,174 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * La clase {@code LectorVehiculos} recorre un archivo de vehículos registro por
+ * registro, sin materializar la flota completa.
+ *
+ * <p>
+ * Cada llamada a {@link #next()} lee un solo registro del formato de
+ * {@link ArchivoBinarioVehiculos}, de modo que la memoria usada por la lectura
+ * se limita al buffer y al diccionario de textos repetidos, y los primeros
+ * vehículos están disponibles en cuanto se abre el archivo. Se usa con
+ * {@link #forEachRemaining}, o en lotes para cargarlos en un almacenamiento con
+ * {@link ImplementacionCRUD#createAll}.
+ * </p>
+ *
+ * <p>
+ * Los archivos escritos con la serialización de Java por versiones anteriores
+ * no pueden recorrerse como flujo: el arreglo se lee completo al abrir el
+ * lector y luego se recorre en memoria.
+ * </p>
+ *
+ * <p>
+ * Como {@link Iterator} no admite excepciones comprobadas, un error de lectura
+ * durante el recorrido se lanza como {@link UncheckedIOException}.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class LectorVehiculos implements Iterator<Vehiculo>, Closeable {
+
+	private static final int TAMANO_BUFFER = 1 << 16;
+
+	// Atributos
+	private final InputStream origen;
+	private final DataInputStream in;
+	private final List<String> diccionario = new ArrayList<>();
+	private final Vehiculo[] leidosCompletos;
+	private final int cantidad;
+	private int posicion;
+	private int entregados;
+
+	/**
+	 * Abre un lector sobre un flujo y lee su encabezado.
+	 *
+	 * @param origen El flujo de origen. Se cierra con {@link #close()}.
+	 * @throws IOException si el encabezado no es válido, la versión no es
+	 *                     compatible o falla la lectura.
+	 */
+	public LectorVehiculos(InputStream origen) throws IOException {
+		this.origen = origen;
+		BufferedInputStream buffer = new BufferedInputStream(origen, TAMANO_BUFFER);
+		if (ArchivoBinarioVehiculos.esSerializacionJava(buffer)) {
+			try {
+				leidosCompletos = (Vehiculo[]) new ObjectInputStream(buffer).readObject();
+			} catch (ClassNotFoundException e) {
+				throw new IOException("El archivo contiene clases desconocidas: " + e.getMessage(), e);
+			}
+			int noNulos = 0;
+			for (Vehiculo v : leidosCompletos) {
+				if (v != null) {
+					noNulos++;
+				}
+			}
+			in = null;
+			cantidad = noNulos;
+		} else {
+			in = new DataInputStream(buffer);
+			leidosCompletos = null;
+			cantidad = ArchivoBinarioVehiculos.leerEncabezado(in);
+		}
+	}
+
+	/**
+	 * Abre un lector sobre un archivo.
+	 *
+	 * @param path La ruta del archivo.
+	 * @param name El nombre del archivo.
+	 * @return El lector, posicionado antes del primer vehículo.
+	 * @throws IOException si el archivo no puede abrirse o su encabezado no es
+	 *                     válido.
+	 */
+	public static LectorVehiculos abrir(String path, String name) throws IOException {
+		InputStream archivo = new FileInputStream(path + name);
+		try {
+			return new LectorVehiculos(archivo);
+		} catch (IOException | RuntimeException e) {
+			archivo.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Obtiene la cantidad total de vehículos del archivo, según su encabezado.
+	 *
+	 * @return La cantidad de vehículos, incluidos los ya leídos.
+	 */
+	public int getCantidad() {
+		return cantidad;
+	}
+
+	/**
+	 * Obtiene la cantidad de vehículos entregados hasta ahora.
+	 *
+	 * @return La cantidad de llamadas a {@link #next()} completadas.
+	 */
+	public int getLeidos() {
+		return entregados;
+	}
+
+	/**
+	 * Indica si quedan vehículos por leer.
+	 *
+	 * @return {@code true} si {@link #next()} devolverá otro vehículo.
+	 */
+	@Override
+	public boolean hasNext() {
+		return entregados < cantidad;
+	}
+
+	/**
+	 * Lee el siguiente vehículo.
+	 *
+	 * @return El vehículo leído.
+	 * @throws NoSuchElementException si no quedan vehículos.
+	 * @throws UncheckedIOException   si el registro está dañado o falla la
+	 *                                lectura.
+	 */
+	@Override
+	public Vehiculo next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Vehiculo v;
+		if (leidosCompletos != null) {
+			do {
+				v = leidosCompletos[posicion++];
+			} while (v == null);
+		} else {
+			try {
+				v = ArchivoBinarioVehiculos.leerVehiculo(in, diccionario);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		entregados++;
+		return v;
+	}
+
+	/**
+	 * Cierra el flujo de origen.
+	 *
+	 * @throws IOException si el flujo no puede cerrarse.
+	 */
+	@Override
+	public void close() throws IOException {
+		origen.close();
+	}
+}
@@ -0,0 +1,52 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+/**
+ * La enumeración {@code Metrica} define los atributos numéricos de los
+ * vehículos sobre los que pueden calcularse agregaciones (suma, promedio,
+ * mínimo, máximo y cantidad).
+ *
+ * <p>
+ * Las métricas propias de un tipo de vehículo solo se aplican a ese tipo: el
+ * cilindraje a las motocicletas y la capacidad de carga a los camiones. Para los
+ * demás vehículos {@link #valor(Vehiculo)} devuelve {@code NaN} y el vehículo no
+ * participa en la agregación.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public enum Metrica {
+
+	/** El peso de cualquier vehículo. */
+	PESO,
+
+	/** El cilindraje del motor de las motocicletas. */
+	CILINDRAJE,
+
+	/** La capacidad de carga de los camiones. */
+	CARGA;
+
+	/**
+	 * Extrae el valor de la métrica de un vehículo.
+	 *
+	 * @param v El vehículo.
+	 * @return El valor de la métrica, o {@code NaN} si no se aplica al tipo del
+	 *         vehículo.
+	 */
+	public double valor(Vehiculo v) {
+		switch (this) {
+		case PESO:
+			return v.getPeso();
+		case CILINDRAJE:
+			return v instanceof Motocicleta ? ((Motocicleta) v).getCilindrajeMotor() : Double.NaN;
+		case CARGA:
+			return v instanceof Camion ? ((Camion) v).getCapacidadCarga() : Double.NaN;
+		default:
+			throw new AssertionError(this);
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * La clase {@code MotorConsultaParalela} evalúa filtros, proyecciones y
+ * agregaciones sobre el almacenamiento de {@link ImplementacionCRUD} dividiendo
+ * las posiciones de una {@link InstantaneaFlota} en rangos que se procesan en
+ * un {@link ForkJoinPool}.
+ *
+ * <p>
+ * Si la cantidad de posiciones a recorrer no supera el umbral de paralelismo,
+ * la consulta se resuelve de forma secuencial en el hilo que la invoca, de modo
+ * que las flotas pequeñas no pagan el costo de coordinar tareas. Los
+ * resultados de {@link #filtrar} y {@link #proyectar} conservan el orden del
+ * almacenamiento.
+ * </p>
+ *
+ * <p>
+ * Cada consulta toma una instantánea en el hilo que la invoca, que debe ser el
+ * dueño del almacenamiento, y los hilos del pool solo leen esa instantánea: el
+ * almacenamiento puede modificarse mientras la consulta se ejecuta sin que el
+ * resultado cambie.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class MotorConsultaParalela {
+
+	/** Umbral de paralelismo por defecto, en posiciones del almacenamiento. */
+	public static final int UMBRAL_POR_DEFECTO = 8192;
+
+	// Atributos
+	private final ImplementacionCRUD crud;
+	private final ForkJoinPool pool;
+	private final int umbral;
+
+	/**
+	 * Constructor que usa el pool común y el umbral por defecto.
+	 *
+	 * @param crud El almacenamiento sobre el que se ejecutan las consultas.
+	 */
+	public MotorConsultaParalela(ImplementacionCRUD crud) {
+		this(crud, ForkJoinPool.commonPool(), UMBRAL_POR_DEFECTO);
+	}
+
+	/**
+	 * Constructor que permite configurar el pool y el umbral de paralelismo.
+	 *
+	 * @param crud   El almacenamiento sobre el que se ejecutan las consultas.
+	 * @param pool   El pool en el que se ejecutan las tareas.
+	 * @param umbral La cantidad máxima de posiciones que procesa una tarea sin
+	 *               dividirse; también decide si la consulta se paraleliza.
+	 * @throws IllegalArgumentException si {@code umbral} no es positivo.
+	 */
+	public MotorConsultaParalela(ImplementacionCRUD crud, ForkJoinPool pool, int umbral) {
+		if (umbral <= 0) {
+			throw new IllegalArgumentException("El umbral de paralelismo debe ser positivo.");
+		}
+		this.crud = crud;
+		this.pool = pool;
+		this.umbral = umbral;
+	}
+
+	/**
+	 * Procesa un rango de posiciones del almacenamiento.
+	 *
+	 * @param <T> El tipo del resultado parcial.
+	 */
+	private interface Hoja<T> {
+		T procesar(int desde, int hasta);
+	}
+
+	/**
+	 * Tarea que divide un rango de posiciones por la mitad hasta alcanzar el
+	 * umbral y combina los resultados parciales en orden.
+	 */
+	private final class Tarea<T> extends RecursiveTask<T> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int desde;
+		private final int hasta;
+		private final Hoja<T> hoja;
+		private final BinaryOperator<T> combinar;
+
+		Tarea(int desde, int hasta, Hoja<T> hoja, BinaryOperator<T> combinar) {
+			this.desde = desde;
+			this.hasta = hasta;
+			this.hoja = hoja;
+			this.combinar = combinar;
+		}
+
+		@Override
+		protected T compute() {
+			if (hasta - desde <= umbral) {
+				return hoja.procesar(desde, hasta);
+			}
+			int medio = (desde + hasta) >>> 1;
+			Tarea<T> izquierda = new Tarea<>(desde, medio, hoja, combinar);
+			Tarea<T> derecha = new Tarea<>(medio, hasta, hoja, combinar);
+			izquierda.fork();
+			T resultadoDerecha = derecha.compute();
+			return combinar.apply(izquierda.join(), resultadoDerecha);
+		}
+	}
+
+	/**
+	 * Ejecuta una consulta sobre las posiciones de una instantánea, en paralelo
+	 * solo si su cantidad supera el umbral.
+	 */
+	private <T> T ejecutar(InstantaneaFlota foto, Hoja<T> hoja, BinaryOperator<T> combinar) {
+		int tope = foto.tope();
+		if (tope <= umbral) {
+			return hoja.procesar(0, tope);
+		}
+		return pool.invoke(new Tarea<>(0, tope, hoja, combinar));
+	}
+
+	private static <T> List<T> unir(List<T> a, List<T> b) {
+		a.addAll(b);
+		return a;
+	}
+
+	/**
+	 * Devuelve los vehículos que cumplen una condición.
+	 *
+	 * @param condicion La condición que deben cumplir los vehículos.
+	 * @return Un arreglo con los vehículos que la cumplen, en el orden del
+	 *         almacenamiento.
+	 */
+	public Vehiculo[] filtrar(Predicate<? super Vehiculo> condicion) {
+		return proyectar(condicion, v -> v).toArray(new Vehiculo[0]);
+	}
+
+	/**
+	 * Aplica una proyección a los vehículos que cumplen una condición.
+	 *
+	 * @param <R>        El tipo del valor proyectado.
+	 * @param condicion  La condición que deben cumplir los vehículos.
+	 * @param proyeccion La función que extrae el valor de cada vehículo.
+	 * @return Una lista con los valores proyectados, en el orden del
+	 *         almacenamiento.
+	 */
+	public <R> List<R> proyectar(Predicate<? super Vehiculo> condicion, Function<? super Vehiculo, ? extends R> proyeccion) {
+		InstantaneaFlota foto = crud.instantanea();
+		return ejecutar(foto, (desde, hasta) -> {
+			List<R> parcial = new ArrayList<>();
+			for (int i = desde; i < hasta; i++) {
+				Vehiculo v = foto.vehiculoEn(i);
+				if (v != null && condicion.test(v)) {
+					parcial.add(proyeccion.apply(v));
+				}
+			}
+			return parcial;
+		}, MotorConsultaParalela::unir);
+	}
+
+	/**
+	 * Cuenta los vehículos que cumplen una condición.
+	 *
+	 * @param condicion La condición que deben cumplir los vehículos.
+	 * @return La cantidad de vehículos que la cumplen.
+	 */
+	public long contar(Predicate<? super Vehiculo> condicion) {
+		InstantaneaFlota foto = crud.instantanea();
+		return ejecutar(foto, (desde, hasta) -> {
+			long parcial = 0;
+			for (int i = desde; i < hasta; i++) {
+				Vehiculo v = foto.vehiculoEn(i);
+				if (v != null && condicion.test(v)) {
+					parcial++;
+				}
+			}
+			return parcial;
+		}, Long::sum);
+	}
+
+	/**
+	 * Agrega un atributo numérico de los vehículos que cumplen una condición.
+	 * Los valores {@code NaN} se ignoran.
+	 *
+	 * @param condicion La condición que deben cumplir los vehículos.
+	 * @param atributo  La función que extrae el valor a agregar.
+	 * @return El resumen con la cantidad, suma, mínimo, máximo y promedio.
+	 */
+	public ResumenAgregado agregar(Predicate<? super Vehiculo> condicion, ToDoubleFunction<? super Vehiculo> atributo) {
+		InstantaneaFlota foto = crud.instantanea();
+		return ejecutar(foto, (desde, hasta) -> {
+			long conteo = 0;
+			double suma = 0;
+			double minimo = Double.POSITIVE_INFINITY;
+			double maximo = Double.NEGATIVE_INFINITY;
+			for (int i = desde; i < hasta; i++) {
+				Vehiculo v = foto.vehiculoEn(i);
+				if (v != null && condicion.test(v)) {
+					double valor = atributo.applyAsDouble(v);
+					if (!Double.isNaN(valor)) {
+						conteo++;
+						suma += valor;
+						minimo = Math.min(minimo, valor);
+						maximo = Math.max(maximo, valor);
+					}
+				}
+			}
+			return conteo == 0 ? ResumenAgregado.VACIO : new ResumenAgregado(conteo, suma, minimo, maximo);
+		}, ResumenAgregado::combinar);
+	}
+}
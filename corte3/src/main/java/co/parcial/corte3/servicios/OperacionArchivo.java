@@ -30,6 +30,8 @@ public interface OperacionArchivo {
      * @param path La ruta del archivo a deserializar.
      * @param name El nombre del archivo a deserializar.
      * @return El arreglo de vehículos deserializado.
+     * @throws java.io.UncheckedIOException si el archivo no pudo leerse; su mensaje
+     *         describe el error.
      */
     public Vehiculo[] deserializar(String path, String name);
 
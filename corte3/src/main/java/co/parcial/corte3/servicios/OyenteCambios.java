@@ -0,0 +1,23 @@
+package co.parcial.corte3.servicios;
+
+/**
+ * La interfaz {@code OyenteCambios} recibe los {@link EventoCambio} que publica
+ * un almacenamiento de vehículos después de cada modificación.
+ * 
+ * Los eventos se entregan en el mismo hilo que hizo la modificación, una vez
+ * aplicada, y en el orden en que ocurrieron. Un oyente no debe modificar el
+ * almacenamiento desde {@link #onCambio(EventoCambio)}.
+ * 
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+@FunctionalInterface
+public interface OyenteCambios {
+
+    /**
+     * Procesa un cambio del almacenamiento.
+     * 
+     * @param evento El cambio ocurrido.
+     */
+    void onCambio(EventoCambio evento);
+}
@@ -0,0 +1,65 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+/**
+ * La clase {@code Pagina} representa una página de vehículos obtenida con
+ * paginación por cursor ({@link CRUD#readPageDesde(int, int)}): contiene los
+ * vehículos de la página y el cursor con el que se pide la siguiente.
+ *
+ * <p>
+ * El cursor es opaco: su significado depende de la implementación de
+ * {@code CRUD} que lo generó y solo debe usarse para pedir la página siguiente
+ * a esa misma instancia.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class Pagina {
+
+	/** Cursor que indica que no hay más páginas. */
+	public static final int FIN = -1;
+
+	// Atributos
+	private final Vehiculo[] vehiculos;
+	private final int siguienteCursor;
+
+	/**
+	 * Constructor que inicializa la página.
+	 *
+	 * @param vehiculos       Los vehículos de la página.
+	 * @param siguienteCursor El cursor de la página siguiente, o {@link #FIN}.
+	 */
+	public Pagina(Vehiculo[] vehiculos, int siguienteCursor) {
+		this.vehiculos = vehiculos;
+		this.siguienteCursor = siguienteCursor;
+	}
+
+	/**
+	 * Obtiene los vehículos de la página.
+	 *
+	 * @return Un arreglo con los vehículos de la página.
+	 */
+	public Vehiculo[] getVehiculos() {
+		return vehiculos;
+	}
+
+	/**
+	 * Obtiene el cursor con el que se pide la página siguiente.
+	 *
+	 * @return El cursor de la página siguiente, o {@link #FIN} si no hay más.
+	 */
+	public int getSiguienteCursor() {
+		return siguienteCursor;
+	}
+
+	/**
+	 * Indica si existen más vehículos después de esta página.
+	 *
+	 * @return {@code true} si hay una página siguiente.
+	 */
+	public boolean hayMas() {
+		return siguienteCursor != FIN;
+	}
+}
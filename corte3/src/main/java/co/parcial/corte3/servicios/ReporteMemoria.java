@@ -0,0 +1,116 @@
+package co.parcial.corte3.servicios;
+
+/**
+ * La clase {@code ReporteMemoria} resume cuánta memoria ocupan las cadenas
+ * repetidas de la flota (marca, modelo y estilo) y cuánta se ahorra al
+ * compartir una sola instancia por valor.
+ *
+ * <p>
+ * Los tamaños son estimaciones para una JVM de 64 bits con referencias
+ * comprimidas y cadenas compactas: 24 bytes por objeto {@code String} más su
+ * arreglo de bytes (16 bytes de cabecera y uno o dos bytes por carácter),
+ * alineados a 8 bytes.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class ReporteMemoria {
+
+	// Atributos
+	private final long referencias;
+	private final long instancias;
+	private final long bytesSinCompartir;
+	private final long bytesCompartidos;
+
+	/**
+	 * Constructor que inicializa el reporte.
+	 *
+	 * @param referencias       La cantidad de campos de texto no nulos.
+	 * @param instancias        La cantidad de objetos {@code String} distintos a
+	 *                          los que apuntan esos campos.
+	 * @param bytesSinCompartir Los bytes que ocuparían las cadenas si cada campo
+	 *                          tuviera su propia copia.
+	 * @param bytesCompartidos  Los bytes que ocupan las instancias distintas.
+	 */
+	public ReporteMemoria(long referencias, long instancias, long bytesSinCompartir, long bytesCompartidos) {
+		this.referencias = referencias;
+		this.instancias = instancias;
+		this.bytesSinCompartir = bytesSinCompartir;
+		this.bytesCompartidos = bytesCompartidos;
+	}
+
+	/**
+	 * Estima la memoria que ocupa una cadena.
+	 *
+	 * @param s La cadena.
+	 * @return El tamaño estimado en bytes del objeto y su arreglo de caracteres.
+	 */
+	static long tamanoEstimado(String s) {
+		int bytesPorCaracter = 1;
+		for (int i = 0; i < s.length(); i++) {
+			if (s.charAt(i) > 0xFF) {
+				bytesPorCaracter = 2;
+				break;
+			}
+		}
+		long arreglo = 16 + (long) s.length() * bytesPorCaracter;
+		return 24 + ((arreglo + 7) & ~7L);
+	}
+
+	/**
+	 * Obtiene la cantidad de campos de texto no nulos.
+	 *
+	 * @return La cantidad de referencias a cadenas.
+	 */
+	public long getReferencias() {
+		return referencias;
+	}
+
+	/**
+	 * Obtiene la cantidad de objetos {@code String} distintos en uso.
+	 *
+	 * @return La cantidad de instancias.
+	 */
+	public long getInstancias() {
+		return instancias;
+	}
+
+	/**
+	 * Obtiene los bytes que ocuparían las cadenas sin compartir instancias.
+	 *
+	 * @return Los bytes estimados con una copia por campo.
+	 */
+	public long getBytesSinCompartir() {
+		return bytesSinCompartir;
+	}
+
+	/**
+	 * Obtiene los bytes que ocupan las instancias en uso.
+	 *
+	 * @return Los bytes estimados de las instancias distintas.
+	 */
+	public long getBytesCompartidos() {
+		return bytesCompartidos;
+	}
+
+	/**
+	 * Calcula los bytes ahorrados al compartir instancias.
+	 *
+	 * @return La diferencia entre ambas estimaciones.
+	 */
+	public long getBytesAhorrados() {
+		return bytesSinCompartir - bytesCompartidos;
+	}
+
+	/**
+	 * Retorna una representación en cadena del reporte.
+	 *
+	 * @return Un resumen de referencias, instancias y bytes ahorrados.
+	 */
+	@Override
+	public String toString() {
+		return "Cadenas: " + referencias + " referencias, " + instancias + " instancias, " + getBytesAhorrados()
+				+ " bytes ahorrados (" + bytesCompartidos + " de " + bytesSinCompartir + " bytes).";
+	}
+}
@@ -0,0 +1,75 @@
+package co.parcial.corte3.servicios;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * La clase {@code ResultadoLote} resume el resultado de una operación por lotes
+ * ({@code createAll}, {@code updateAll}, {@code deleteAll}) sin generar un
+ * mensaje por cada vehículo: solo cuenta los registros procesados y conserva
+ * las placas que no pudieron aplicarse.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class ResultadoLote {
+
+	// Atributos
+	private int exitosos;
+	private final List<String> placasFallidas = new ArrayList<>();
+
+	/**
+	 * Registra un vehículo procesado correctamente.
+	 */
+	void registrarExito() {
+		exitosos++;
+	}
+
+	/**
+	 * Registra un vehículo que no pudo procesarse.
+	 *
+	 * @param placa La placa del vehículo rechazado.
+	 */
+	void registrarFallo(String placa) {
+		placasFallidas.add(placa);
+	}
+
+	/**
+	 * Obtiene la cantidad de vehículos procesados correctamente.
+	 *
+	 * @return La cantidad de operaciones exitosas.
+	 */
+	public int getExitosos() {
+		return exitosos;
+	}
+
+	/**
+	 * Obtiene la cantidad de vehículos que no pudieron procesarse.
+	 *
+	 * @return La cantidad de operaciones fallidas.
+	 */
+	public int getFallidos() {
+		return placasFallidas.size();
+	}
+
+	/**
+	 * Obtiene las placas de los vehículos que no pudieron procesarse (placa
+	 * duplicada, inexistente o con datos inválidos).
+	 *
+	 * @return Una lista de solo lectura con las placas rechazadas.
+	 */
+	public List<String> getPlacasFallidas() {
+		return Collections.unmodifiableList(placasFallidas);
+	}
+
+	/**
+	 * Retorna una representación en cadena del resumen del lote.
+	 *
+	 * @return Una cadena con la cantidad de operaciones exitosas y fallidas.
+	 */
+	@Override
+	public String toString() {
+		return "Lote procesado: " + exitosos + " exitosos, " + placasFallidas.size() + " fallidos.";
+	}
+}
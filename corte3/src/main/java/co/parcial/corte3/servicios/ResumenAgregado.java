@@ -0,0 +1,115 @@
+package co.parcial.corte3.servicios;
+
+/**
+ * La clase {@code ResumenAgregado} contiene el resultado de agregar un atributo
+ * numérico sobre un conjunto de vehículos: cantidad, suma, mínimo, máximo y
+ * promedio.
+ *
+ * <p>
+ * Es inmutable; dos resúmenes parciales pueden unirse con
+ * {@link #combinar(ResumenAgregado)}, lo que permite calcularlos por partes
+ * (por ejemplo, en paralelo) y juntarlos al final.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class ResumenAgregado {
+
+	/** Resumen de un conjunto vacío. */
+	public static final ResumenAgregado VACIO = new ResumenAgregado(0, 0, Double.NaN, Double.NaN);
+
+	// Atributos
+	private final long conteo;
+	private final double suma;
+	private final double minimo;
+	private final double maximo;
+
+	/**
+	 * Constructor que inicializa todos los valores del resumen.
+	 *
+	 * @param conteo La cantidad de valores agregados.
+	 * @param suma   La suma de los valores.
+	 * @param minimo El valor mínimo, o {@code NaN} si no hay valores.
+	 * @param maximo El valor máximo, o {@code NaN} si no hay valores.
+	 */
+	public ResumenAgregado(long conteo, double suma, double minimo, double maximo) {
+		this.conteo = conteo;
+		this.suma = suma;
+		this.minimo = minimo;
+		this.maximo = maximo;
+	}
+
+	/**
+	 * Une este resumen con otro calculado sobre un conjunto disjunto.
+	 *
+	 * @param otro El otro resumen.
+	 * @return Un nuevo resumen que cubre ambos conjuntos.
+	 */
+	public ResumenAgregado combinar(ResumenAgregado otro) {
+		if (otro.conteo == 0) {
+			return this;
+		}
+		if (conteo == 0) {
+			return otro;
+		}
+		return new ResumenAgregado(conteo + otro.conteo, suma + otro.suma, Math.min(minimo, otro.minimo),
+				Math.max(maximo, otro.maximo));
+	}
+
+	/**
+	 * Obtiene la cantidad de valores agregados.
+	 *
+	 * @return La cantidad de valores.
+	 */
+	public long getConteo() {
+		return conteo;
+	}
+
+	/**
+	 * Obtiene la suma de los valores.
+	 *
+	 * @return La suma, o {@code 0} si no hay valores.
+	 */
+	public double getSuma() {
+		return suma;
+	}
+
+	/**
+	 * Obtiene el valor mínimo.
+	 *
+	 * @return El mínimo, o {@code NaN} si no hay valores.
+	 */
+	public double getMinimo() {
+		return minimo;
+	}
+
+	/**
+	 * Obtiene el valor máximo.
+	 *
+	 * @return El máximo, o {@code NaN} si no hay valores.
+	 */
+	public double getMaximo() {
+		return maximo;
+	}
+
+	/**
+	 * Calcula el promedio de los valores.
+	 *
+	 * @return El promedio, o {@code NaN} si no hay valores.
+	 */
+	public double getPromedio() {
+		return conteo == 0 ? Double.NaN : suma / conteo;
+	}
+
+	/**
+	 * Retorna una representación en cadena del resumen.
+	 *
+	 * @return Una cadena con la cantidad, suma, mínimo, máximo y promedio.
+	 */
+	@Override
+	public String toString() {
+		return "ResumenAgregado [conteo=" + conteo + ", suma=" + suma + ", minimo=" + minimo + ", maximo=" + maximo
+				+ ", promedio=" + getPromedio() + "]";
+	}
+}
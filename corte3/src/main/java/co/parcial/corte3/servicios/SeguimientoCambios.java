@@ -0,0 +1,155 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * La clase {@code SeguimientoCambios} registra qué placas cambiaron en un
+ * almacenamiento desde la última vez que se tomaron sus cambios, para que un
+ * guardado escriba solo esos registros y no toda la flota.
+ *
+ * <p>
+ * Por cada placa se conserva solo su último estado: el vehículo actual, o
+ * {@code null} si fue eliminada (una lápida). Un
+ * {@link EventoCambio.Tipo#RECARGADO} descarta lo acumulado y marca el lote
+ * como completo, porque a partir de él solo una instantánea de toda la flota
+ * refleja el estado; mientras el lote sea completo, los cambios por placa no
+ * se acumulan, de modo que una carga por lotes no hace crecer el seguimiento.
+ * Las compactaciones ({@link EventoCambio.Tipo#COMPACTADO}) no cambian
+ * ninguna placa y se ignoran. Se obtiene con
+ * {@link ImplementacionCRUD#seguirCambios()}.
+ * </p>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class SeguimientoCambios implements OyenteCambios {
+
+	/**
+	 * Los cambios acumulados entre dos llamadas a {@link #tomar()}.
+	 */
+	public static final class Lote {
+
+		private final Map<String, Vehiculo> cambios;
+		private final boolean completo;
+
+		Lote(Map<String, Vehiculo> cambios, boolean completo) {
+			this.cambios = Collections.unmodifiableMap(cambios);
+			this.completo = completo;
+		}
+
+		/**
+		 * Obtiene los cambios por placa normalizada.
+		 *
+		 * @return Un mapa de solo lectura, en el orden del primer cambio de cada
+		 *         placa, con el vehículo actual o {@code null} si fue eliminado.
+		 */
+		public Map<String, Vehiculo> getCambios() {
+			return cambios;
+		}
+
+		/**
+		 * Indica si el contenido cambió en bloque y hace falta guardar la flota
+		 * completa.
+		 *
+		 * @return {@code true} si los cambios por placa no bastan.
+		 */
+		public boolean esCompleto() {
+			return completo;
+		}
+	}
+
+	// Atributos
+	private Map<String, Vehiculo> cambios = new LinkedHashMap<>();
+	private boolean completo;
+
+	/**
+	 * Registra la placa afectada por un cambio.
+	 *
+	 * @param evento El cambio ocurrido.
+	 */
+	@Override
+	public synchronized void onCambio(EventoCambio evento) {
+		if (evento.getTipo() == EventoCambio.Tipo.COMPACTADO) {
+			// Mover los registros no cambia ninguna placa
+			return;
+		}
+		if (completo && evento.getTipo() != EventoCambio.Tipo.RECARGADO) {
+			// El próximo guardado ya incluye la flota completa
+			return;
+		}
+		switch (evento.getTipo()) {
+		case CREADO:
+			cambios.put(IndicePlaca.normalizar(evento.getNuevo().getPlaca()), evento.getNuevo());
+			break;
+		case ACTUALIZADO: {
+			String anterior = IndicePlaca.normalizar(evento.getAnterior().getPlaca());
+			String nueva = IndicePlaca.normalizar(evento.getNuevo().getPlaca());
+			if (!anterior.equals(nueva)) {
+				cambios.put(anterior, null);
+			}
+			cambios.put(nueva, evento.getNuevo());
+			break;
+		}
+		case ELIMINADO:
+			cambios.put(IndicePlaca.normalizar(evento.getAnterior().getPlaca()), null);
+			break;
+		default:
+			cambios.clear();
+			completo = true;
+			break;
+		}
+	}
+
+	/**
+	 * Indica si hay cambios sin tomar.
+	 *
+	 * @return {@code true} si alguna placa cambió o el contenido se recargó.
+	 */
+	public synchronized boolean hayCambios() {
+		return completo || !cambios.isEmpty();
+	}
+
+	/**
+	 * Entrega los cambios acumulados y empieza a acumular desde cero.
+	 *
+	 * @return Los cambios desde la llamada anterior.
+	 */
+	public synchronized Lote tomar() {
+		Lote lote = new Lote(cambios, completo);
+		cambios = new LinkedHashMap<>();
+		completo = false;
+		return lote;
+	}
+
+	/**
+	 * Devuelve un lote que no pudo guardarse, para que se incluya en el
+	 * siguiente. Los cambios posteriores de la misma placa prevalecen.
+	 *
+	 * @param lote El lote obtenido con {@link #tomar()}.
+	 */
+	public synchronized void devolver(Lote lote) {
+		if (lote.completo) {
+			completo = true;
+		}
+		if (completo) {
+			cambios.clear();
+			return;
+		}
+		Map<String, Vehiculo> union = new LinkedHashMap<>(lote.cambios);
+		union.putAll(cambios);
+		cambios = union;
+	}
+
+	/**
+	 * Marca que el siguiente guardado debe incluir la flota completa, por
+	 * ejemplo porque un guardado anterior falló a medias.
+	 */
+	public synchronized void marcarCompleto() {
+		cambios.clear();
+		completo = true;
+	}
+}
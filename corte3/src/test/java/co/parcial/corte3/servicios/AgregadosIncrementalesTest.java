@@ -0,0 +1,96 @@
+package co.parcial.corte3.servicios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de los resúmenes incrementales de {@link ImplementacionCRUD},
+ * comparados con los que calcula {@link CRUD} recorriendo los vehículos.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class AgregadosIncrementalesTest {
+
+	private static final String[] MARCAS = { "Mazda", "Kia", "Volvo", "Honda" };
+
+	/** Almacenamiento que usa las implementaciones por defecto de {@link CRUD}. */
+	private final ImplementacionCRUDConcurrente referencia = new ImplementacionCRUDConcurrente(64);
+	private final ImplementacionCRUD incremental = new ImplementacionCRUD(64);
+	private final Random aleatorio = new Random(11);
+
+	private Vehiculo generar(String placa) {
+		String marca = MARCAS[aleatorio.nextInt(MARCAS.length)];
+		String modelo = "M" + aleatorio.nextInt(5);
+		// Valores enteros y pocos distintos: las sumas son exactas y los extremos se
+		// repiten
+		int peso = aleatorio.nextInt(20);
+		switch (aleatorio.nextInt(3)) {
+		case 0:
+			return new Automovil(placa, marca, modelo, peso, "Sedán");
+		case 1:
+			return new Motocicleta(placa, marca, modelo, peso, aleatorio.nextInt(10));
+		default:
+			return new Camion(placa, marca, modelo, peso, aleatorio.nextInt(10));
+		}
+	}
+
+	private void comparar() {
+		for (Metrica m : Metrica.values()) {
+			assertEquals(referencia.resumir(m).toString(), incremental.resumir(m).toString(), m.name());
+			for (Agrupacion a : Agrupacion.values()) {
+				assertEquals(referencia.resumirPor(a, m).toString(), incremental.resumirPor(a, m).toString(),
+						a + " " + m);
+			}
+		}
+	}
+
+	@Test
+	void losResumenesCoincidenConUnRecorridoCompleto() {
+		int placas = 60;
+		for (int paso = 0; paso < 3000; paso++) {
+			String placa = "P" + aleatorio.nextInt(placas);
+			Vehiculo actual = incremental.read(placa);
+			if (actual == null) {
+				Vehiculo nuevo = generar(placa);
+				referencia.create(nuevo);
+				incremental.create(nuevo);
+			} else if (aleatorio.nextBoolean()) {
+				referencia.delete(placa);
+				incremental.delete(placa);
+			} else {
+				Vehiculo nuevo = generar(placa);
+				referencia.update(referencia.read(placa), nuevo);
+				incremental.update(actual, nuevo);
+			}
+			if (paso % 25 == 0) {
+				comparar();
+			}
+		}
+		comparar();
+	}
+
+	@Test
+	void quitarElExtremoDeUnGrupoRecalculaSoloEseGrupo() {
+		incremental.create(new Camion("C1", "Volvo", "FH", 100, 5));
+		incremental.create(new Camion("C2", "Volvo", "FH", 300, 7));
+		incremental.create(new Camion("C3", "Volvo", "FM", 200, 9));
+		incremental.delete("C2");
+
+		ResumenAgregado volvo = incremental.resumirGrupo(Agrupacion.MARCA, "volvo", Metrica.PESO);
+		assertEquals(2, volvo.getConteo());
+		assertEquals(100, volvo.getMinimo());
+		assertEquals(200, volvo.getMaximo());
+		ResumenAgregado carga = incremental.resumir(Metrica.CARGA);
+		assertEquals(5, carga.getMinimo());
+		assertEquals(9, carga.getMaximo());
+	}
+}
@@ -0,0 +1,124 @@
+package co.parcial.corte3.servicios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Pruebas del formato binario de {@link ArchivoBinarioVehiculos}.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class ArchivoBinarioVehiculosTest {
+
+	private final ArchivoBinarioVehiculos formato = new ArchivoBinarioVehiculos();
+
+	private static Vehiculo[] flota() {
+		return new Vehiculo[] { new Automovil("ABC123", "Mazda", "3", 1250.5, "Sedán"),
+				new Motocicleta("MOT45A", "Yamaha", "FZ", 140, 150), null,
+				new Camion("TRK900", "Volvo", "FH", 9000, 20000), new Vehiculo("VEH001", null, "Ñandú", -0.0),
+				new Automovil("XYZ789", "Mazda", "3", 1300, null) };
+	}
+
+	private byte[] escribir(Vehiculo[] vehiculos) throws IOException {
+		ByteArrayOutputStream destino = new ByteArrayOutputStream();
+		formato.escribir(vehiculos, destino);
+		return destino.toByteArray();
+	}
+
+	private static String describir(Vehiculo v) {
+		return v.getClass().getSimpleName() + " " + v;
+	}
+
+	@Test
+	void unaFlotaEscritaSeLeeIgualSinLasPosicionesNulas() throws Exception {
+		Vehiculo[] original = flota();
+		Vehiculo[] leidos = formato.leer(new ByteArrayInputStream(escribir(original)));
+
+		Object[] esperados = Arrays.stream(original).filter(v -> v != null).map(ArchivoBinarioVehiculosTest::describir)
+				.toArray();
+		assertEquals(Arrays.asList(esperados),
+				Arrays.asList(Arrays.stream(leidos).map(ArchivoBinarioVehiculosTest::describir).toArray()));
+		// Los textos repetidos comparten una sola instancia
+		assertSame(leidos[0].getMarca(), leidos[4].getMarca());
+	}
+
+	@Test
+	void unArchivoDeSerializacionJavaTambienSeLee() throws Exception {
+		ByteArrayOutputStream destino = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(destino)) {
+			out.writeObject(flota());
+		}
+		Vehiculo[] leidos = formato.leer(new ByteArrayInputStream(destino.toByteArray()));
+		assertEquals(6, leidos.length);
+		assertEquals("TRK900", leidos[3].getPlaca());
+	}
+
+	@Test
+	void unaCantidadEnormeEnElEncabezadoNoReservaMemoria() throws Exception {
+		ByteArrayOutputStream destino = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(destino);
+		ArchivoBinarioVehiculos.escribirEncabezado(out, Integer.MAX_VALUE);
+		out.flush();
+
+		assertThrows(EOFException.class, () -> formato.leer(new ByteArrayInputStream(destino.toByteArray())));
+	}
+
+	@Test
+	void unaCantidadNegativaSeRechaza() throws Exception {
+		ByteArrayOutputStream destino = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(destino);
+		ArchivoBinarioVehiculos.escribirEncabezado(out, -5);
+		out.flush();
+
+		assertThrows(IOException.class, () -> formato.leer(new ByteArrayInputStream(destino.toByteArray())));
+	}
+
+	@Test
+	void unArchivoTruncadoFallaConUnaExcepcionDeLectura() throws Exception {
+		byte[] completo = escribir(flota());
+		byte[] truncado = Arrays.copyOf(completo, completo.length - 3);
+
+		assertThrows(EOFException.class, () -> formato.leer(new ByteArrayInputStream(truncado)));
+	}
+
+	@Test
+	void unErrorAlDeserializarSeInformaEnElMensaje(@TempDir Path directorio) throws Exception {
+		UncheckedIOException error = assertThrows(UncheckedIOException.class,
+				() -> formato.deserializar(directorio.toString() + "/", "no-existe.bin"));
+		assertTrue(error.getMessage().startsWith("Error al leer archivo: "));
+
+		Files.write(directorio.resolve("danado.bin"), new byte[] { 1, 2, 3 });
+		error = assertThrows(UncheckedIOException.class,
+				() -> formato.deserializar(directorio.toString() + "/", "danado.bin"));
+		assertTrue(error.getMessage().startsWith("Error al leer archivo: "));
+	}
+
+	@Test
+	void unaMarcaDesconocidaSeRechaza() {
+		byte[] basura = { 1, 2, 3, 4, 0, 1, 0, 0, 0, 0 };
+
+		assertThrows(IOException.class, () -> formato.leer(new ByteArrayInputStream(basura)));
+	}
+}
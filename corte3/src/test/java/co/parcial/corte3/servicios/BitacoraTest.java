@@ -0,0 +1,254 @@
+package co.parcial.corte3.servicios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Pruebas de la recuperación de {@link Bitacora}. Las que simulan una caída
+ * dejan los archivos como están, sin cerrar la bitácora, y los recuperan con
+ * una bitácora y un almacenamiento nuevos.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class BitacoraTest {
+
+	private static final String NOMBRE = "flota.bin";
+
+	@TempDir
+	Path directorio;
+
+	private String ruta;
+	private ImplementacionCRUD crud;
+	private Bitacora bitacora;
+
+	@BeforeEach
+	void preparar() throws IOException {
+		ruta = directorio.toString() + "/";
+		crud = new ImplementacionCRUD(16);
+		bitacora = new Bitacora(crud, ruta, NOMBRE, Bitacora.Sincronizacion.POR_OPERACION);
+		bitacora.recuperar();
+	}
+
+	@AfterEach
+	void cerrar() throws IOException {
+		bitacora.close();
+	}
+
+	/**
+	 * Recupera los archivos en un almacenamiento nuevo, como tras una caída.
+	 */
+	private ImplementacionCRUD recuperarTrasCaida() throws IOException {
+		ImplementacionCRUD recuperado = new ImplementacionCRUD(16);
+		try (Bitacora otra = new Bitacora(recuperado, ruta, NOMBRE, Bitacora.Sincronizacion.POR_OPERACION)) {
+			otra.recuperar();
+		}
+		return recuperado;
+	}
+
+	/**
+	 * Describe el contenido de un almacenamiento por placa, con el tipo y todos
+	 * los atributos de cada vehículo.
+	 */
+	private static Map<String, String> contenido(ImplementacionCRUD almacenamiento) {
+		Map<String, String> resultado = new TreeMap<>();
+		almacenamiento.forEach(v -> resultado.put(IndicePlaca.normalizar(v.getPlaca()),
+				v.getClass().getSimpleName() + " " + v));
+		return resultado;
+	}
+
+	private static Vehiculo vehiculo(int tipo, String placa, int valor) {
+		switch (tipo) {
+		case 0:
+			return new Automovil(placa, "Mazda", "M" + valor % 7, 1000 + valor, "E" + valor % 3);
+		case 1:
+			return new Motocicleta(placa, "Yamaha", "Y" + valor % 5, 150 + valor, 100 + valor % 400);
+		default:
+			return new Camion(placa, "Volvo", "V" + valor % 4, 5000 + valor, valor);
+		}
+	}
+
+	@Test
+	void unRegistroIncompletoAlFinalSeDescarta() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			crud.create(vehiculo(i % 3, "P" + i, i));
+		}
+		crud.update(crud.read("P1"), vehiculo(2, "P1", 99));
+		crud.delete("P2");
+		Map<String, String> antesDeLaUltima = contenido(crud);
+		crud.create(vehiculo(0, "ULTIMO", 7));
+
+		// La caída corta el último registro por la mitad
+		Path wal = directorio.resolve(NOMBRE + Bitacora.EXTENSION);
+		try (FileChannel canal = FileChannel.open(wal, StandardOpenOption.WRITE)) {
+			canal.truncate(canal.size() - 10);
+		}
+		long recortado = Files.size(wal);
+
+		ImplementacionCRUD recuperado = new ImplementacionCRUD(16);
+		try (Bitacora otra = new Bitacora(recuperado, ruta, NOMBRE, Bitacora.Sincronizacion.POR_OPERACION)) {
+			assertEquals(7, otra.recuperar());
+			assertEquals(antesDeLaUltima, contenido(recuperado));
+			assertTrue(Files.size(wal) < recortado, "el registro incompleto se recorta");
+			// Lo que se anexe después del recorte también se recupera
+			recuperado.create(vehiculo(1, "DESPUES", 3));
+		}
+		ImplementacionCRUD otraVez = recuperarTrasCaida();
+		assertNotNull(otraVez.read("DESPUES"));
+		assertNull(otraVez.read("ULTIMO"));
+		assertEquals(antesDeLaUltima.size() + 1, otraVez.size());
+	}
+
+	@Test
+	void unaRotacionInterrumpidaTrasMoverLaBaseSeCompleta() throws Exception {
+		crud.create(vehiculo(0, "A", 1));
+		crud.create(vehiculo(1, "B", 2));
+		assertEquals("Archivo guardado exitosamente.", bitacora.prepararPuntoControl().call());
+		crud.create(vehiculo(2, "C", 3));
+
+		// La bitácora que corresponde a la base que se va a reemplazar
+		Path wal = directorio.resolve(NOMBRE + Bitacora.EXTENSION);
+		Path walTemporal = directorio.resolve(NOMBRE + Bitacora.EXTENSION + ".tmp");
+		Path anterior = directorio.resolve("anterior.wal");
+		Files.copy(wal, anterior);
+
+		assertEquals("Archivo guardado exitosamente.", bitacora.prepararPuntoControl().call());
+		crud.delete("A");
+		crud.create(vehiculo(0, "D", 4));
+		Map<String, String> esperado = contenido(crud);
+
+		// Estado de una caída entre mover la base nueva y mover la bitácora nueva
+		Files.move(wal, walTemporal);
+		Files.copy(anterior, wal);
+
+		ImplementacionCRUD recuperado = new ImplementacionCRUD(16);
+		try (Bitacora otra = new Bitacora(recuperado, ruta, NOMBRE, Bitacora.Sincronizacion.POR_OPERACION)) {
+			assertEquals(2, otra.recuperar());
+			assertEquals(esperado, contenido(recuperado));
+			assertFalse(Files.exists(walTemporal));
+		}
+	}
+
+	@Test
+	void unaBitacoraDeOtraBaseNoSeReproduce() throws Exception {
+		crud.create(vehiculo(0, "A", 1));
+		assertEquals("Archivo guardado exitosamente.", bitacora.prepararPuntoControl().call());
+		crud.create(vehiculo(1, "B", 2));
+
+		// Otra base de la misma longitud pero con otro contenido
+		Path base = directorio.resolve(NOMBRE);
+		byte[] bytes = Files.readAllBytes(base);
+		bytes[bytes.length - 1] ^= 1;
+		Files.write(base, bytes);
+
+		ImplementacionCRUD recuperado = new ImplementacionCRUD(16);
+		try (Bitacora otra = new Bitacora(recuperado, ruta, NOMBRE, Bitacora.Sincronizacion.POR_OPERACION)) {
+			assertEquals(0, otra.recuperar());
+			assertNull(recuperado.read("B"));
+		}
+	}
+
+	@Test
+	void losGuardadosIncrementalesYLasFusionesCoincidenConElAlmacenamiento() throws Exception {
+		Random azar = new Random(23);
+		for (int i = 0; i < 200; i++) {
+			crud.create(vehiculo(i % 3, "P" + i, i));
+		}
+		assertEquals("Archivo guardado exitosamente.", bitacora.prepararPuntoControl().call());
+		Path delta = directorio.resolve(NOMBRE + Bitacora.EXTENSION_DELTA);
+
+		boolean huboFusion = false;
+		for (int ronda = 0; ronda < 12; ronda++) {
+			for (int j = 0; j < 25; j++) {
+				String placa = "P" + azar.nextInt(260);
+				Vehiculo actual = crud.read(placa);
+				int accion = azar.nextInt(4);
+				if (actual == null) {
+					crud.create(vehiculo(azar.nextInt(3), placa, azar.nextInt(1000)));
+				} else if (accion == 0) {
+					crud.delete(placa);
+				} else if (accion == 1) {
+					// Cambio de placa: la anterior queda como lápida en el lote
+					String nueva = "R" + ronda + "-" + j;
+					crud.update(actual, vehiculo(azar.nextInt(3), nueva, azar.nextInt(1000)));
+				} else {
+					crud.update(actual, vehiculo(azar.nextInt(3), placa, azar.nextInt(1000)));
+				}
+			}
+			long deltaAntes = Files.size(delta);
+			assertEquals("Archivo guardado exitosamente.", bitacora.prepararGuardadoIncremental().call());
+			if (Files.size(delta) < deltaAntes || Files.size(delta) == 0) {
+				huboFusion = true;
+			}
+			if (ronda == 6) {
+				bitacora.fusionar();
+				assertEquals(0, Files.size(delta));
+			}
+			// Operaciones posteriores al guardado, que solo están en la bitácora
+			crud.create(vehiculo(0, "W" + ronda, ronda));
+			assertEquals(contenido(crud), contenido(recuperarTrasCaida()), "ronda " + ronda);
+		}
+		assertTrue(huboFusion, "los cambios acumulados se fusionan con la base");
+	}
+
+	@Test
+	void elPuntoControlDeUnaRecargaEsperaAlGuardadoEnCurso() throws Exception {
+		crud.create(new Camion("VIEJO", "Volvo", "FH", 1000, 10));
+		// El guardado preparado retiene el turno hasta que se ejecuta
+		Callable<String> guardado = bitacora.prepararGuardadoIncremental();
+
+		crud.setVehiculos(new Vehiculo[] { new Automovil("NUEVO1", "Mazda", "3", 1200, "Sedán") });
+		crud.create(new Automovil("NUEVO2", "Kia", "Rio", 1100, "Hatchback"));
+		assertEquals("Archivo guardado exitosamente.", guardado.call());
+		// Espera a que el punto de control pendiente libere el turno
+		bitacora.fusionar();
+
+		ImplementacionCRUD recuperado = recuperarTrasCaida();
+		assertEquals(2, recuperado.size());
+		assertNull(recuperado.read("VIEJO"));
+		assertNotNull(recuperado.read("NUEVO1"));
+		assertNotNull(recuperado.read("NUEVO2"));
+	}
+
+	@Test
+	void trasladarHaceDurableElAlmacenamientoNuevo() throws Exception {
+		crud.create(new Camion("VIEJO", "Volvo", "FH", 1000, 10));
+		ImplementacionCRUD carga = new ImplementacionCRUD(16);
+		carga.create(new Automovil("NUEVO1", "Mazda", "3", 1200, "Sedán"));
+
+		bitacora.trasladar(carga);
+		carga.create(new Automovil("NUEVO2", "Kia", "Rio", 1100, "Hatchback"));
+		// Las modificaciones del almacenamiento anterior ya no se registran
+		crud.create(new Camion("IGNORADO", "Volvo", "FH", 1000, 10));
+		bitacora.fusionar();
+
+		ImplementacionCRUD recuperado = recuperarTrasCaida();
+		assertEquals(2, recuperado.size());
+		assertNull(recuperado.read("VIEJO"));
+		assertNull(recuperado.read("IGNORADO"));
+		assertNotNull(recuperado.read("NUEVO2"));
+	}
+}
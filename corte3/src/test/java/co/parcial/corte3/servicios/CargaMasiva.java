@@ -0,0 +1,94 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mide la carga masiva en {@link ImplementacionCRUD}: crea vehículos en lotes
+ * con {@link ImplementacionCRUD#createAll} e informa el tiempo de cada millón,
+ * que debe mantenerse constante si la inserción es O(1) amortizada. Al final
+ * elimina vehículos al azar y mide su reinserción, que reutiliza las posiciones
+ * libres. No es una prueba: se ejecuta a mano con memoria suficiente para los
+ * índices.
+ *
+ * <pre>
+ * mvn test-compile
+ * java -Xmx5g -cp target/classes:target/test-classes co.parcial.corte3.servicios.CargaMasiva [cantidad]
+ * </pre>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class CargaMasiva {
+
+	private static final int TAMANO_LOTE = 100_000;
+	private static final int TRAMO = 1_000_000;
+	private static final int REINSERCIONES = 100_000;
+
+	private static final String[] MARCAS = { "Toyota", "Mazda", "Chevrolet", "Renault", "Kia", "Hyundai", "Ford",
+			"Nissan" };
+
+	public static void main(String[] args) {
+		int cantidad = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		Random aleatorio = new Random(7);
+		ImplementacionCRUD crud = new ImplementacionCRUD(16);
+		List<Vehiculo> lote = new ArrayList<>(TAMANO_LOTE);
+
+		long inicio = System.nanoTime();
+		long inicioTramo = inicio;
+		for (int i = 0; i < cantidad; i++) {
+			lote.add(generar(i, aleatorio));
+			if (lote.size() == TAMANO_LOTE || i == cantidad - 1) {
+				crud.createAll(lote);
+				lote.clear();
+			}
+			if ((i + 1) % TRAMO == 0 || i == cantidad - 1) {
+				long ahora = System.nanoTime();
+				System.out.printf("%,12d vehículos: tramo %,6d ms, acumulado %,7d ms, %,5d ns por vehículo%n", i + 1,
+						(ahora - inicioTramo) / 1_000_000, (ahora - inicio) / 1_000_000,
+						(ahora - inicio) / (i + 1));
+				inicioTramo = ahora;
+			}
+		}
+
+		List<String> placas = new ArrayList<>(REINSERCIONES);
+		List<Vehiculo> eliminados = new ArrayList<>(REINSERCIONES);
+		for (int i = 0; i < REINSERCIONES; i++) {
+			String placa = placa(aleatorio.nextInt(cantidad));
+			Vehiculo v = crud.read(placa);
+			if (v != null) {
+				placas.add(placa);
+				eliminados.add(v);
+			}
+		}
+		crud.deleteAll(placas);
+		long t0 = System.nanoTime();
+		crud.createAll(eliminados);
+		long t1 = System.nanoTime();
+		System.out.printf("Reinserción de %,d vehículos en posiciones libres: %,d ms, %,d ns por vehículo%n",
+				eliminados.size(), (t1 - t0) / 1_000_000, (t1 - t0) / Math.max(1, eliminados.size()));
+	}
+
+	private static String placa(int i) {
+		return "P" + i;
+	}
+
+	private static Vehiculo generar(int i, Random aleatorio) {
+		String marca = MARCAS[aleatorio.nextInt(MARCAS.length)];
+		String modelo = "M" + aleatorio.nextInt(200);
+		switch (i % 3) {
+		case 0:
+			return new Automovil(placa(i), marca, modelo, 1000 + aleatorio.nextInt(1000), "Sedán");
+		case 1:
+			return new Motocicleta(placa(i), marca, modelo, 150 + aleatorio.nextInt(100), 100 + aleatorio.nextInt(900));
+		default:
+			return new Camion(placa(i), marca, modelo, 5000 + aleatorio.nextInt(5000), aleatorio.nextInt(20000));
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package co.parcial.corte3.servicios;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Compara el tamaño y los tiempos de guardado y carga del formato binario de
+ * {@link ArchivoBinarioVehiculos} con los de la serialización de Java que
+ * usaban las versiones anteriores. No es una prueba: se ejecuta a mano.
+ *
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes co.parcial.corte3.servicios.ComparacionFormatos [cantidad]
+ * </pre>
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+public class ComparacionFormatos {
+
+	private static final int REPETICIONES = 5;
+
+	public static void main(String[] args) throws Exception {
+		int cantidad = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		Vehiculo[] flota = generar(cantidad);
+		Path directorio = Files.createTempDirectory("formatos");
+		Path java = directorio.resolve("java.bin");
+		Path binario = directorio.resolve("binario.bin");
+		ArchivoBinarioVehiculos formato = new ArchivoBinarioVehiculos();
+
+		long[] tiempos = new long[4];
+		for (int i = 0; i < REPETICIONES; i++) {
+			long t0 = System.nanoTime();
+			try (ObjectOutputStream out = new ObjectOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(java)))) {
+				out.writeObject(flota);
+			}
+			long t1 = System.nanoTime();
+			try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(java)))) {
+				in.readObject();
+			}
+			long t2 = System.nanoTime();
+			try (OutputStream out = Files.newOutputStream(binario)) {
+				formato.escribir(flota, out);
+			}
+			long t3 = System.nanoTime();
+			try (InputStream in = Files.newInputStream(binario)) {
+				formato.leer(in);
+			}
+			long t4 = System.nanoTime();
+			// La primera repetición calienta el compilador y no se cuenta
+			if (i > 0) {
+				tiempos[0] += t1 - t0;
+				tiempos[1] += t2 - t1;
+				tiempos[2] += t3 - t2;
+				tiempos[3] += t4 - t3;
+			}
+		}
+
+		int n = REPETICIONES - 1;
+		System.out.printf("%d vehículos%n", cantidad);
+		System.out.printf("Serialización de Java: %,d bytes, guardar %d ms, cargar %d ms%n", Files.size(java),
+				tiempos[0] / n / 1_000_000, tiempos[1] / n / 1_000_000);
+		System.out.printf("Formato binario:       %,d bytes, guardar %d ms, cargar %d ms%n", Files.size(binario),
+				tiempos[2] / n / 1_000_000, tiempos[3] / n / 1_000_000);
+
+		Files.delete(java);
+		Files.delete(binario);
+		Files.delete(directorio);
+	}
+
+	private static Vehiculo[] generar(int cantidad) throws IOException {
+		String[] marcas = { "Toyota", "Mazda", "Chevrolet", "Renault", "Kia", "Hyundai", "Ford", "Nissan" };
+		Random aleatorio = new Random(7);
+		Vehiculo[] flota = new Vehiculo[cantidad];
+		for (int i = 0; i < cantidad; i++) {
+			String placa = String.format("ABC%06d", i);
+			String marca = marcas[aleatorio.nextInt(marcas.length)];
+			String modelo = "M" + aleatorio.nextInt(200);
+			switch (i % 3) {
+			case 0:
+				flota[i] = new Automovil(placa, marca, modelo, 1000 + aleatorio.nextInt(1000),
+						aleatorio.nextBoolean() ? "Sedán" : "SUV");
+				break;
+			case 1:
+				flota[i] = new Motocicleta(placa, marca, modelo, 150 + aleatorio.nextInt(100),
+						100 + aleatorio.nextInt(900));
+				break;
+			default:
+				flota[i] = new Camion(placa, marca, modelo, 5000 + aleatorio.nextInt(5000), aleatorio.nextInt(20000));
+				break;
+			}
+		}
+		return flota;
+	}
+}
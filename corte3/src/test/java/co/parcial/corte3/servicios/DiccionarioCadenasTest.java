@@ -0,0 +1,46 @@
+package co.parcial.corte3.servicios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de {@link DiccionarioCadenas}.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class DiccionarioCadenasTest {
+
+	@Test
+	void unaCadenaSinReferenciasSeRetiraYSuCodigoSeReutiliza() {
+		DiccionarioCadenas diccionario = new DiccionarioCadenas();
+		int mazda = diccionario.codificar("Mazda");
+		assertEquals(mazda, diccionario.codificar("Mazda"));
+		int kia = diccionario.codificar("Kia");
+
+		diccionario.liberar(mazda);
+		assertEquals(mazda, diccionario.buscar("Mazda"));
+		diccionario.liberar(mazda);
+		assertEquals(DiccionarioCadenas.NULO, diccionario.buscar("Mazda"));
+		assertNull(diccionario.decodificar(mazda));
+		assertEquals(1, diccionario.tamano());
+
+		assertEquals(mazda, diccionario.codificar("Volvo"));
+		assertEquals("Kia", diccionario.decodificar(kia));
+		diccionario.liberar(DiccionarioCadenas.NULO);
+		assertEquals(2, diccionario.tamano());
+	}
+
+	@Test
+	void soltarDevuelveLaReferenciaDeInternar() {
+		DiccionarioCadenas diccionario = new DiccionarioCadenas();
+		String compartida = diccionario.internar(new String("Sedán"));
+		assertEquals(compartida, diccionario.internar(new String("Sedán")));
+		diccionario.soltar("Sedán");
+		diccionario.soltar("Sedán");
+		diccionario.soltar(null);
+		assertEquals(0, diccionario.tamano());
+	}
+}
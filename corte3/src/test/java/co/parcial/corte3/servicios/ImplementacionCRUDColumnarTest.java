@@ -0,0 +1,122 @@
+package co.parcial.corte3.servicios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de {@link ImplementacionCRUDColumnar} y de su tabla de placas,
+ * comparadas con {@link ImplementacionCRUDConcurrente}.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class ImplementacionCRUDColumnarTest {
+
+	private final ImplementacionCRUDConcurrente referencia = new ImplementacionCRUDConcurrente(16);
+	private final ImplementacionCRUDColumnar columnar = new ImplementacionCRUDColumnar(1);
+	private final Random aleatorio = new Random(3);
+
+	private String placa() {
+		String placa = "p" + aleatorio.nextInt(300);
+		return aleatorio.nextBoolean() ? placa.toUpperCase() : placa;
+	}
+
+	private Vehiculo generar(String placa) {
+		String marca = "Marca" + aleatorio.nextInt(6);
+		switch (aleatorio.nextInt(3)) {
+		case 0:
+			return new Automovil(placa, marca, "M", 1000, "Estilo" + aleatorio.nextInt(3));
+		case 1:
+			return new Motocicleta(placa, marca, "M", 150, 200);
+		default:
+			return new Camion(placa, marca, "M", 5000, 800);
+		}
+	}
+
+	private static TreeSet<String> contenido(CRUD crud) {
+		TreeSet<String> filas = new TreeSet<>();
+		for (Vehiculo v : crud) {
+			filas.add(v.getClass().getSimpleName() + " " + v);
+		}
+		return filas;
+	}
+
+	@Test
+	void lasOperacionesCoincidenConLaReferencia() {
+		for (int paso = 0; paso < 20000; paso++) {
+			String placa = placa();
+			switch (aleatorio.nextInt(3)) {
+			case 0: {
+				Vehiculo v = generar(placa);
+				assertEquals(referencia.create(v).contains("exitosamente"), columnar.create(v).contains("exitosamente"));
+				break;
+			}
+			case 1:
+				assertEquals(referencia.delete(placa), columnar.delete(placa));
+				break;
+			default: {
+				Vehiculo original = columnar.read(placa);
+				Vehiculo nuevo = generar(aleatorio.nextBoolean() ? placa : placa());
+				if (original != null) {
+					assertEquals(referencia.update(referencia.read(placa), nuevo), columnar.update(original, nuevo));
+				}
+				break;
+			}
+			}
+			assertEquals(referencia.size(), columnar.size());
+		}
+		assertEquals(contenido(referencia), contenido(columnar));
+		for (int i = 0; i < 300; i++) {
+			assertEquals(String.valueOf(referencia.read("P" + i)), String.valueOf(columnar.read("p" + i)));
+		}
+	}
+
+	@Test
+	void eliminarTodosDejaLaTablaVacia() {
+		for (int i = 0; i < 1000; i++) {
+			columnar.create(generar("x" + i));
+		}
+		for (int i = 999; i >= 0; i -= 2) {
+			columnar.delete("X" + i);
+		}
+		for (int i = 0; i < 1000; i += 2) {
+			assertEquals("x" + i, columnar.read("X" + i).getPlaca());
+			columnar.delete("x" + i);
+		}
+		assertEquals(0, columnar.size());
+		assertNull(columnar.read("x0"));
+	}
+
+	@Test
+	void losLotesCoincidenConLaReferencia() {
+		List<Vehiculo> nuevos = new ArrayList<>();
+		List<String> placas = new ArrayList<>();
+		for (int i = 0; i < 600; i++) {
+			String placa = placa();
+			nuevos.add(generar(placa));
+			placas.add(placa());
+		}
+		assertEquals(referencia.createAll(nuevos).getExitosos(), columnar.createAll(nuevos).getExitosos());
+		List<Vehiculo> actualizados = new ArrayList<>();
+		for (String placa : placas) {
+			actualizados.add(generar(placa));
+		}
+		assertEquals(referencia.updateAll(actualizados).getExitosos(),
+				columnar.updateAll(actualizados).getExitosos());
+		assertEquals(contenido(referencia), contenido(columnar));
+		assertEquals(referencia.deleteAll(placas).getExitosos(), columnar.deleteAll(placas).getExitosos());
+		assertEquals(contenido(referencia), contenido(columnar));
+	}
+}
@@ -0,0 +1,199 @@
+package co.parcial.corte3.servicios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de estrés de {@link ImplementacionCRUDConcurrente} con varios hilos
+ * escribiendo y leyendo la misma flota.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class ImplementacionCRUDConcurrenteTest {
+
+	private static final int HILOS = 8;
+	private static final int PLACAS = 20000;
+
+	private ImplementacionCRUDConcurrente crud;
+	private ExecutorService hilos;
+
+	@BeforeEach
+	void preparar() {
+		crud = new ImplementacionCRUDConcurrente(PLACAS);
+		hilos = Executors.newFixedThreadPool(HILOS);
+	}
+
+	@AfterEach
+	void cerrar() throws InterruptedException {
+		hilos.shutdownNow();
+		assertTrue(hilos.awaitTermination(10, TimeUnit.SECONDS));
+	}
+
+	private static Vehiculo camion(String placa, double peso) {
+		return new Camion(placa, "Volvo", "FH", peso, 1000);
+	}
+
+	/**
+	 * Ejecuta la misma tarea en todos los hilos a la vez y suma sus resultados.
+	 */
+	private int enTodosLosHilos(Callable<Integer> tarea) throws Exception {
+		CountDownLatch salida = new CountDownLatch(1);
+		List<Future<Integer>> resultados = new ArrayList<>();
+		for (int i = 0; i < HILOS; i++) {
+			resultados.add(hilos.submit(() -> {
+				salida.await();
+				return tarea.call();
+			}));
+		}
+		salida.countDown();
+		int total = 0;
+		for (Future<Integer> resultado : resultados) {
+			total += resultado.get(60, TimeUnit.SECONDS);
+		}
+		return total;
+	}
+
+	@Test
+	void cadaPlacaSeCreaYSeEliminaUnaSolaVez() throws Exception {
+		int creados = enTodosLosHilos(() -> {
+			int exitos = 0;
+			for (int i = 0; i < PLACAS; i++) {
+				if (crud.create(camion("P" + i, i)).contains("exitosamente")) {
+					exitos++;
+				}
+			}
+			return exitos;
+		});
+		assertEquals(PLACAS, creados);
+		assertEquals(PLACAS, crud.size());
+
+		int eliminados = enTodosLosHilos(() -> {
+			int exitos = 0;
+			for (int i = 0; i < PLACAS; i++) {
+				if (crud.delete("p" + i).contains("exitosamente")) {
+					exitos++;
+				}
+			}
+			return exitos;
+		});
+		assertEquals(PLACAS, eliminados);
+		assertEquals(0, crud.size());
+		assertEquals(0, crud.readAll().length);
+	}
+
+	@Test
+	void losLotesInformanSoloLasEscriturasRealizadas() throws Exception {
+		List<Vehiculo> nuevos = new ArrayList<>();
+		List<String> placas = new ArrayList<>();
+		for (int i = 0; i < PLACAS; i++) {
+			nuevos.add(camion("L" + i, i));
+			placas.add("l" + i);
+		}
+
+		assertEquals(PLACAS, enTodosLosHilos(() -> crud.createAll(nuevos).getExitosos()));
+		assertEquals(PLACAS, enTodosLosHilos(() -> crud.updateAll(nuevos).getExitosos()) / HILOS);
+		assertEquals(PLACAS, enTodosLosHilos(() -> crud.deleteAll(placas).getExitosos()));
+		assertEquals(0, crud.size());
+	}
+
+	@Test
+	void losCambiosDePlacaNoPierdenNiDuplicanVehiculos() throws Exception {
+		int porHilo = 500;
+		for (int i = 0; i < HILOS * porHilo; i++) {
+			crud.create(camion("A" + i, i));
+		}
+		AtomicInteger siguienteHilo = new AtomicInteger();
+		AtomicBoolean terminado = new AtomicBoolean();
+		AtomicInteger sinPlaca = new AtomicInteger();
+		AtomicInteger dosPlacas = new AtomicInteger();
+		AtomicInteger tamanoInvalido = new AtomicInteger();
+
+		// Lectores sin candado mientras se renombra. Cada cambio de placa tiene
+		// efecto en un solo instante: si la anterior ya no está, la nueva debe
+		// encontrarse, y si la nueva ya está, la anterior no. Los recorridos
+		// nunca cuentan un vehículo dos veces ni lo omiten
+		ExecutorService lectura = Executors.newSingleThreadExecutor();
+		Future<?> lector = lectura.submit(() -> {
+			int vuelta = 0;
+			while (!terminado.get()) {
+				for (int i = 0; i < HILOS * porHilo; i += 97) {
+					if (crud.read("A" + i) == null && crud.read("B" + i) == null) {
+						sinPlaca.incrementAndGet();
+					}
+					if (crud.read("B" + i) != null && crud.read("A" + i) != null) {
+						dosPlacas.incrementAndGet();
+					}
+				}
+				if (crud.size() != HILOS * porHilo
+						|| (vuelta++ % 16 == 0 && crud.readAll().length != HILOS * porHilo)) {
+					tamanoInvalido.incrementAndGet();
+				}
+			}
+		});
+
+		enTodosLosHilos(() -> {
+			int hilo = siguienteHilo.getAndIncrement();
+			int renombrados = 0;
+			for (int i = hilo * porHilo; i < (hilo + 1) * porHilo; i++) {
+				Vehiculo original = crud.read("A" + i);
+				if (crud.update(original, camion("B" + i, i)).contains("exitosamente")) {
+					renombrados++;
+				}
+			}
+			return renombrados;
+		});
+		terminado.set(true);
+		lector.get(60, TimeUnit.SECONDS);
+		lectura.shutdown();
+
+		assertEquals(0, sinPlaca.get());
+		assertEquals(0, dosPlacas.get());
+		assertEquals(0, tamanoInvalido.get());
+		assertEquals(HILOS * porHilo, crud.size());
+		Set<String> placas = new HashSet<>();
+		for (Vehiculo v : crud) {
+			placas.add(v.getPlaca());
+		}
+		assertEquals(HILOS * porHilo, placas.size());
+		for (int i = 0; i < HILOS * porHilo; i++) {
+			assertNotNull(crud.read("B" + i));
+		}
+	}
+
+	@Test
+	void dosCambiosHaciaLaMismaPlacaSoloAceptanUno() throws Exception {
+		for (int i = 0; i < HILOS; i++) {
+			crud.create(camion("O" + i, i));
+		}
+		AtomicInteger siguienteHilo = new AtomicInteger();
+		int aceptados = enTodosLosHilos(() -> {
+			int hilo = siguienteHilo.getAndIncrement();
+			return crud.update(crud.read("O" + hilo), camion("DESTINO", hilo)).contains("exitosamente") ? 1 : 0;
+		});
+		assertEquals(1, aceptados);
+		assertEquals(HILOS, crud.size());
+		assertEquals(HILOS, crud.readAll().length);
+	}
+}
@@ -0,0 +1,189 @@
+package co.parcial.corte3.servicios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Pruebas de la recuperación de {@link ImplementacionCRUDMapeada} cuando el
+ * proceso termina a mitad de una eliminación o de una actualización. Cada
+ * prueba deja el archivo en
+ * uno de los estados intermedios posibles, como si el proceso hubiera
+ * terminado sin cerrarlo, y lo vuelve a abrir.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class ImplementacionCRUDMapeadaTest {
+
+	private static final int CANTIDAD = 10;
+	private static final int FILA = 3;
+
+	@TempDir
+	Path directorio;
+
+	private String ruta;
+
+	@BeforeEach
+	void preparar() throws IOException {
+		ruta = directorio.toString() + "/";
+		try (ImplementacionCRUDMapeada crud = new ImplementacionCRUDMapeada(ruta, "flota.map", 16)) {
+			for (int i = 0; i < CANTIDAD; i++) {
+				crud.create(new Camion("C" + i, "Volvo", "FH", 1000 + i, i));
+			}
+		}
+	}
+
+	/**
+	 * Modifica el archivo cerrado: marca el cierre como no limpio y deja la
+	 * actualización de {@code C3} por {@code nuevo} interrumpida tras copiar
+	 * {@code bytesCopiados} bytes desde la reserva.
+	 */
+	private void interrumpirActualizacion(Vehiculo nuevo, int bytesCopiados) throws IOException {
+		try (FileChannel canal = FileChannel.open(directorio.resolve("flota.map"), StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			MappedByteBuffer archivo = canal.map(MapMode.READ_WRITE, 0, canal.size());
+			int destino = ImplementacionCRUDMapeada.TAMANO_ENCABEZADO + FILA * FormatoRegistro.TAMANO;
+			FormatoRegistro.escribir(archivo, ImplementacionCRUDMapeada.RESERVA, nuevo);
+			archivo.put(ImplementacionCRUDMapeada.OPERACION, ImplementacionCRUDMapeada.ACTUALIZACION);
+			archivo.putInt(ImplementacionCRUDMapeada.EN_CURSO, FILA + 1);
+			if (bytesCopiados > 0) {
+				archivo.put(destino + 16, FormatoRegistro.EN_MOVIMIENTO);
+			}
+			for (int i = 0; i < bytesCopiados; i++) {
+				if (i != 16) {
+					archivo.put(destino + i, archivo.get(ImplementacionCRUDMapeada.RESERVA + i));
+				}
+			}
+			archivo.put(ImplementacionCRUDMapeada.LIMPIO, (byte) 0);
+			archivo.force();
+		}
+	}
+
+	/**
+	 * Modifica el archivo cerrado: marca el cierre como no limpio y deja los
+	 * registros como los dejaría la eliminación de {@code C3} interrumpida tras
+	 * copiar {@code bytesCopiados} bytes del último registro.
+	 */
+	private void interrumpirEliminacion(int bytesCopiados, boolean marcar, int cantidad) throws IOException {
+		try (FileChannel canal = FileChannel.open(directorio.resolve("flota.map"), StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			MappedByteBuffer archivo = canal.map(MapMode.READ_WRITE, 0, canal.size());
+			int destino = ImplementacionCRUDMapeada.TAMANO_ENCABEZADO + FILA * FormatoRegistro.TAMANO;
+			int origen = ImplementacionCRUDMapeada.TAMANO_ENCABEZADO + (CANTIDAD - 1) * FormatoRegistro.TAMANO;
+			for (int i = 0; i < bytesCopiados; i++) {
+				archivo.put(destino + i, archivo.get(origen + i));
+			}
+			if (marcar) {
+				// Etiqueta de tipo del registro
+				archivo.put(destino + 16, FormatoRegistro.EN_MOVIMIENTO);
+			}
+			archivo.put(ImplementacionCRUDMapeada.OPERACION, ImplementacionCRUDMapeada.ELIMINACION);
+			archivo.putInt(ImplementacionCRUDMapeada.EN_CURSO, FILA + 1);
+			archivo.put(ImplementacionCRUDMapeada.LIMPIO, (byte) 0);
+			archivo.putInt(ImplementacionCRUDMapeada.CANTIDAD, cantidad);
+			archivo.force();
+		}
+	}
+
+	private void verificarEliminado() throws IOException {
+		try (ImplementacionCRUDMapeada crud = new ImplementacionCRUDMapeada(ruta, "flota.map")) {
+			assertEquals(CANTIDAD - 1, crud.size());
+			assertNull(crud.read("C" + FILA));
+			Set<String> placas = new HashSet<>();
+			for (int i = 0; i < crud.size(); i++) {
+				placas.add(crud.readPage(i, 1)[0].getPlaca());
+			}
+			assertEquals(CANTIDAD - 1, placas.size());
+			assertEquals(1000 + CANTIDAD - 1, crud.read("C" + (CANTIDAD - 1)).getPeso());
+		}
+	}
+
+	@Test
+	void unaCopiaAMediasSeRepite() throws IOException {
+		interrumpirEliminacion(40, true, CANTIDAD);
+		verificarEliminado();
+	}
+
+	@Test
+	void unaCopiaSinEmpezarSeCompleta() throws IOException {
+		interrumpirEliminacion(0, true, CANTIDAD);
+		verificarEliminado();
+	}
+
+	@Test
+	void unDuplicadoSinDescontarSeDescarta() throws IOException {
+		interrumpirEliminacion(FormatoRegistro.TAMANO, false, CANTIDAD);
+		verificarEliminado();
+	}
+
+	@Test
+	void unaEliminacionTerminadaNoCambia() throws IOException {
+		interrumpirEliminacion(FormatoRegistro.TAMANO, false, CANTIDAD - 1);
+		verificarEliminado();
+	}
+
+	@Test
+	void unArchivoSinEliminacionesPendientesConservaTodo() throws IOException {
+		interrumpirEliminacion(0, false, CANTIDAD);
+		try (ImplementacionCRUDMapeada crud = new ImplementacionCRUDMapeada(ruta, "flota.map")) {
+			assertEquals(CANTIDAD, crud.size());
+			assertEquals("C" + FILA, crud.read("C" + FILA).getPlaca());
+		}
+	}
+
+	@Test
+	void unaActualizacionAMediasSeRepiteDesdeLaReserva() throws IOException {
+		interrumpirActualizacion(new Camion("C" + FILA, "Scania", "R", 7000, 70), 60);
+		try (ImplementacionCRUDMapeada crud = new ImplementacionCRUDMapeada(ruta, "flota.map")) {
+			assertEquals(CANTIDAD, crud.size());
+			Vehiculo v = crud.read("C" + FILA);
+			assertEquals("Scania", v.getMarca());
+			assertEquals(7000, v.getPeso());
+		}
+	}
+
+	@Test
+	void unCambioDePlacaAMediasSeCompleta() throws IOException {
+		interrumpirActualizacion(new Camion("NUEVA", "Scania", "R", 7000, 70), FormatoRegistro.TAMANO - 8);
+		try (ImplementacionCRUDMapeada crud = new ImplementacionCRUDMapeada(ruta, "flota.map")) {
+			assertEquals(CANTIDAD, crud.size());
+			assertNull(crud.read("C" + FILA));
+			assertEquals("Scania", crud.read("NUEVA").getMarca());
+		}
+	}
+
+	@Test
+	void lasOperacionesTerminadasNoDejanNadaPendiente() throws IOException {
+		try (ImplementacionCRUDMapeada crud = new ImplementacionCRUDMapeada(ruta, "flota.map")) {
+			crud.update(crud.read("C1"), new Camion("R1", "Scania", "R", 7000, 70));
+			crud.delete("C2");
+			crud.update(crud.read("C4"), new Camion("C4", "MAN", "TGX", 8000, 80));
+			// Sin cerrar: la reapertura no debe repetir ninguna de las operaciones
+			crud.sincronizar();
+			try (ImplementacionCRUDMapeada otro = new ImplementacionCRUDMapeada(ruta, "flota.map")) {
+				assertEquals(CANTIDAD - 1, otro.size());
+				assertNull(otro.read("C1"));
+				assertNull(otro.read("C2"));
+				assertEquals("Scania", otro.read("R1").getMarca());
+				assertEquals("MAN", otro.read("C4").getMarca());
+				assertEquals(1000 + CANTIDAD - 1, otro.read("C" + (CANTIDAD - 1)).getPeso());
+			}
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package co.parcial.corte3.servicios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de {@link ImplementacionCRUD}.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class ImplementacionCRUDTest {
+
+	private final ImplementacionCRUD crud = new ImplementacionCRUD(16);
+
+	@Test
+	void elDiccionarioRetiraLasCadenasQueNadieUsa() {
+		for (int i = 0; i < 500; i++) {
+			crud.create(new Automovil("A" + i, "Marca" + i, "Modelo", 1000, "Sedán"));
+		}
+		assertEquals(502, crud.tamanoDiccionario());
+
+		for (int i = 0; i < 250; i++) {
+			crud.delete("A" + i);
+		}
+		assertEquals(252, crud.tamanoDiccionario());
+
+		Vehiculo original = crud.read("A499");
+		crud.update(original, new Automovil("A499", "Mazda", "Modelo", 1000, "Coupé"));
+		// Marca499 se retira y entran Mazda y Coupé
+		assertEquals(253, crud.tamanoDiccionario());
+
+		for (int i = 250; i < 500; i++) {
+			crud.delete("A" + i);
+		}
+		assertEquals(0, crud.tamanoDiccionario());
+	}
+
+	@Test
+	void lasCadenasIgualesSiguenCompartidas() {
+		crud.create(new Automovil("B1", new String("Kia"), "Rio", 1000, null));
+		crud.delete("B1");
+		crud.create(new Automovil("B2", new String("Kia"), "Rio", 1000, null));
+		crud.create(new Automovil("B3", new String("Kia"), "Rio", 1000, null));
+
+		assertSame(crud.read("B2").getMarca(), crud.read("B3").getMarca());
+	}
+
+	@Test
+	void compartirLasCadenasNoCambiaLosValoresDelLlamador() {
+		Automovil propio = new Automovil("B4", new String("Kia"), new String("Rio"), 1000, new String("Sedán"));
+		crud.create(new Automovil("B5", "Kia", "Rio", 1000, "Sedán"));
+		crud.create(propio);
+
+		assertEquals("Kia", propio.getMarca());
+		assertEquals("Rio", propio.getModelo());
+		assertEquals("Sedán", propio.getEstilo());
+		// El objeto almacenado es el del llamador, con las cadenas compartidas
+		assertSame(propio, crud.read("B4"));
+		assertSame(crud.read("B5").getMarca(), propio.getMarca());
+	}
+
+	@Test
+	void elTipoVehiculoSeleccionaSoloLaClaseExacta() {
+		crud.create(new Vehiculo("V1", "Kia", "Rio", 900));
+		crud.create(new Automovil("A1", "Kia", "Rio", 1000, "Sedán"));
+		crud.create(new Camion("C1", "Volvo", "FH", 9000, 100));
+
+		Vehiculo[] genericos = crud.consultar(ConsultaVehiculos.parse("tipo = Vehiculo"));
+		assertEquals(1, genericos.length);
+		assertEquals("V1", genericos[0].getPlaca());
+		assertEquals(2, crud.consultar(ConsultaVehiculos.parse("tipo != vehículo")).length);
+	}
+
+	@Test
+	void lasSugerenciasRechazanUnLimiteNegativo() {
+		crud.create(new Automovil("H1", "Honda", "Civic", 1200, "Sedán"));
+
+		assertEquals("HONDA", crud.sugerirMarcas("hnda", 1).get(0));
+		assertEquals(0, crud.sugerirMarcas("hnda", 0).size());
+		assertThrows(IllegalArgumentException.class, () -> crud.sugerirMarcas("hnda", -1));
+		assertThrows(IllegalArgumentException.class, () -> crud.sugerirModelos("civc", -1));
+		assertThrows(IllegalArgumentException.class, () -> crud.readByMarcaAproximada("hnda", -1));
+		assertThrows(IllegalArgumentException.class, () -> crud.readByModeloAproximado("civc", -1));
+	}
+}
@@ -0,0 +1,34 @@
+package co.parcial.corte3.servicios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import co.parcial.corte3.modelo.Vehiculo;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de {@link IndiceRango}.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class IndiceRangoTest {
+
+	@Test
+	void losDosCerosSonElMismoValor() {
+		IndiceRango indice = new IndiceRango();
+		Vehiculo negativo = new Vehiculo("NEG000", "Kia", "Rio", -0.0);
+		Vehiculo positivo = new Vehiculo("POS000", "Kia", "Rio", 0.0);
+		indice.agregar(-0.0, negativo);
+		indice.agregar(0.0, positivo);
+
+		assertEquals(2, indice.buscar(0.0, 0.0).length);
+		assertEquals(2, indice.buscar(-0.0, -0.0).length);
+		assertEquals(0, indice.buscar(-1, false, -0.0, false).length);
+
+		indice.quitar(0.0, negativo);
+		indice.quitar(-0.0, positivo);
+		assertEquals(0, indice.buscar(-1, 1).length);
+		assertEquals(Double.NaN, indice.minimo());
+	}
+}
@@ -0,0 +1,128 @@
+package co.parcial.corte3.servicios;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.parcial.corte3.modelo.Automovil;
+import co.parcial.corte3.modelo.Camion;
+import co.parcial.corte3.modelo.Motocicleta;
+import co.parcial.corte3.modelo.Vehiculo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de {@link MotorConsultaParalela}, comparadas con un recorrido
+ * secuencial del almacenamiento con flotas por debajo y por encima del umbral
+ * de paralelismo.
+ *
+ * @author García Figueroa Daniel Santiago
+ * @since 18/10/2026
+ */
+class MotorConsultaParalelaTest {
+
+	private static final int UMBRAL = 64;
+
+	private final ForkJoinPool pool = new ForkJoinPool(4);
+	private final ImplementacionCRUD crud = new ImplementacionCRUD(16);
+	private final MotorConsultaParalela motor = new MotorConsultaParalela(crud, pool, UMBRAL);
+	private final Random aleatorio = new Random(13);
+
+	@AfterEach
+	void cerrar() {
+		pool.shutdownNow();
+	}
+
+	/**
+	 * Crea {@code cantidad} vehículos y elimina algunos para dejar lápidas en el
+	 * almacenamiento.
+	 */
+	private void llenar(int cantidad) {
+		for (int i = 0; i < cantidad; i++) {
+			String placa = "P" + i;
+			String marca = aleatorio.nextBoolean() ? "Mazda" : "Volvo";
+			int peso = aleatorio.nextInt(5000);
+			switch (aleatorio.nextInt(3)) {
+			case 0:
+				crud.create(new Automovil(placa, marca, "M", peso, "Sedán"));
+				break;
+			case 1:
+				crud.create(new Motocicleta(placa, marca, "M", peso, aleatorio.nextInt(900)));
+				break;
+			default:
+				crud.create(new Camion(placa, marca, "M", peso, aleatorio.nextInt(900)));
+			}
+		}
+		for (int i = 0; i < cantidad; i += 7) {
+			crud.delete("P" + i);
+		}
+	}
+
+	private Vehiculo[] secuencial(Predicate<Vehiculo> condicion) {
+		List<Vehiculo> resultado = new ArrayList<>();
+		crud.forEach(v -> {
+			if (condicion.test(v)) {
+				resultado.add(v);
+			}
+		});
+		return resultado.toArray(new Vehiculo[0]);
+	}
+
+	private void compararConSecuencial() {
+		Predicate<Vehiculo> condicion = v -> v.getMarca().equals("Mazda") && v.getPeso() > 1500;
+		Vehiculo[] esperados = secuencial(condicion);
+
+		assertArrayEquals(esperados, motor.filtrar(condicion));
+		assertEquals(esperados.length, motor.contar(condicion));
+
+		List<String> placas = new ArrayList<>();
+		for (Vehiculo v : esperados) {
+			placas.add(v.getPlaca());
+		}
+		assertEquals(placas, motor.proyectar(condicion, Vehiculo::getPlaca));
+
+		long conteo = 0;
+		double suma = 0;
+		double minimo = Double.POSITIVE_INFINITY;
+		double maximo = Double.NEGATIVE_INFINITY;
+		for (Vehiculo v : esperados) {
+			conteo++;
+			suma += v.getPeso();
+			minimo = Math.min(minimo, v.getPeso());
+			maximo = Math.max(maximo, v.getPeso());
+		}
+		ResumenAgregado resumen = motor.agregar(condicion, Vehiculo::getPeso);
+		assertEquals(conteo, resumen.getConteo());
+		assertEquals(suma, resumen.getSuma());
+		assertEquals(minimo, resumen.getMinimo());
+		assertEquals(maximo, resumen.getMaximo());
+	}
+
+	@Test
+	void unaFlotaBajoElUmbralCoincideConElRecorridoSecuencial() {
+		llenar(UMBRAL / 2);
+		compararConSecuencial();
+	}
+
+	@Test
+	void unaFlotaSobreElUmbralCoincideConElRecorridoSecuencial() {
+		llenar(UMBRAL * 80);
+		compararConSecuencial();
+	}
+
+	@Test
+	void lasConsultasSinIndiceDelCrudUsanElMotor() {
+		llenar(MotorConsultaParalela.UMBRAL_POR_DEFECTO * 2);
+		ConsultaVehiculos consulta = ConsultaVehiculos.parse("marca != Volvo");
+		Vehiculo[] esperados = secuencial(v -> !v.getMarca().equalsIgnoreCase("Volvo"));
+		assertTrue(crud.explicar(consulta).contains("recorrido completo"));
+		assertArrayEquals(esperados, crud.consultar(consulta));
+	}
+}